@@ -0,0 +1,21 @@
+package backend.academy.scrapper.checkupdate.breaker;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/** Actuator-эндпоинт {@code /actuator/circuitbreakers} с состоянием предохранителей проверок ссылок. */
+@Component
+@Endpoint(id = "circuitbreakers")
+@RequiredArgsConstructor
+public class CircuitBreakerEndpoint {
+
+    private final CircuitBreakerRegistry registry;
+
+    @ReadOperation
+    public Map<String, UpstreamCircuitBreaker.Snapshot> breakers() {
+        return registry.snapshot();
+    }
+}
@@ -0,0 +1,169 @@
+package backend.academy.scrapper.checkupdate.breaker;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.impl.GitHubLink;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Предохранители проверок ссылок, по одному на внешний API и вид запроса: {@code STACKOVERFLOW}, {@code GITHUB:REPO},
+ * {@code GITHUB:PR}, {@code GITHUB:ISSUE}.
+ *
+ * <p>Пока предохранитель разомкнут, {@link #acquire(String)} бросает {@link CheckDeferredException}, и ссылка
+ * возвращается в очередь на проверку без сетевого запроса. Отказом считаются только таймауты, ошибки соединения и
+ * ответы 5xx; ответ 4xx означает, что API доступен.
+ */
+@Slf4j
+@Component
+public class CircuitBreakerRegistry {
+
+    private static final String STATE_METRIC = "scrapper.circuit-breaker.state";
+
+    private final Map<String, UpstreamCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ScrapperConfig.CircuitBreaker config;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public CircuitBreakerRegistry(ScrapperConfig scrapperConfig, MeterRegistry meterRegistry) {
+        this(scrapperConfig.circuitBreaker(), meterRegistry, Clock.systemUTC());
+    }
+
+    public CircuitBreakerRegistry(ScrapperConfig.CircuitBreaker config, MeterRegistry meterRegistry, Clock clock) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Возвращает ключ предохранителя для ссылки.
+     *
+     * @param link ссылка
+     * @return тип ссылки, для GitHub дополненный типом события
+     */
+    public String keyOf(Link link) {
+        if (link instanceof GitHubLink gitHubLink && gitHubLink.eventType() != null) {
+            return link.getType() + ":" + gitHubLink.eventType();
+        }
+        return String.valueOf(link.getType());
+    }
+
+    /**
+     * Запрашивает разрешение на обращение к внешнему API.
+     *
+     * @param key ключ предохранителя
+     * @throws CheckDeferredException если предохранитель разомкнут или пробный запрос уже выполняется
+     */
+    public void acquire(String key) {
+        Optional<Instant> rejectedUntil = breaker(key).tryAcquire(clock.instant());
+        if (rejectedUntil.isPresent()) {
+            throw new CheckDeferredException("Внешний API временно недоступен", key, rejectedUntil.get());
+        }
+    }
+
+    /**
+     * Учитывает исход запроса, разрешённого через {@link #acquire(String)}.
+     *
+     * @param key ключ предохранителя
+     * @param error ошибка запроса или null, если он выполнен успешно
+     */
+    public void record(String key, Throwable error) {
+        UpstreamCircuitBreaker breaker = breaker(key);
+        if (error == null) {
+            breaker.onSuccess();
+        } else if (hasCause(error, CheckDeferredException.class)) {
+            breaker.onIgnored();
+        } else if (!isUpstreamFailure(error)) {
+            breaker.onSuccess();
+        } else {
+            UpstreamCircuitBreaker.State before = breaker.state();
+            breaker.onFailure(clock.instant());
+            if (before != UpstreamCircuitBreaker.State.OPEN && breaker.state() == UpstreamCircuitBreaker.State.OPEN) {
+                log.warn("Circuit breaker {} opened for {} ms: {}", key, config.openMs(), error.toString());
+            }
+        }
+    }
+
+    /**
+     * Освобождает разрешение, если запрос был отменён до получения ответа.
+     *
+     * @param key ключ предохранителя
+     */
+    public void release(String key) {
+        breaker(key).onIgnored();
+    }
+
+    /**
+     * Возвращает снимок состояния всех созданных предохранителей.
+     *
+     * @return состояние предохранителей по ключу
+     */
+    public Map<String, UpstreamCircuitBreaker.Snapshot> snapshot() {
+        Map<String, UpstreamCircuitBreaker.Snapshot> result = new TreeMap<>();
+        breakers.forEach((key, breaker) -> result.put(key, breaker.snapshot()));
+        return result;
+    }
+
+    private UpstreamCircuitBreaker breaker(String key) {
+        return breakers.computeIfAbsent(key, k -> {
+            UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(
+                    config.failureThreshold(), Duration.ofMillis(config.openMs()), config.halfOpenProbes());
+            Gauge.builder(STATE_METRIC, breaker, b -> gaugeValue(b.state()))
+                    .description("Состояние предохранителя: 0 — замкнут, 1 — разомкнут, 2 — полуоткрыт")
+                    .tag("breaker", k)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private static int gaugeValue(UpstreamCircuitBreaker.State state) {
+        return switch (state) {
+            case CLOSED -> 0;
+            case OPEN -> 1;
+            case HALF_OPEN -> 2;
+        };
+    }
+
+    private static boolean isUpstreamFailure(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof ResourceAccessException
+                    || e instanceof HttpServerErrorException
+                    || e instanceof WebClientRequestException
+                    || e instanceof TimeoutException
+                    || e instanceof IOException) {
+                return true;
+            }
+            if (e instanceof WebClientResponseException response) {
+                return response.getStatusCode().is5xxServerError();
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package backend.academy.scrapper.checkupdate.breaker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Автомат состояний одного предохранителя.
+ *
+ * <p>В состоянии {@link State#CLOSED} запросы проходят, подряд идущие отказы считаются. После {@code failureThreshold}
+ * отказов предохранитель переходит в {@link State#OPEN} и на {@code openDuration} отклоняет запросы без обращения к
+ * сети. Затем он переходит в {@link State#HALF_OPEN} и пропускает не больше {@code halfOpenProbes} пробных запросов:
+ * если все они успешны, предохранитель закрывается, любой отказ снова его размыкает. Все методы синхронизированы на
+ * экземпляре.
+ */
+public class UpstreamCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public UpstreamCircuitBreaker(int failureThreshold, Duration openDuration, int halfOpenProbes) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * Пытается получить разрешение на запрос.
+     *
+     * @param now текущий момент
+     * @return пустой результат, если запрос можно отправить, иначе момент, до которого проверку стоит отложить
+     */
+    public synchronized Optional<Instant> tryAcquire(Instant now) {
+        if (state == State.OPEN) {
+            if (now.isBefore(openUntil)) {
+                return Optional.of(openUntil);
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                return Optional.of(now.plus(openDuration));
+            }
+            probesInFlight++;
+        }
+        return Optional.empty();
+    }
+
+    /** Учитывает ответ внешнего API, в том числе ошибку клиента: сервер доступен. */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            probeSuccesses++;
+            if (probeSuccesses >= halfOpenProbes) {
+                state = State.CLOSED;
+                consecutiveFailures = 0;
+            }
+            return;
+        }
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * Учитывает отказ внешнего API: таймаут, ошибку соединения или ответ 5xx.
+     *
+     * @param now текущий момент
+     */
+    public synchronized void onFailure(Instant now) {
+        if (state == State.HALF_OPEN) {
+            open(now);
+            return;
+        }
+        if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open(now);
+        }
+    }
+
+    /** Освобождает пробный запрос, исход которого ничего не говорит о доступности API (например, он отложен). */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(state, consecutiveFailures, state == State.OPEN ? openUntil : null);
+    }
+
+    private void open(Instant now) {
+        state = State.OPEN;
+        openUntil = now.plus(openDuration);
+        probesInFlight = 0;
+        probeSuccesses = 0;
+    }
+
+    /**
+     * Состояние предохранителя для actuator.
+     *
+     * @param state текущее состояние
+     * @param consecutiveFailures число отказов подряд
+     * @param openUntil момент перехода в полуоткрытое состояние, если предохранитель разомкнут
+     */
+    public record Snapshot(State state, int consecutiveFailures, Instant openUntil) {}
+}
@@ -3,6 +3,8 @@ package backend.academy.scrapper.checkupdate.handler;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.LinkType;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Интерфейс для обработчиков, отвечающих за получение деталей обновления для ссылок конкретного типа
@@ -26,4 +28,16 @@ public interface LinkUpdateHandler<T extends Link> {
      * @return объект {@link UpdateDetail} с данными о времени и характере обновления
      */
     UpdateDetail fetchUpdateDetail(T link);
+
+    /**
+     * Заранее получает детали обновления для нескольких ссылок одним пакетом. По умолчанию пакетная загрузка не
+     * поддерживается и возвращается пустой результат — тогда каждая ссылка обрабатывается через
+     * {@link #fetchUpdateDetail(Link)}.
+     *
+     * @param links ссылки пакета
+     * @return детали обновления по идентификатору ссылки
+     */
+    default Map<Long, UpdateDetail> prefetchUpdateDetails(List<T> links) {
+        return Map.of();
+    }
 }
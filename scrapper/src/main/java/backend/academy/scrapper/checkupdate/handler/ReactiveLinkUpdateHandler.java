@@ -0,0 +1,30 @@
+package backend.academy.scrapper.checkupdate.handler;
+
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
+import reactor.core.publisher.Mono;
+
+/**
+ * Неблокирующий аналог {@link LinkUpdateHandler}: получает детали обновления для ссылок конкретного типа
+ * ({@link LinkType}) без блокировки вызывающего потока.
+ *
+ * @param <T> конкретный подкласс {@link Link}, который поддерживает этот хендлер
+ */
+public interface ReactiveLinkUpdateHandler<T extends Link> {
+
+    /**
+     * Возвращает тип ссылок, которые обрабатывает данный хендлер.
+     *
+     * @return значение {@link LinkType}
+     */
+    LinkType getSupportedType();
+
+    /**
+     * Получает информацию о последнем обновлении для переданной ссылки.
+     *
+     * @param link сущность {@code T}, для которой запрашиваются детали обновления
+     * @return {@link Mono} с данными о времени и характере обновления
+     */
+    Mono<UpdateDetail> fetchUpdateDetail(T link);
+}
@@ -3,9 +3,14 @@ package backend.academy.scrapper.checkupdate.handler.impl;
 import backend.academy.scrapper.checkupdate.handler.LinkUpdateHandler;
 import backend.academy.scrapper.checkupdate.worker.github.GitHubUpdateService;
 import backend.academy.scrapper.converter.base.impl.GitHubLinkRequestConverter;
+import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.LinkType;
 import backend.academy.scrapper.model.db.link.impl.GitHubLink;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -27,4 +32,13 @@ public class GitHubLinkUpdateHandler implements LinkUpdateHandler<GitHubLink> {
         assert request != null;
         return gitHubUpdateService.fetchLatestUpdateDetail(request);
     }
+
+    @Override
+    public Map<Long, UpdateDetail> prefetchUpdateDetails(List<GitHubLink> links) {
+        Map<Long, GitHubLinkRequest> requests = new LinkedHashMap<>();
+        for (GitHubLink link : links) {
+            requests.put(link.id(), requestConverter.convert(link));
+        }
+        return new HashMap<>(gitHubUpdateService.fetchLatestUpdateDetails(requests));
+    }
 }
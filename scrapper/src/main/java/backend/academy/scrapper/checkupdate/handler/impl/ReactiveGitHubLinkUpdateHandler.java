@@ -0,0 +1,33 @@
+package backend.academy.scrapper.checkupdate.handler.impl;
+
+import backend.academy.scrapper.checkupdate.handler.ReactiveLinkUpdateHandler;
+import backend.academy.scrapper.checkupdate.worker.github.ReactiveGitHubUpdateService;
+import backend.academy.scrapper.converter.base.impl.GitHubLinkRequestConverter;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.model.db.link.impl.GitHubLink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+@RequiredArgsConstructor
+public class ReactiveGitHubLinkUpdateHandler implements ReactiveLinkUpdateHandler<GitHubLink> {
+
+    private final ReactiveGitHubUpdateService gitHubUpdateService;
+    private final GitHubLinkRequestConverter requestConverter;
+
+    @Override
+    public LinkType getSupportedType() {
+        return LinkType.GITHUB;
+    }
+
+    @Override
+    public Mono<UpdateDetail> fetchUpdateDetail(GitHubLink link) {
+        var request = requestConverter.convert(link);
+        assert request != null;
+        return gitHubUpdateService.fetchLatestUpdateDetail(request).cast(UpdateDetail.class);
+    }
+}
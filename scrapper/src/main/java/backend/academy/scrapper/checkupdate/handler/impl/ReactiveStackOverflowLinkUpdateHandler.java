@@ -0,0 +1,33 @@
+package backend.academy.scrapper.checkupdate.handler.impl;
+
+import backend.academy.scrapper.checkupdate.handler.ReactiveLinkUpdateHandler;
+import backend.academy.scrapper.checkupdate.worker.so.ReactiveStackOverflowUpdateService;
+import backend.academy.scrapper.converter.base.impl.StackOverflowLinkRequestConverter;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+@RequiredArgsConstructor
+public class ReactiveStackOverflowLinkUpdateHandler implements ReactiveLinkUpdateHandler<StackOverflowLink> {
+
+    private final ReactiveStackOverflowUpdateService stackOverflowUpdateService;
+    private final StackOverflowLinkRequestConverter requestConverter;
+
+    @Override
+    public LinkType getSupportedType() {
+        return LinkType.STACKOVERFLOW;
+    }
+
+    @Override
+    public Mono<UpdateDetail> fetchUpdateDetail(StackOverflowLink link) {
+        var request = requestConverter.convert(link);
+        assert request != null;
+        return stackOverflowUpdateService.fetchLatestUpdateDetail(request).cast(UpdateDetail.class);
+    }
+}
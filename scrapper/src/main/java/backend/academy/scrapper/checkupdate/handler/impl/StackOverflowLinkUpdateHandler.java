@@ -3,9 +3,14 @@ package backend.academy.scrapper.checkupdate.handler.impl;
 import backend.academy.scrapper.checkupdate.handler.LinkUpdateHandler;
 import backend.academy.scrapper.checkupdate.worker.so.StackOverflowUpdateService;
 import backend.academy.scrapper.converter.base.impl.StackOverflowLinkRequestConverter;
+import backend.academy.scrapper.model.app.request.StackOverflowLinkRequest;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.LinkType;
 import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -27,4 +32,13 @@ public class StackOverflowLinkUpdateHandler implements LinkUpdateHandler<StackOv
         assert request != null;
         return stackOverflowUpdateService.fetchLatestUpdateDetail(request);
     }
+
+    @Override
+    public Map<Long, UpdateDetail> prefetchUpdateDetails(List<StackOverflowLink> links) {
+        Map<Long, StackOverflowLinkRequest> requests = new LinkedHashMap<>();
+        for (StackOverflowLink link : links) {
+            requests.put(link.id(), requestConverter.convert(link));
+        }
+        return new HashMap<>(stackOverflowUpdateService.fetchLatestUpdateDetails(requests));
+    }
 }
@@ -1,11 +1,17 @@
 package backend.academy.scrapper.checkupdate.main;
 
+import backend.academy.scrapper.checkupdate.breaker.CircuitBreakerRegistry;
 import backend.academy.scrapper.checkupdate.handler.LinkUpdateHandler;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.LinkType;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
@@ -14,21 +20,85 @@ import org.springframework.stereotype.Component;
  *
  * <p>Получает из {@code linkUpdateHandlerMap} соответствующий {@link LinkUpdateHandler} по типу ссылки и вызывает его
  * метод {@link LinkUpdateHandler#fetchUpdateDetail(Link)}.
+ *
+ * <p>Перед обработкой пакета можно вызвать {@link #prefetch(List)}: обработчики, умеющие загружать обновления пакетом,
+ * заполняют результаты заранее, и {@link #fetchLastUpdate(Link)} отдаёт их без отдельного запроса.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class LinkUpdater {
 
     private final Map<LinkType, LinkUpdateHandler<? extends Link>> linkUpdateHandlerMap;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final Map<Long, UpdateDetail> prefetched = new ConcurrentHashMap<>();
+
+    /**
+     * Заранее загружает детали обновления для пакета ссылок у обработчиков, поддерживающих пакетный режим. Результаты
+     * предыдущего пакета отбрасываются. Ошибка обработчика не прерывает цикл: его ссылки будут проверены по одной.
+     *
+     * @param batch пакет ссылок, который сейчас будет обработан
+     */
+    @SuppressWarnings("unchecked")
+    public void prefetch(List<Link> batch) {
+        prefetched.clear();
+        Map<LinkType, List<Link>> byType = batch.stream().collect(Collectors.groupingBy(Link::getType));
+        byType.forEach((type, links) -> {
+            LinkUpdateHandler<Link> handler = (LinkUpdateHandler<Link>) linkUpdateHandlerMap.get(type);
+            if (handler == null) {
+                return;
+            }
+            try {
+                prefetched.putAll(handler.prefetchUpdateDetails(links));
+            } catch (Exception e) {
+                log.warn("Prefetch failed for {} links of type {}: {}", links.size(), type, e.getMessage());
+            }
+        });
+        if (!prefetched.isEmpty()) {
+            log.info("Prefetched updates for {} of {} links", prefetched.size(), batch.size());
+        }
+    }
 
     /**
-     * Выбирает обработчик по типу переданной ссылки и возвращает детали её последнего обновления.
+     * Выбирает обработчик по типу переданной ссылки и возвращает детали её последнего обновления. Если детали уже
+     * получены через {@link #prefetch(List)}, запрос не выполняется. Обращение к внешнему API проходит через
+     * предохранитель {@link CircuitBreakerRegistry}.
      *
      * @param link сущность {@link Link}, для которой нужно получить детали обновления
      * @return объект {@link UpdateDetail} с информацией о последнем обновлении
+     * @throws backend.academy.scrapper.exception.model.CheckDeferredException если предохранитель разомкнут
      */
     @SuppressWarnings("unchecked")
     public UpdateDetail fetchLastUpdate(Link link) {
-        return ((LinkUpdateHandler<Link>) linkUpdateHandlerMap.get(link.getType())).fetchUpdateDetail(link);
+        Optional<UpdateDetail> detail = takePrefetched(link);
+        if (detail.isPresent()) {
+            return detail.get();
+        }
+        String breakerKey = circuitBreakers.keyOf(link);
+        circuitBreakers.acquire(breakerKey);
+        try {
+            UpdateDetail fetched =
+                    ((LinkUpdateHandler<Link>) linkUpdateHandlerMap.get(link.getType())).fetchUpdateDetail(link);
+            circuitBreakers.record(breakerKey, null);
+            return fetched;
+        } catch (RuntimeException e) {
+            circuitBreakers.record(breakerKey, e);
+            throw e;
+        } catch (Error e) {
+            // Исход ничего не говорит о доступности API, но пробный запрос полуоткрытого предохранителя нужно вернуть
+            circuitBreakers.release(breakerKey);
+            throw e;
+        }
+    }
+
+    /**
+     * Забирает результат, заранее полученный для ссылки через {@link #prefetch(List)}. Повторный вызов для той же
+     * ссылки вернёт пустой результат.
+     *
+     * @param link сущность {@link Link}
+     * @return заранее полученные детали обновления или пустой результат
+     */
+    public Optional<UpdateDetail> takePrefetched(Link link) {
+        return link.id() != null ? Optional.ofNullable(prefetched.remove(link.id())) : Optional.empty();
     }
 }
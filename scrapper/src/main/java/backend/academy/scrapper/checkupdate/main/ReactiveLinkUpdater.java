@@ -0,0 +1,54 @@
+package backend.academy.scrapper.checkupdate.main;
+
+import backend.academy.scrapper.checkupdate.breaker.CircuitBreakerRegistry;
+import backend.academy.scrapper.checkupdate.handler.ReactiveLinkUpdateHandler;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Неблокирующий аналог {@link LinkUpdater}: выбирает {@link ReactiveLinkUpdateHandler} по типу ссылки. Результаты,
+ * заранее загруженные пакетом через {@link LinkUpdater#prefetch(java.util.List)}, отдаются без запроса.
+ */
+@Component
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+@RequiredArgsConstructor
+public class ReactiveLinkUpdater {
+
+    private final Map<LinkType, ReactiveLinkUpdateHandler<? extends Link>> reactiveLinkUpdateHandlerMap;
+    private final LinkUpdater linkUpdater;
+    private final CircuitBreakerRegistry circuitBreakers;
+
+    /**
+     * Возвращает детали последнего обновления ссылки. Обращение к внешнему API проходит через тот же предохранитель,
+     * что и в {@link LinkUpdater}.
+     *
+     * @param link сущность {@link Link}, для которой нужно получить детали обновления
+     * @return {@link Mono} с информацией о последнем обновлении
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<UpdateDetail> fetchLastUpdate(Link link) {
+        Optional<UpdateDetail> prefetched = linkUpdater.takePrefetched(link);
+        if (prefetched.isPresent()) {
+            return Mono.just(prefetched.get());
+        }
+        var handler = (ReactiveLinkUpdateHandler<Link>) reactiveLinkUpdateHandlerMap.get(link.getType());
+        if (handler == null) {
+            return Mono.error(new IllegalArgumentException("No reactive handler for link type: " + link.getType()));
+        }
+        String breakerKey = circuitBreakers.keyOf(link);
+        return Mono.defer(() -> {
+            circuitBreakers.acquire(breakerKey);
+            return handler.fetchUpdateDetail(link)
+                    .doOnSuccess(detail -> circuitBreakers.record(breakerKey, null))
+                    .doOnError(e -> circuitBreakers.record(breakerKey, e))
+                    .doOnCancel(() -> circuitBreakers.release(breakerKey));
+        });
+    }
+}
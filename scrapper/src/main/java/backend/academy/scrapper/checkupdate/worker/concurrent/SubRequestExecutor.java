@@ -0,0 +1,37 @@
+package backend.academy.scrapper.checkupdate.worker.concurrent;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Открывает {@link SubRequestScope} для параллельных подзапросов одной проверки ссылки. Подзапросы выполняются на
+ * виртуальных потоках, поэтому блокирующий HTTP-клиент не занимает платформенные потоки, а задержка проверки равна
+ * самому медленному подзапросу, а не их сумме.
+ */
+@Component
+public class SubRequestExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long linkDeadlineMs;
+
+    public SubRequestExecutor(ScrapperConfig scrapperConfig) {
+        this.linkDeadlineMs = scrapperConfig.githubApi().linkDeadlineMs();
+    }
+
+    /**
+     * Открывает новую область с дедлайном {@code app.github-api.link-deadline-ms}, отсчитываемым с момента открытия.
+     *
+     * @return новая область подзапросов
+     */
+    public SubRequestScope open() {
+        return new SubRequestScope(executor, linkDeadlineMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
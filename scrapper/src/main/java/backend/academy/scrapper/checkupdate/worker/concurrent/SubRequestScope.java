@@ -0,0 +1,96 @@
+package backend.academy.scrapper.checkupdate.worker.concurrent;
+
+import backend.academy.scrapper.exception.model.ScrapperException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Область параллельного выполнения независимых подзапросов одной проверки ссылки, по смыслу повторяющая
+ * {@code StructuredTaskScope.ShutdownOnFailure} (без preview-API).
+ *
+ * <p>Подзапросы запускаются через {@link #fork(Callable)}, {@link #join()} ждёт их все, но не дольше общего дедлайна
+ * ссылки. При первой ошибке или истечении дедлайна остальные подзапросы отменяются с прерыванием потока, а ошибка
+ * пробрасывается вызывающему. {@link #close()} отменяет всё, что ещё выполняется, поэтому область используется в
+ * try-with-resources.
+ */
+public class SubRequestScope implements AutoCloseable {
+
+    private final CompletionService<Object> completionService;
+    private final long deadlineNanos;
+    private final List<Future<Object>> forks = new ArrayList<>();
+
+    SubRequestScope(ExecutorService executor, long timeoutMs) {
+        this.completionService = new ExecutorCompletionService<>(executor);
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    /**
+     * Запускает подзапрос в отдельном виртуальном потоке.
+     *
+     * @param task подзапрос
+     * @param <T> тип результата
+     * @return поставщик результата, доступного после успешного {@link #join()}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(Callable<T> task) {
+        Future<Object> future = completionService.submit((Callable<Object>) task);
+        forks.add(future);
+        return () -> {
+            if (!future.isDone()) {
+                throw new IllegalStateException("Sub-request result requested before join()");
+            }
+            return (T) future.resultNow();
+        };
+    }
+
+    /**
+     * Ожидает завершения всех подзапросов.
+     *
+     * @throws ScrapperException если истёк дедлайн или ожидание прервано
+     * @throws RuntimeException исходная ошибка первого упавшего подзапроса
+     */
+    public void join() {
+        try {
+            for (int i = 0; i < forks.size(); i++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Object> done = remaining > 0 ? completionService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (done == null) {
+                    cancelAll();
+                    throw new ScrapperException(
+                            "Превышено время проверки ссылки", "Sub-requests did not finish before the link deadline");
+                }
+                done.get();
+            }
+        } catch (ExecutionException e) {
+            cancelAll();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ScrapperException(
+                    "Ошибка подзапроса при проверке ссылки", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new ScrapperException("Проверка ссылки прервана", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private void cancelAll() {
+        for (Future<Object> fork : forks) {
+            fork.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package backend.academy.scrapper.checkupdate.worker.github;
+
+/** Разбор заголовка Link, которым GitHub API описывает страницы ответа. */
+public final class GitHubPagination {
+
+    private GitHubPagination() {}
+
+    /**
+     * Парсит заголовок Link для извлечения URL последней страницы.
+     *
+     * @param linkHeader Строка заголовка Link
+     * @return URL последней страницы или null, если не найден
+     */
+    @SuppressWarnings("StringSplitter")
+    public static String parseLastPageUrl(String linkHeader) {
+        String[] parts = linkHeader.split(",");
+        for (String part : parts) {
+            if (part.contains("rel=\"last\"")) {
+                int start = part.indexOf("<") + 1;
+                int end = part.indexOf(">");
+                if (start > 0 && end > start) {
+                    return part.substring(start, end);
+                }
+            }
+        }
+        return null;
+    }
+}
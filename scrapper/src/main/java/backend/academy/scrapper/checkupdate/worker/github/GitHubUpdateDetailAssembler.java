@@ -0,0 +1,188 @@
+package backend.academy.scrapper.checkupdate.worker.github;
+
+import backend.academy.scrapper.converter.base.impl.GitHubResponseConverter;
+import backend.academy.scrapper.model.app.response.githib.GitHubCommentResponse;
+import backend.academy.scrapper.model.app.response.githib.GitHubCommitResponse;
+import backend.academy.scrapper.model.app.response.githib.GitHubResponse;
+import backend.academy.scrapper.model.app.update.impl.GitHubUpdateDetail;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Собирает {@link GitHubUpdateDetail} из уже полученных ответов GitHub. Не выполняет запросов сам, поэтому одинаково
+ * используется и REST-провайдерами, и пакетным GraphQL-провайдером.
+ */
+@Component
+@RequiredArgsConstructor
+public class GitHubUpdateDetailAssembler {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+    private static final int PREVIEW_LENGTH = 200;
+
+    private final GitHubResponseConverter responseConverter;
+
+    /**
+     * Выбирает самое свежее событие репозитория: коммит, создание PR или создание Issue.
+     *
+     * @param repo Имя репозитория
+     * @param commit Последний коммит (может быть null)
+     * @param prResponse Последний созданный PR (может быть null)
+     * @param issueResponse Последний созданный Issue (может быть null)
+     * @return Детали самого свежего события или null, если ни одного события нет
+     */
+    public GitHubUpdateDetail assembleRepoUpdate(
+            String repo, GitHubCommitResponse commit, GitHubResponse prResponse, GitHubResponse issueResponse) {
+        LocalDateTime commitTime = extractCommitTime(commit);
+        LocalDateTime prTime = extractTime(prResponse != null ? prResponse.createdAt() : null);
+        LocalDateTime issueTime = extractTime(issueResponse != null ? issueResponse.createdAt() : null);
+
+        GitHubUpdateDetail updateDetail = null;
+        LocalDateTime latestTime = null;
+
+        if (commitTime != null) {
+            latestTime = commitTime;
+            updateDetail = createUpdateDetailForRepoCommit(repo, commit, commitTime);
+        }
+        if (prTime != null && (latestTime == null || prTime.isAfter(latestTime))) {
+            latestTime = prTime;
+            updateDetail = createUpdateDetailForRepoPR(repo, prResponse, prTime);
+        }
+        if (issueTime != null && (latestTime == null || issueTime.isAfter(latestTime))) {
+            updateDetail = createUpdateDetailForRepoIssue(repo, issueResponse, issueTime);
+        }
+        return updateDetail;
+    }
+
+    /**
+     * Сравнивает время последнего комментария и последнего коммита PR и формирует сообщение о более позднем событии.
+     *
+     * @param baseResponse Базовый ответ PR
+     * @param comment Последний комментарий (может быть null)
+     * @param commit Последний коммит (может быть null)
+     * @return Детали обновления PR
+     */
+    public GitHubUpdateDetail assemblePRUpdate(
+            GitHubResponse baseResponse, GitHubCommentResponse comment, GitHubCommitResponse commit) {
+        LocalDateTime commentTime = (comment != null) ? LocalDateTime.parse(comment.createdAt(), DATE_FORMATTER) : null;
+        LocalDateTime commitTime = extractCommitTime(commit);
+
+        if (commentTime != null && (commitTime == null || commentTime.isAfter(commitTime))) {
+            return createUpdateDetailForPRComment(baseResponse, comment, commentTime);
+        } else if (commitTime != null && (commentTime == null || commitTime.isAfter(commentTime))) {
+            return createUpdateDetailForPRCommit(baseResponse, commit, commitTime);
+        } else {
+            return responseConverter.convert(baseResponse);
+        }
+    }
+
+    /**
+     * Формирует детали обновления Issue: последний комментарий, если он есть, иначе базовый ответ.
+     *
+     * @param baseResponse Базовый ответ Issue
+     * @param comment Последний комментарий (может быть null)
+     * @return Детали обновления Issue
+     */
+    public GitHubUpdateDetail assembleIssueUpdate(GitHubResponse baseResponse, GitHubCommentResponse comment) {
+        if (comment != null) {
+            LocalDateTime commentTime = LocalDateTime.parse(comment.createdAt(), DATE_FORMATTER);
+            String detailDesc = String.format(
+                    "New comment on issue '%s' by %s at %s. Comment: %s",
+                    baseResponse.title(), comment.user().login(), commentTime, truncate(comment.body()));
+            return new GitHubUpdateDetail(
+                    baseResponse.title(), baseResponse.user().login(), commentTime, detailDesc);
+        }
+        return responseConverter.convert(baseResponse);
+    }
+
+    /**
+     * Проверяет, стоит ли запрашивать комментарии Issue: время обновления отличается от времени создания.
+     *
+     * @param baseResponse Базовый ответ Issue
+     * @return true, если после создания Issue были изменения
+     */
+    public boolean hasIssueActivity(GitHubResponse baseResponse) {
+        return baseResponse.updatedAt() != null && !Objects.equals(baseResponse.updatedAt(), baseResponse.createdAt());
+    }
+
+    /**
+     * Преобразует базовый ответ GitHub в детали обновления.
+     *
+     * @param baseResponse Базовый ответ
+     * @return Детали обновления
+     */
+    public GitHubUpdateDetail assembleBase(GitHubResponse baseResponse) {
+        return responseConverter.convert(baseResponse);
+    }
+
+    private LocalDateTime extractCommitTime(GitHubCommitResponse commit) {
+        if (commit != null && commit.commit() != null && commit.commit().author() != null) {
+            return LocalDateTime.parse(commit.commit().author().date(), DATE_FORMATTER);
+        }
+        return null;
+    }
+
+    private LocalDateTime extractTime(String timeStr) {
+        if (timeStr != null && !timeStr.isEmpty()) {
+            return LocalDateTime.parse(timeStr, DATE_FORMATTER);
+        }
+        return null;
+    }
+
+    private GitHubUpdateDetail createUpdateDetailForRepoCommit(
+            String repo, GitHubCommitResponse commit, LocalDateTime commitTime) {
+        String detail = String.format(
+                "New commit in repository '%s' by %s at %s. Commit message: %s (Commit ID: %s)",
+                repo,
+                commit.commit().author().name(),
+                commitTime,
+                truncate(commit.commit().message()),
+                commit.sha());
+        return new GitHubUpdateDetail(repo, commit.commit().author().name(), commitTime, detail);
+    }
+
+    private GitHubUpdateDetail createUpdateDetailForRepoPR(
+            String repo, GitHubResponse prResponse, LocalDateTime prTime) {
+        String detail = String.format(
+                "New PR in repository '%s': '%s' by %s at %s. Description: %s",
+                repo, prResponse.title(), prResponse.user().login(), prTime, truncate(prResponse.body()));
+        return new GitHubUpdateDetail(repo, prResponse.user().login(), prTime, detail);
+    }
+
+    private GitHubUpdateDetail createUpdateDetailForRepoIssue(
+            String repo, GitHubResponse issueResponse, LocalDateTime issueTime) {
+        String detail = String.format(
+                "New issue in repository '%s': '%s' by %s at %s. Description: %s",
+                repo, issueResponse.title(), issueResponse.user().login(), issueTime, truncate(issueResponse.body()));
+        return new GitHubUpdateDetail(repo, issueResponse.user().login(), issueTime, detail);
+    }
+
+    private GitHubUpdateDetail createUpdateDetailForPRComment(
+            GitHubResponse baseResponse, GitHubCommentResponse comment, LocalDateTime commentTime) {
+        String detail = String.format(
+                "New comment on PR '%s' by %s at %s. Comment: %s",
+                baseResponse.title(), comment.user().login(), commentTime, truncate(comment.body()));
+        return new GitHubUpdateDetail(baseResponse.title(), baseResponse.user().login(), commentTime, detail);
+    }
+
+    private GitHubUpdateDetail createUpdateDetailForPRCommit(
+            GitHubResponse baseResponse, GitHubCommitResponse commit, LocalDateTime commitTime) {
+        String detail = String.format(
+                "New commit in PR '%s' by %s at %s. Commit message: %s (Commit ID: %s)",
+                baseResponse.title(),
+                commit.commit().author().name(),
+                commitTime,
+                truncate(commit.commit().message()),
+                commit.sha());
+        return new GitHubUpdateDetail(baseResponse.title(), baseResponse.user().login(), commitTime, detail);
+    }
+
+    private String truncate(String text) {
+        if (text == null) {
+            return null;
+        }
+        return text.length() > PREVIEW_LENGTH ? text.substring(0, PREVIEW_LENGTH) : text;
+    }
+}
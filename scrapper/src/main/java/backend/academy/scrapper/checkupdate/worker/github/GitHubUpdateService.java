@@ -1,18 +1,34 @@
 package backend.academy.scrapper.checkupdate.worker.github;
 
+import backend.academy.scrapper.checkupdate.worker.github.provider.GitHubBatchUpdateProvider;
 import backend.academy.scrapper.checkupdate.worker.github.provider.GitHubUpdateProvider;
+import backend.academy.scrapper.config.ScrapperConfig;
 import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
 import backend.academy.scrapper.model.app.update.impl.GitHubUpdateDetail;
 import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class GitHubUpdateService {
 
     private final Map<GitHubEventType, GitHubUpdateProvider> providerMap;
+    private final Optional<GitHubBatchUpdateProvider> batchProvider;
+    private final int batchSize;
+
+    public GitHubUpdateService(
+            Map<GitHubEventType, GitHubUpdateProvider> providerMap,
+            Optional<GitHubBatchUpdateProvider> batchProvider,
+            ScrapperConfig scrapperConfig) {
+        this.providerMap = providerMap;
+        this.batchProvider = batchProvider;
+        this.batchSize = scrapperConfig.githubApi().batchSize();
+    }
 
     public GitHubUpdateDetail fetchLatestUpdateDetail(GitHubLinkRequest request) {
         GitHubUpdateProvider provider = providerMap.get(request.eventType());
@@ -21,4 +37,41 @@ public class GitHubUpdateService {
         }
         return provider.processUpdate(request);
     }
+
+    /**
+     * Получает детали обновления сразу для нескольких ссылок, если включён пакетный режим
+     * ({@code app.github-api.mode=GRAPHQL}). Запросы делятся на части по {@code app.github-api.batch-size}; ошибка
+     * одной части не мешает остальным.
+     *
+     * @param requests запросы, ключом служит идентификатор ссылки
+     * @return детали обновления по идентификатору ссылки; пусто, если пакетный режим выключен
+     */
+    public Map<Long, GitHubUpdateDetail> fetchLatestUpdateDetails(Map<Long, GitHubLinkRequest> requests) {
+        if (batchProvider.isEmpty() || requests.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, GitHubUpdateDetail> result = new HashMap<>();
+        Map<Long, GitHubLinkRequest> chunk = new LinkedHashMap<>();
+        for (Map.Entry<Long, GitHubLinkRequest> entry : requests.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == batchSize) {
+                result.putAll(processChunk(chunk));
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.putAll(processChunk(chunk));
+        }
+        return result;
+    }
+
+    private Map<Long, GitHubUpdateDetail> processChunk(Map<Long, GitHubLinkRequest> chunk) {
+        try {
+            return batchProvider.orElseThrow().processBatch(chunk);
+        } catch (Exception e) {
+            log.warn(
+                    "GitHub batch request for {} links failed, falling back to REST: {}", chunk.size(), e.getMessage());
+            return Map.of();
+        }
+    }
 }
@@ -0,0 +1,150 @@
+package backend.academy.scrapper.checkupdate.worker.github;
+
+import backend.academy.scrapper.checkupdate.worker.http.ReactiveConditionalRequestExecutor;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.GitHubTokenPool;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
+import backend.academy.scrapper.model.app.response.githib.GitHubCommentResponse;
+import backend.academy.scrapper.model.app.response.githib.GitHubCommitResponse;
+import backend.academy.scrapper.model.app.response.githib.GitHubResponse;
+import backend.academy.scrapper.model.app.update.impl.GitHubUpdateDetail;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Неблокирующий аналог {@link GitHubUpdateService} на WebClient. Независимые подзапросы одной ссылки выполняются
+ * одновременно через {@link Mono#zip}, ошибка любого из них отменяет остальные, а вся проверка ограничена дедлайном
+ * {@code app.github-api.link-deadline-ms}. Детали обновления собирает тот же {@link GitHubUpdateDetailAssembler}, что и
+ * у REST-провайдеров.
+ */
+@Service
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+public class ReactiveGitHubUpdateService {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String ITEM_COMMENTS = "https://api.github.com/repos/%s/%s/issues/%s/comments";
+
+    private final ReactiveConditionalRequestExecutor requestExecutor;
+    private final GitHubUpdateDetailAssembler assembler;
+    private final GitHubTokenPool tokenPool;
+    private final Duration linkDeadline;
+
+    public ReactiveGitHubUpdateService(
+            ReactiveConditionalRequestExecutor requestExecutor,
+            GitHubUpdateDetailAssembler assembler,
+            GitHubTokenPool tokenPool,
+            ScrapperConfig scrapperConfig) {
+        this.requestExecutor = requestExecutor;
+        this.assembler = assembler;
+        this.tokenPool = tokenPool;
+        this.linkDeadline = Duration.ofMillis(scrapperConfig.githubApi().linkDeadlineMs());
+    }
+
+    public Mono<GitHubUpdateDetail> fetchLatestUpdateDetail(GitHubLinkRequest request) {
+        Mono<GitHubUpdateDetail> detail =
+                switch (request.eventType()) {
+                    case REPO -> fetchRepoUpdate(request);
+                    case PR -> fetchPRUpdate(request);
+                    case ISSUE -> fetchIssueUpdate(request);
+                };
+        return detail.timeout(linkDeadline);
+    }
+
+    private Mono<GitHubUpdateDetail> fetchRepoUpdate(GitHubLinkRequest request) {
+        String owner = request.owner();
+        String repo = request.repo();
+        return Mono.zip(
+                        fetchFirst(
+                                String.format("https://api.github.com/repos/%s/%s/commits?per_page=1", owner, repo),
+                                GitHubCommitResponse[].class),
+                        fetchFirst(
+                                String.format(
+                                        "https://api.github.com/repos/%s/%s/pulls?sort=created&direction=desc&per_page=1",
+                                        owner, repo),
+                                GitHubResponse[].class),
+                        fetchFirst(
+                                String.format(
+                                        "https://api.github.com/repos/%s/%s/issues?sort=created&direction=desc&per_page=1",
+                                        owner, repo),
+                                GitHubResponse[].class))
+                .flatMap(latest -> {
+                    GitHubUpdateDetail detail = assembler.assembleRepoUpdate(
+                            repo,
+                            latest.getT1().orElse(null),
+                            latest.getT2().orElse(null),
+                            latest.getT3().orElse(null));
+                    if (detail != null) {
+                        return Mono.just(detail);
+                    }
+                    // Если ни одно событие не найдено, возвращаем базовый ответ
+                    return fetchBaseResponse(request).map(assembler::assembleBase);
+                });
+    }
+
+    private Mono<GitHubUpdateDetail> fetchPRUpdate(GitHubLinkRequest request) {
+        Object[] args = {request.owner(), request.repo(), request.itemNumber()};
+        return Mono.zip(
+                        fetchBaseResponse(request),
+                        fetchLatestPaginated(String.format(ITEM_COMMENTS, args), GitHubCommentResponse[].class),
+                        fetchLatestPaginated(
+                                String.format("https://api.github.com/repos/%s/%s/pulls/%s/commits", args),
+                                GitHubCommitResponse[].class))
+                .map(latest -> assembler.assemblePRUpdate(
+                        latest.getT1(),
+                        latest.getT2().orElse(null),
+                        latest.getT3().orElse(null)));
+    }
+
+    private Mono<GitHubUpdateDetail> fetchIssueUpdate(GitHubLinkRequest request) {
+        String commentsUrl = String.format(ITEM_COMMENTS, request.owner(), request.repo(), request.itemNumber());
+        return fetchBaseResponse(request).flatMap(base -> {
+            if (!assembler.hasIssueActivity(base)) {
+                return Mono.just(assembler.assembleIssueUpdate(base, null));
+            }
+            return fetchLatestPaginated(commentsUrl, GitHubCommentResponse[].class)
+                    .map(comment -> assembler.assembleIssueUpdate(base, comment.orElse(null)));
+        });
+    }
+
+    private Mono<GitHubResponse> fetchBaseResponse(GitHubLinkRequest request) {
+        String uri = String.format(
+                request.eventType().endpointPattern(), request.owner(), request.repo(), request.itemNumber());
+        return requestExecutor.get(uri, this::authorize, GitHubResponse.class).mapNotNull(ResponseEntity::getBody);
+    }
+
+    private <T> Mono<Optional<T>> fetchFirst(String uri, Class<T[]> clazz) {
+        return requestExecutor.get(uri, this::authorize, clazz).map(entity -> first(entity.getBody()));
+    }
+
+    /**
+     * Получает последний элемент через механизм пагинации: запрос с per_page=1 и, если в заголовке Link есть ссылка на
+     * последнюю страницу, второй запрос к ней.
+     */
+    private <T> Mono<Optional<T>> fetchLatestPaginated(String baseUrl, Class<T[]> clazz) {
+        String url = baseUrl + (baseUrl.contains("?") ? "&per_page=1" : "?per_page=1");
+        return requestExecutor.get(url, this::authorize, clazz).flatMap(initial -> {
+            List<String> linkHeader = initial.getHeaders().get("Link");
+            String lastPageUrl = (linkHeader == null || linkHeader.isEmpty())
+                    ? null
+                    : GitHubPagination.parseLastPageUrl(linkHeader.getFirst());
+            if (lastPageUrl == null) {
+                return Mono.just(first(initial.getBody()));
+            }
+            return fetchFirst(lastPageUrl, clazz);
+        });
+    }
+
+    private void authorize(HttpHeaders headers) {
+        headers.set(AUTHORIZATION_HEADER, "token " + tokenPool.acquire());
+    }
+
+    private static <T> Optional<T> first(T[] items) {
+        return (items != null && items.length > 0) ? Optional.ofNullable(items[0]) : Optional.empty();
+    }
+}
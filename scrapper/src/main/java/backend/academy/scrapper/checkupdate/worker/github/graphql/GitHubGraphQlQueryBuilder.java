@@ -0,0 +1,91 @@
+package backend.academy.scrapper.checkupdate.worker.github.graphql;
+
+import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Строит один GraphQL-запрос для пакета ссылок GitHub. Каждой ссылке соответствует свой алиас {@code l<id>}, под
+ * которым запрашиваются ровно те поля, что нужны {@code GitHubUpdateDetailAssembler}: последний коммит, PR, Issue и
+ * комментарий.
+ */
+@Component
+public class GitHubGraphQlQueryBuilder {
+
+    static final String ALIAS_PREFIX = "l";
+
+    private static final String AUTHOR = "author { login }";
+    private static final String LAST_COMMENT = "comments(last: 1) { nodes { body createdAt " + AUTHOR + " } }";
+    private static final String GIT_AUTHOR = "author { name date }";
+
+    private static final String REPO_FIELDS = "name description createdAt updatedAt owner { login } "
+            + "defaultBranchRef { target { ... on Commit { oid message " + GIT_AUTHOR + " } } } "
+            + "pullRequests(first: 1, orderBy: {field: CREATED_AT, direction: DESC}) "
+            + "{ nodes { title body createdAt " + AUTHOR + " } } "
+            + "issues(first: 1, orderBy: {field: CREATED_AT, direction: DESC}) "
+            + "{ nodes { title body createdAt " + AUTHOR + " } }";
+
+    private static final String ISSUE_FIELDS = "title body createdAt updatedAt " + AUTHOR + " " + LAST_COMMENT;
+
+    private static final String PR_FIELDS =
+            ISSUE_FIELDS + " commits(last: 1) { nodes { commit { oid message " + GIT_AUTHOR + " } } }";
+
+    /**
+     * Формирует текст GraphQL-запроса.
+     *
+     * @param requests запросы, ключом служит идентификатор ссылки
+     * @return текст запроса
+     */
+    public String build(Map<Long, GitHubLinkRequest> requests) {
+        StringBuilder query = new StringBuilder("query {");
+        requests.forEach((id, request) -> query.append(' ')
+                .append(alias(id))
+                .append(": repository(owner: ")
+                .append(quote(request.owner()))
+                .append(", name: ")
+                .append(quote(request.repo()))
+                .append(") { ")
+                .append(selection(request))
+                .append(" }"));
+        return query.append(" }").toString();
+    }
+
+    /**
+     * Возвращает алиас, под которым в ответе лежат данные ссылки.
+     *
+     * @param linkId идентификатор ссылки
+     * @return алиас
+     */
+    public String alias(Long linkId) {
+        return ALIAS_PREFIX + linkId;
+    }
+
+    /**
+     * Проверяет, можно ли выразить запрос в GraphQL: для Issue и PR номер должен быть числом.
+     *
+     * @param request запрос
+     * @return true, если запрос поддерживается
+     */
+    public boolean supports(GitHubLinkRequest request) {
+        if (request.owner() == null || request.repo() == null || request.eventType() == null) {
+            return false;
+        }
+        return switch (request.eventType()) {
+            case REPO -> true;
+            case ISSUE, PR -> request.itemNumber() != null
+                    && request.itemNumber().matches("\\d{1,9}");
+        };
+    }
+
+    private String selection(GitHubLinkRequest request) {
+        return switch (request.eventType()) {
+            case REPO -> REPO_FIELDS;
+            case ISSUE -> "issue(number: " + request.itemNumber() + ") { " + ISSUE_FIELDS + " }";
+            case PR -> "pullRequest(number: " + request.itemNumber() + ") { " + PR_FIELDS + " }";
+        };
+    }
+
+    private String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -1,6 +1,8 @@
 package backend.academy.scrapper.checkupdate.worker.github.provider;
 
-import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.checkupdate.worker.github.GitHubPagination;
+import backend.academy.scrapper.checkupdate.worker.http.ConditionalRequestExecutor;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.GitHubTokenPool;
 import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
 import backend.academy.scrapper.model.app.response.githib.GitHubCommentResponse;
 import backend.academy.scrapper.model.app.response.githib.GitHubCommitResponse;
@@ -8,22 +10,21 @@ import backend.academy.scrapper.model.app.response.githib.GitHubResponse;
 import java.util.List;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestClient;
 
 /**
  * Абстрактный провайдер обновлений GitHub, содержащий общие методы для выполнения HTTP-запросов, обработки пагинации и
- * формирования URI по заданным шаблонам.
+ * формирования URI по заданным шаблонам. Все запросы выполняются условно через {@link ConditionalRequestExecutor}.
  */
 public abstract class AbstractGitHubUpdateProvider implements GitHubUpdateProvider {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
-    protected final RestClient restClient;
-    protected final String githubToken;
+    protected final ConditionalRequestExecutor requestExecutor;
+    protected final GitHubTokenPool tokenPool;
 
-    public AbstractGitHubUpdateProvider(RestClient restClient, ScrapperConfig scrapperConfig) {
-        this.restClient = restClient;
-        this.githubToken = scrapperConfig.githubToken();
+    public AbstractGitHubUpdateProvider(ConditionalRequestExecutor requestExecutor, GitHubTokenPool tokenPool) {
+        this.requestExecutor = requestExecutor;
+        this.tokenPool = tokenPool;
     }
 
     /**
@@ -35,12 +36,7 @@ public abstract class AbstractGitHubUpdateProvider implements GitHubUpdateProvid
      * @return Массив объектов, полученных в ответе, или null, если ответ отсутствует
      */
     protected <T> T[] executeGet(String uri, Class<T[]> clazz) {
-        return restClient
-                .get()
-                .uri(uri)
-                .header(AUTHORIZATION_HEADER, "token " + githubToken)
-                .retrieve()
-                .body(clazz);
+        return requestExecutor.getBody(uri, this::authorize, clazz);
     }
 
     /**
@@ -53,12 +49,7 @@ public abstract class AbstractGitHubUpdateProvider implements GitHubUpdateProvid
     protected GitHubResponse fetchBaseResponse(GitHubLinkRequest request) {
         String endpoint = request.eventType().endpointPattern();
         String uri = String.format(endpoint, request.owner(), request.repo(), request.itemNumber());
-        return restClient
-                .get()
-                .uri(uri)
-                .header(AUTHORIZATION_HEADER, "token " + githubToken)
-                .retrieve()
-                .body(GitHubResponse.class);
+        return requestExecutor.getBody(uri, this::authorize, GitHubResponse.class);
     }
 
     /**
@@ -72,12 +63,7 @@ public abstract class AbstractGitHubUpdateProvider implements GitHubUpdateProvid
      */
     protected <T> T fetchLatestPaginated(String baseUrl, Class<T[]> clazz) {
         String url = baseUrl + (baseUrl.contains("?") ? "&per_page=1" : "?per_page=1");
-        ResponseEntity<T[]> initialResponse = restClient
-                .get()
-                .uri(url)
-                .header(AUTHORIZATION_HEADER, "token " + githubToken)
-                .retrieve()
-                .toEntity(clazz);
+        ResponseEntity<T[]> initialResponse = requestExecutor.get(url, this::authorize, clazz);
         HttpHeaders headers = initialResponse.getHeaders();
         List<String> linkHeader = headers.get("Link");
         if (linkHeader == null || linkHeader.isEmpty()) {
@@ -89,12 +75,7 @@ public abstract class AbstractGitHubUpdateProvider implements GitHubUpdateProvid
             T[] body = initialResponse.getBody();
             return (body != null && body.length > 0) ? body[0] : null;
         }
-        T[] lastPageItems = restClient
-                .get()
-                .uri(lastPageUrl)
-                .header(AUTHORIZATION_HEADER, "token " + githubToken)
-                .retrieve()
-                .body(clazz);
+        T[] lastPageItems = requestExecutor.getBody(lastPageUrl, this::authorize, clazz);
         return (lastPageItems != null && lastPageItems.length > 0) ? lastPageItems[0] : null;
     }
 
@@ -197,37 +178,21 @@ public abstract class AbstractGitHubUpdateProvider implements GitHubUpdateProvid
     }
 
     /**
-     * Парсит заголовок Link для извлечения URL последней страницы.
+     * Добавляет к запросу заголовок авторизации GitHub с токеном, выбранным {@link GitHubTokenPool}.
      *
-     * @param linkHeader Строка заголовка Link
-     * @return URL последней страницы или null, если не найден
+     * @param headers заголовки запроса
      */
-    @SuppressWarnings("StringSplitter")
-    protected String parseLastPageUrl(String linkHeader) {
-        String[] parts = linkHeader.split(",");
-        for (String part : parts) {
-            if (part.contains("rel=\"last\"")) {
-                int start = part.indexOf("<") + 1;
-                int end = part.indexOf(">");
-                if (start > 0 && end > start) {
-                    return part.substring(start, end);
-                }
-            }
-        }
-        return null;
+    protected void authorize(HttpHeaders headers) {
+        headers.set(AUTHORIZATION_HEADER, "token " + tokenPool.acquire());
     }
 
     /**
-     * Обрезает текст до указанного максимального количества символов.
+     * Парсит заголовок Link для извлечения URL последней страницы.
      *
-     * @param text Исходный текст
-     * @param maxLength Максимальная длина
-     * @return Обрезанный текст или исходный, если его длина не превышает maxLength
+     * @param linkHeader Строка заголовка Link
+     * @return URL последней страницы или null, если не найден
      */
-    protected String truncate(String text, int maxLength) {
-        if (text == null) {
-            return null;
-        }
-        return text.length() > maxLength ? text.substring(0, maxLength) : text;
+    protected String parseLastPageUrl(String linkHeader) {
+        return GitHubPagination.parseLastPageUrl(linkHeader);
     }
 }
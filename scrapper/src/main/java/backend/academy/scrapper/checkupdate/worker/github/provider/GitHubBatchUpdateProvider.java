@@ -0,0 +1,17 @@
+package backend.academy.scrapper.checkupdate.worker.github.provider;
+
+import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
+import backend.academy.scrapper.model.app.update.impl.GitHubUpdateDetail;
+import java.util.Map;
+
+/** Интерфейс для пакетной обработки обновлений GitHub: один запрос к API на несколько ссылок. */
+public interface GitHubBatchUpdateProvider {
+    /**
+     * Получает детали обновления для пакета ссылок.
+     *
+     * @param requests запросы, ключом служит идентификатор ссылки
+     * @return детали обновления по идентификатору ссылки; ссылки, которые не удалось обработать, в результат не
+     *     попадают
+     */
+    Map<Long, GitHubUpdateDetail> processBatch(Map<Long, GitHubLinkRequest> requests);
+}
@@ -0,0 +1,199 @@
+package backend.academy.scrapper.checkupdate.worker.github.provider.impl;
+
+import backend.academy.scrapper.checkupdate.worker.github.GitHubUpdateDetailAssembler;
+import backend.academy.scrapper.checkupdate.worker.github.graphql.GitHubGraphQlQueryBuilder;
+import backend.academy.scrapper.checkupdate.worker.github.provider.GitHubBatchUpdateProvider;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.GitHubTokenPool;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
+import backend.academy.scrapper.model.app.response.githib.GitHubCommentResponse;
+import backend.academy.scrapper.model.app.response.githib.GitHubCommitResponse;
+import backend.academy.scrapper.model.app.response.githib.GitHubResponse;
+import backend.academy.scrapper.model.app.update.impl.GitHubUpdateDetail;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Пакетный провайдер обновлений GitHub на GraphQL API. Вместо 3–5 REST-запросов на ссылку отправляет один запрос с
+ * алиасом на каждую ссылку пакета и раскладывает ответ обратно в {@link GitHubUpdateDetail} через
+ * {@link GitHubUpdateDetailAssembler}, поэтому результат совпадает с REST-провайдерами.
+ *
+ * <p>Ссылки, которые GraphQL не вернул (удалённый репозиторий, нечисловой номер, частичная ошибка), в результат не
+ * попадают и обрабатываются обычными REST-провайдерами.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.github-api.mode", havingValue = "GRAPHQL")
+public class GraphQlGitHubUpdateProvider implements GitHubBatchUpdateProvider {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+
+    private final RestClient restClient;
+    private final GitHubGraphQlQueryBuilder queryBuilder;
+    private final GitHubUpdateDetailAssembler assembler;
+    private final GitHubTokenPool tokenPool;
+    private final String graphqlUrl;
+
+    public GraphQlGitHubUpdateProvider(
+            RestClient restClient,
+            ScrapperConfig scrapperConfig,
+            GitHubTokenPool tokenPool,
+            GitHubGraphQlQueryBuilder queryBuilder,
+            GitHubUpdateDetailAssembler assembler) {
+        this.restClient = restClient;
+        this.queryBuilder = queryBuilder;
+        this.assembler = assembler;
+        this.tokenPool = tokenPool;
+        this.graphqlUrl = scrapperConfig.githubApi().graphqlUrl();
+    }
+
+    @Override
+    public Map<Long, GitHubUpdateDetail> processBatch(Map<Long, GitHubLinkRequest> requests) {
+        Map<Long, GitHubLinkRequest> supported = new LinkedHashMap<>();
+        requests.forEach((id, request) -> {
+            if (queryBuilder.supports(request)) {
+                supported.put(id, request);
+            }
+        });
+        if (supported.isEmpty()) {
+            return Map.of();
+        }
+
+        JsonNode response = restClient
+                .post()
+                .uri(graphqlUrl)
+                .header(AUTHORIZATION_HEADER, "bearer " + tokenPool.acquireForGraphQl())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("query", queryBuilder.build(supported)))
+                .retrieve()
+                .body(JsonNode.class);
+        if (response == null) {
+            return Map.of();
+        }
+        if (response.hasNonNull("errors")) {
+            log.warn(
+                    "GitHub GraphQL returned {} errors for batch of {} links",
+                    response.get("errors").size(),
+                    supported.size());
+        }
+
+        JsonNode data = response.path("data");
+        Map<Long, GitHubUpdateDetail> result = new HashMap<>();
+        supported.forEach((id, request) -> {
+            JsonNode repoNode = data.path(queryBuilder.alias(id));
+            if (!repoNode.isObject()) {
+                return;
+            }
+            try {
+                GitHubUpdateDetail detail = toUpdateDetail(request, repoNode);
+                if (detail != null) {
+                    result.put(id, detail);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to map GraphQL response for link {}: {}", id, e.getMessage());
+            }
+        });
+        return result;
+    }
+
+    private GitHubUpdateDetail toUpdateDetail(GitHubLinkRequest request, JsonNode repoNode) {
+        return switch (request.eventType()) {
+            case REPO -> toRepoUpdate(request, repoNode);
+            case ISSUE -> toIssueUpdate(repoNode.path("issue"));
+            case PR -> toPRUpdate(repoNode.path("pullRequest"));
+        };
+    }
+
+    private GitHubUpdateDetail toRepoUpdate(GitHubLinkRequest request, JsonNode repoNode) {
+        GitHubCommitResponse commit = toCommit(repoNode.path("defaultBranchRef").path("target"));
+        GitHubResponse pr = toResponse(firstNode(repoNode.path("pullRequests")));
+        GitHubResponse issue = toResponse(firstNode(repoNode.path("issues")));
+        GitHubUpdateDetail detail = assembler.assembleRepoUpdate(request.repo(), commit, pr, issue);
+        if (detail != null) {
+            return detail;
+        }
+        GitHubResponse base = new GitHubResponse(
+                text(repoNode, "createdAt"),
+                text(repoNode, "updatedAt"),
+                text(repoNode, "name"),
+                text(repoNode, "description"),
+                new GitHubResponse.GitHubUser(text(repoNode.path("owner"), "login")),
+                text(repoNode, "name"),
+                text(repoNode, "description"));
+        return assembler.assembleBase(base);
+    }
+
+    private GitHubUpdateDetail toIssueUpdate(JsonNode issueNode) {
+        GitHubResponse base = toResponse(issueNode);
+        if (base == null) {
+            return null;
+        }
+        GitHubCommentResponse comment =
+                assembler.hasIssueActivity(base) ? toComment(firstNode(issueNode.path("comments"))) : null;
+        return assembler.assembleIssueUpdate(base, comment);
+    }
+
+    private GitHubUpdateDetail toPRUpdate(JsonNode prNode) {
+        GitHubResponse base = toResponse(prNode);
+        if (base == null) {
+            return null;
+        }
+        GitHubCommentResponse comment = toComment(firstNode(prNode.path("comments")));
+        JsonNode commitNode = firstNode(prNode.path("commits"));
+        GitHubCommitResponse commit = commitNode == null ? null : toCommit(commitNode.path("commit"));
+        return assembler.assemblePRUpdate(base, comment, commit);
+    }
+
+    private GitHubResponse toResponse(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        return new GitHubResponse(
+                text(node, "createdAt"),
+                text(node, "updatedAt"),
+                text(node, "title"),
+                text(node, "body"),
+                new GitHubResponse.GitHubUser(text(node.path("author"), "login")),
+                null,
+                null);
+    }
+
+    private GitHubCommentResponse toComment(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        return new GitHubCommentResponse(
+                text(node, "createdAt"),
+                text(node, "body"),
+                new GitHubCommentResponse.GitHubUser(text(node.path("author"), "login")));
+    }
+
+    private GitHubCommitResponse toCommit(JsonNode node) {
+        if (!node.isObject() || text(node, "oid") == null) {
+            return null;
+        }
+        JsonNode author = node.path("author");
+        return new GitHubCommitResponse(
+                text(node, "oid"),
+                new GitHubCommitResponse.Commit(
+                        text(node, "message"),
+                        new GitHubCommitResponse.Commit.Author(text(author, "name"), text(author, "date"))));
+    }
+
+    private JsonNode firstNode(JsonNode connection) {
+        JsonNode nodes = connection.path("nodes");
+        return nodes.isArray() && !nodes.isEmpty() ? nodes.get(0) : null;
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isMissingNode() || value.isNull() ? null : value.asText();
+    }
+}
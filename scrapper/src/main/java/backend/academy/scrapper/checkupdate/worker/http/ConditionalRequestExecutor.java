@@ -0,0 +1,154 @@
+package backend.academy.scrapper.checkupdate.worker.http;
+
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.HostRateLimiter;
+import backend.academy.scrapper.model.app.response.so.StackExchangeQuota;
+import backend.academy.scrapper.model.helper.CachedResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Выполняет условные GET-запросы к внешним API.
+ *
+ * <p>Если для URI уже есть сохранённый ответ, к запросу добавляются заголовки {@code If-None-Match} и
+ * {@code If-Modified-Since}. Ответ 304 не тянет тело заново: возвращается ранее десериализованный ответ, поэтому
+ * провайдеры получают тот же {@code UpdateDetail}, что и в прошлый раз. У GitHub такие ответы не расходуют основной
+ * лимит запросов.
+ */
+@Slf4j
+@Component
+public class ConditionalRequestExecutor {
+
+    private static final String METRIC_NAME = "scrapper.http.conditional.requests";
+
+    private final RestClient restClient;
+    private final HttpValidatorStore validatorStore;
+    private final HostRateLimiter rateLimiter;
+    private final SingleFlightGroup singleFlight;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ConditionalRequestExecutor(
+            RestClient restClient,
+            HttpValidatorStore validatorStore,
+            HostRateLimiter rateLimiter,
+            SingleFlightGroup singleFlight,
+            MeterRegistry meterRegistry) {
+        this.restClient = restClient;
+        this.validatorStore = validatorStore;
+        this.rateLimiter = rateLimiter;
+        this.singleFlight = singleFlight;
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .description("Условные запросы, на которые внешний API ответил 304 Not Modified")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .description("Запросы, по которым внешний API вернул полное тело ответа")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Выполняет условный GET-запрос. Одновременные и недавние запросы того же URI объединяются через
+     * {@link SingleFlightGroup}: вызывающие получают общий ответ.
+     *
+     * @param uri URI запроса
+     * @param headers дополнительные заголовки (например, авторизация)
+     * @param clazz класс тела ответа
+     * @param <T> тип тела ответа
+     * @return свежий ответ либо сохранённый, если сервер ответил 304
+     */
+    public <T> ResponseEntity<T> get(String uri, Consumer<HttpHeaders> headers, Class<T> clazz) {
+        return singleFlight.execute(uri + "|" + clazz.getName(), () -> {
+            CachedResponse<T> cached = validatorStore.get(uri);
+            ResponseEntity<T> response = restClient
+                    .get()
+                    .uri(uri)
+                    .headers(headers)
+                    .headers(h -> applyValidators(h, cached))
+                    .retrieve()
+                    .toEntity(clazz);
+            return resolve(uri, cached, response);
+        });
+    }
+
+    /**
+     * Выполняет условный GET-запрос и возвращает только тело ответа.
+     *
+     * @param uri URI запроса
+     * @param headers дополнительные заголовки
+     * @param clazz класс тела ответа
+     * @param <T> тип тела ответа
+     * @return тело ответа или null, если оно отсутствует
+     */
+    public <T> T getBody(String uri, Consumer<HttpHeaders> headers, Class<T> clazz) {
+        return get(uri, headers, clazz).getBody();
+    }
+
+    /**
+     * Добавляет к запросу валидаторы сохранённого ответа. Используется и неблокирующим клиентом.
+     *
+     * @param headers заголовки запроса
+     * @param cached сохранённый ответ (может быть null)
+     */
+    public void applyValidators(HttpHeaders headers, CachedResponse<?> cached) {
+        if (cached == null) {
+            return;
+        }
+        if (cached.etag() != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
+        if (cached.lastModified() >= 0) {
+            headers.setIfModifiedSince(cached.lastModified());
+        }
+    }
+
+    /**
+     * Разбирает ответ на условный запрос: при 304 возвращает сохранённый ответ, иначе запоминает новый. Обновляет
+     * счётчики попаданий и промахов. Сведения о квоте из свежего тела ответа StackExchange передаются в
+     * {@link HostRateLimiter}.
+     *
+     * @param uri URI запроса
+     * @param cached ответ, валидаторы которого были отправлены (может быть null)
+     * @param response ответ сервера
+     * @param <T> тип тела ответа
+     * @return ответ, который следует использовать
+     */
+    public <T> ResponseEntity<T> resolve(String uri, CachedResponse<T> cached, ResponseEntity<T> response) {
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+            hitCounter.increment();
+            log.debug("Not modified: {}", uri);
+            return cached.entity();
+        }
+
+        missCounter.increment();
+        remember(uri, response);
+        String host = URI.create(uri).getHost();
+        if (host != null && response.getBody() instanceof StackExchangeQuota quota) {
+            rateLimiter.recordQuota(host, quota.backoff(), quota.quotaRemaining());
+        }
+        return response;
+    }
+
+    private <T> void remember(String uri, ResponseEntity<T> response) {
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            validatorStore.evict(uri);
+            return;
+        }
+        HttpHeaders responseHeaders = response.getHeaders();
+        CachedResponse<T> entry =
+                new CachedResponse<>(responseHeaders.getETag(), responseHeaders.getLastModified(), response);
+        if (entry.hasValidators()) {
+            validatorStore.put(uri, entry);
+        } else {
+            validatorStore.evict(uri);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package backend.academy.scrapper.checkupdate.worker.http;
+
+import backend.academy.scrapper.model.helper.CachedResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Хранилище валидаторов (ETag / Last-Modified) и последних ответов, ключом служит URI запроса.
+ *
+ * <p>Размер ограничен: при переполнении вытесняются записи, к которым дольше всего не обращались.
+ */
+@Component
+public class HttpValidatorStore {
+
+    static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, CachedResponse<?>> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse<?>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Возвращает сохранённый ответ для URI.
+     *
+     * @param uri URI запроса
+     * @return закэшированный ответ или null, если его нет
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> CachedResponse<T> get(String uri) {
+        return (CachedResponse<T>) entries.get(uri);
+    }
+
+    /**
+     * Сохраняет ответ и его валидаторы для URI.
+     *
+     * @param uri URI запроса
+     * @param response ответ с валидаторами
+     */
+    public synchronized void put(String uri, CachedResponse<?> response) {
+        entries.put(uri, response);
+    }
+
+    /**
+     * Удаляет запись для URI.
+     *
+     * @param uri URI запроса
+     */
+    public synchronized void evict(String uri) {
+        entries.remove(uri);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,55 @@
+package backend.academy.scrapper.checkupdate.worker.http;
+
+import backend.academy.scrapper.model.helper.CachedResponse;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Неблокирующий вариант {@link ConditionalRequestExecutor} на WebClient. Использует то же хранилище валидаторов и те же
+ * счётчики попаданий, поэтому режимы обработки можно переключать без потери сохранённых ответов.
+ */
+@Component
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+public class ReactiveConditionalRequestExecutor {
+
+    private final WebClient upstreamWebClient;
+    private final HttpValidatorStore validatorStore;
+    private final ConditionalRequestExecutor conditionalRequestExecutor;
+
+    public ReactiveConditionalRequestExecutor(
+            WebClient upstreamWebClient,
+            HttpValidatorStore validatorStore,
+            ConditionalRequestExecutor conditionalRequestExecutor) {
+        this.upstreamWebClient = upstreamWebClient;
+        this.validatorStore = validatorStore;
+        this.conditionalRequestExecutor = conditionalRequestExecutor;
+    }
+
+    /**
+     * Выполняет условный GET-запрос.
+     *
+     * @param uri URI запроса
+     * @param headers дополнительные заголовки (например, авторизация)
+     * @param clazz класс тела ответа
+     * @param <T> тип тела ответа
+     * @return свежий ответ либо сохранённый, если сервер ответил 304
+     */
+    public <T> Mono<ResponseEntity<T>> get(String uri, Consumer<HttpHeaders> headers, Class<T> clazz) {
+        return Mono.defer(() -> {
+            CachedResponse<T> cached = validatorStore.get(uri);
+            return upstreamWebClient
+                    .get()
+                    .uri(uri)
+                    .headers(headers)
+                    .headers(h -> conditionalRequestExecutor.applyValidators(h, cached))
+                    .retrieve()
+                    .toEntity(clazz)
+                    .map(response -> conditionalRequestExecutor.resolve(uri, cached, response));
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package backend.academy.scrapper.checkupdate.worker.http;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.ScrapperException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Объединяет одинаковые запросы к внешним API (single-flight).
+ *
+ * <p>Пока запрос с тем же ключом выполняется, остальные вызывающие ждут его результата, а не отправляют свой. Готовый
+ * результат ещё {@code app.update.single-flight-ttl-ms} миллисекунд отдаётся без запроса, поэтому ссылки одного
+ * репозитория в соседних пакетах тоже используют общий ответ. Ошибки не запоминаются: следующий вызов выполнит запрос
+ * заново. Ожидание прерываемо, поэтому дедлайн проверки ссылки освобождает и ждущих чужого ответа.
+ */
+@Component
+public class SingleFlightGroup {
+
+    static final int MAX_ENTRIES = 10_000;
+    private static final String METRIC_NAME = "scrapper.http.single-flight";
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Counter leaderCounter;
+    private final Counter sharedCounter;
+
+    @Autowired
+    public SingleFlightGroup(ScrapperConfig config, MeterRegistry meterRegistry) {
+        this(config.update().singleFlightTtlMs(), meterRegistry);
+    }
+
+    public SingleFlightGroup(long ttlMs, MeterRegistry meterRegistry) {
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.leaderCounter = Counter.builder(METRIC_NAME)
+                .description("Запросы, отправленные во внешний API")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.sharedCounter = Counter.builder(METRIC_NAME)
+                .description("Запросы, получившие результат уже выполняющегося или недавнего запроса")
+                .tag("result", "shared")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Выполняет вызов или присоединяется к уже выполняющемуся (недавно выполненному) вызову с тем же ключом.
+     *
+     * @param key ключ запроса (например, URI и тип ответа)
+     * @param call вызов, выполняемый только первым из конкурирующих потоков
+     * @param <T> тип результата
+     * @return результат вызова, общий для всех участников
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        while (true) {
+            long now = System.nanoTime();
+            Flight existing = flights.get(key);
+            if (existing != null && !existing.expired(now, ttlNanos)) {
+                sharedCounter.increment();
+                return (T) existing.await();
+            }
+
+            Flight own = new Flight();
+            boolean leader =
+                    existing == null ? flights.putIfAbsent(key, own) == null : flights.replace(key, existing, own);
+            if (leader) {
+                leaderCounter.increment();
+                return (T) lead(key, own, call);
+            }
+        }
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private Object lead(String key, Flight own, Supplier<?> call) {
+        try {
+            Object result = call.get();
+            own.complete(result);
+            if (ttlNanos == 0) {
+                flights.remove(key, own);
+            } else if (flights.size() > MAX_ENTRIES) {
+                long now = System.nanoTime();
+                flights.values().removeIf(flight -> flight.expired(now, ttlNanos));
+            }
+            return result;
+        } catch (Throwable e) {
+            // Любая ошибка, включая Error, завершает вызов, иначе ожидающие с этим ключом зависнут навсегда
+            flights.remove(key, own);
+            own.fail(e);
+            throw e;
+        }
+    }
+
+    /** Один выполняющийся или выполненный вызов. */
+    private static final class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long completedAt;
+        private volatile boolean completed;
+
+        void complete(Object result) {
+            completedAt = System.nanoTime();
+            completed = true;
+            future.complete(result);
+        }
+
+        void fail(Throwable e) {
+            future.completeExceptionally(e);
+        }
+
+        boolean expired(long now, long ttlNanos) {
+            return completed && now - completedAt >= ttlNanos;
+        }
+
+        Object await() {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new ScrapperException(
+                        "Ошибка общего запроса к внешнему API", e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ScrapperException("Ожидание общего запроса прервано", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package backend.academy.scrapper.checkupdate.worker.http.ratelimit;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Пул токенов GitHub из {@code app.github-tokens}.
+ *
+ * <p>Остаток и момент сброса лимита каждого токена учитывает {@link HostRateLimiter} под отдельным ключом
+ * {@code api.github.com#N}, поэтому пауза или исчерпание одного токена не мешает остальным. GraphQL API GitHub считает
+ * запросы по своей квоте ({@code X-RateLimit-Resource: graphql}), поэтому запросы к {@code /graphql} учитываются под
+ * ключом {@code api.github.com#N/graphql} и не затирают остаток REST-квоты того же токена. Для каждого запроса
+ * выбирается токен с наибольшим остатком; при равенстве токены перебираются по кругу. Если исчерпаны все токены,
+ * выбирается тот, что освободится раньше, и {@link HostRateLimiter} откладывает проверку до его сброса.
+ */
+@Slf4j
+@Component
+public class GitHubTokenPool {
+
+    private static final String GITHUB_HOST = "api.github.com";
+    private static final String GRAPHQL_PATH = "/graphql";
+
+    private final List<String> tokens;
+    private final Map<String, String> keysByToken = new HashMap<>();
+    private final HostRateLimiter rateLimiter;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Autowired
+    public GitHubTokenPool(ScrapperConfig config, HostRateLimiter rateLimiter) {
+        this(config.githubTokens(), rateLimiter);
+    }
+
+    public GitHubTokenPool(List<String> tokens, HostRateLimiter rateLimiter) {
+        this.tokens = List.copyOf(new LinkedHashSet<>(tokens));
+        this.rateLimiter = rateLimiter;
+        for (int i = 0; i < this.tokens.size(); i++) {
+            keysByToken.put(this.tokens.get(i), GITHUB_HOST + "#" + (i + 1));
+        }
+        log.info("GitHub token pool initialized with {} tokens", this.tokens.size());
+    }
+
+    /**
+     * Выбирает токен для очередного запроса к REST API GitHub.
+     *
+     * @return токен с наибольшим остатком REST-квоты
+     */
+    public String acquire() {
+        return acquire("");
+    }
+
+    /**
+     * Выбирает токен для очередного запроса к GraphQL API GitHub.
+     *
+     * @return токен с наибольшим остатком GraphQL-квоты
+     */
+    public String acquireForGraphQl() {
+        return acquire(GRAPHQL_PATH);
+    }
+
+    private String acquire(String resource) {
+        if (tokens.size() == 1) {
+            return tokens.getFirst();
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), tokens.size());
+        String best = null;
+        long bestAvailable = -1;
+        Instant bestAvailableAt = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get((start + i) % tokens.size());
+            String key = keysByToken.get(token) + resource;
+            long available = rateLimiter.available(key);
+            if (available > bestAvailable) {
+                best = token;
+                bestAvailable = available;
+                bestAvailableAt = available == 0 ? rateLimiter.availableAt(key) : null;
+            } else if (available == 0 && bestAvailable == 0) {
+                Instant availableAt = rateLimiter.availableAt(key);
+                if (availableAt.isBefore(bestAvailableAt)) {
+                    best = token;
+                    bestAvailableAt = availableAt;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Возвращает ключ, под которым {@link HostRateLimiter} учитывает запрос.
+     *
+     * @param host хост запроса
+     * @param path путь запроса (может быть null)
+     * @param authorization значение заголовка {@code Authorization} (может быть null)
+     * @return ключ токена из пула для запросов к GitHub (с суффиксом {@code /graphql} для GraphQL API), иначе сам хост
+     */
+    public String rateLimitKey(String host, String path, String authorization) {
+        if (authorization == null || !GITHUB_HOST.equalsIgnoreCase(host)) {
+            return host;
+        }
+        int space = authorization.indexOf(' ');
+        String token = space >= 0 ? authorization.substring(space + 1).trim() : authorization.trim();
+        String key = keysByToken.get(token);
+        if (key == null) {
+            return host;
+        }
+        return GRAPHQL_PATH.equals(path) ? key + GRAPHQL_PATH : key;
+    }
+}
@@ -0,0 +1,282 @@
+package backend.academy.scrapper.checkupdate.worker.http.ratelimit;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ограничитель запросов к внешним API, отдельный для каждого хоста.
+ *
+ * <p>Состояние лимита берётся из ответов: {@code X-RateLimit-Remaining} / {@code X-RateLimit-Reset} и
+ * {@code Retry-After} (GitHub), {@code backoff} / {@code quota_remaining} из тела ответа (StackExchange). Пока остаток
+ * выше {@code app.rate-limit.low-watermark}, запросы не задерживаются. Ниже порога оставшиеся запросы равномерно
+ * распределяются до момента сброса лимита. Если лимит исчерпан или сервер попросил подождать дольше
+ * {@code app.rate-limit.max-wait-ms}, запрос не отправляется, а бросается {@link CheckDeferredException}.
+ *
+ * <p>Ключом состояния обычно служит хост. Запросы к GitHub учитываются отдельно для каждого токена и для каждой квоты
+ * (REST и GraphQL): ключ выдаёт {@link GitHubTokenPool#rateLimitKey(String, String, String)}.
+ */
+@Slf4j
+@Component
+public class HostRateLimiter {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String RESET_HEADER = "X-RateLimit-Reset";
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofMinutes(1);
+    private static final String DEFERRED_METRIC = "scrapper.ratelimit.deferred";
+
+    private final Map<String, HostState> states = new ConcurrentHashMap<>();
+    private final int lowWatermark;
+    private final Duration maxWait;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public HostRateLimiter(ScrapperConfig config, MeterRegistry meterRegistry) {
+        this(config.rateLimit(), meterRegistry, Clock.systemUTC());
+    }
+
+    HostRateLimiter(ScrapperConfig.RateLimit rateLimit, MeterRegistry meterRegistry, Clock clock) {
+        this.lowWatermark = rateLimit.lowWatermark();
+        this.maxWait = Duration.ofMillis(rateLimit.maxWaitMs());
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Резервирует один запрос к хосту.
+     *
+     * @param host хост внешнего API
+     * @return сколько нужно подождать перед отправкой запроса (ноль, если ждать не нужно)
+     * @throws CheckDeferredException если ждать пришлось бы дольше {@code app.rate-limit.max-wait-ms}
+     */
+    public Duration reserve(String host) {
+        HostState state = states.computeIfAbsent(host, h -> new HostState());
+        Instant now = clock.instant();
+        Duration wait;
+        synchronized (state) {
+            wait = state.reserve(now, lowWatermark, maxWait);
+        }
+        if (wait.compareTo(maxWait) > 0) {
+            meterRegistry.counter(DEFERRED_METRIC, "host", host).increment();
+            throw new CheckDeferredException(host, now.plus(wait));
+        }
+        return wait;
+    }
+
+    /**
+     * Учитывает заголовки ответа хоста.
+     *
+     * @param host хост внешнего API
+     * @param status код ответа
+     * @param headers заголовки ответа
+     * @return момент, до которого хост отклоняет запросы, если ответ означает превышение лимита
+     */
+    public Optional<Instant> record(String host, HttpStatusCode status, HttpHeaders headers) {
+        Instant now = clock.instant();
+        Long remaining = parseLong(headers.getFirst(REMAINING_HEADER));
+        Long reset = parseLong(headers.getFirst(RESET_HEADER));
+        Instant retryAt = parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER), now);
+
+        boolean limited = status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                || (status.isSameCodeAs(HttpStatus.FORBIDDEN)
+                        && (retryAt != null || (remaining != null && remaining == 0)));
+        if (remaining == null && retryAt == null && !limited) {
+            return Optional.empty();
+        }
+
+        HostState state = states.computeIfAbsent(host, h -> new HostState());
+        Instant pausedUntil;
+        synchronized (state) {
+            if (remaining != null) {
+                state.remaining = remaining;
+                state.resetAt = reset != null ? Instant.ofEpochSecond(reset) : null;
+            }
+            if (retryAt != null) {
+                state.pauseUntil(retryAt);
+            } else if (limited) {
+                state.pauseUntil(
+                        state.remaining == 0 && state.resetAt != null ? state.resetAt : now.plus(DEFAULT_RETRY_AFTER));
+            }
+            pausedUntil = state.pausedUntil;
+        }
+        if (limited) {
+            log.warn("Rate limit hit for {}, pausing until {}", host, pausedUntil);
+            return Optional.of(pausedUntil);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Учитывает поля {@code backoff} и {@code quota_remaining} из тела ответа StackExchange. Дневная квота
+     * StackExchange сбрасывается в полночь по UTC.
+     *
+     * @param host хост внешнего API
+     * @param backoff сколько секунд не обращаться к тому же методу (может быть null)
+     * @param quotaRemaining остаток дневной квоты (может быть null)
+     */
+    public void recordQuota(String host, Integer backoff, Integer quotaRemaining) {
+        if (backoff == null && quotaRemaining == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        HostState state = states.computeIfAbsent(host, h -> new HostState());
+        synchronized (state) {
+            if (quotaRemaining != null) {
+                state.remaining = quotaRemaining;
+                state.resetAt = LocalDate.ofInstant(now, ZoneOffset.UTC)
+                        .plusDays(1)
+                        .atStartOfDay(ZoneOffset.UTC)
+                        .toInstant();
+            }
+            if (backoff != null) {
+                log.info("{} asked to back off for {} s", host, backoff);
+                state.pauseUntil(now.plusSeconds(backoff));
+            }
+        }
+    }
+
+    /**
+     * Оценивает, сколько запросов по ключу можно отправить до сброса лимита, не дожидаясь паузы.
+     *
+     * @param host хост внешнего API или ключ лимита
+     * @return остаток лимита; {@link Long#MAX_VALUE}, если лимит неизвестен или уже сброшен; ноль, если ключ на паузе
+     */
+    public long available(String host) {
+        HostState state = states.get(host);
+        if (state == null) {
+            return Long.MAX_VALUE;
+        }
+        synchronized (state) {
+            return state.available(clock.instant());
+        }
+    }
+
+    /**
+     * Возвращает момент, начиная с которого по ключу снова можно отправлять запросы.
+     *
+     * @param host хост внешнего API или ключ лимита
+     * @return момент окончания паузы или исчерпания лимита; текущий момент, если ограничений нет
+     */
+    public Instant availableAt(String host) {
+        Instant now = clock.instant();
+        HostState state = states.get(host);
+        if (state == null) {
+            return now;
+        }
+        synchronized (state) {
+            return state.availableAt(now);
+        }
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Instant parseRetryAfter(String value, Instant now) {
+        if (value == null) {
+            return null;
+        }
+        Long seconds = parseLong(value);
+        if (seconds != null) {
+            return now.plusSeconds(seconds);
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /** Изменяемое состояние лимита одного хоста; доступ только под монитором экземпляра. */
+    private static final class HostState {
+        private long remaining = -1;
+        private Instant resetAt;
+        private Instant pausedUntil;
+        private Instant nextSlot;
+
+        /**
+         * Занимает слот и единицу остатка, если ждать придётся не дольше {@code maxWait}. Иначе состояние не меняется:
+         * отложенная проверка не расходует квоту и не сдвигает слоты последующих запросов.
+         */
+        Duration reserve(Instant now, int lowWatermark, Duration maxWait) {
+            if (pausedUntil != null && pausedUntil.isAfter(now)) {
+                return Duration.between(now, pausedUntil);
+            }
+            if (resetAt != null && !resetAt.isAfter(now)) {
+                remaining = -1;
+                resetAt = null;
+                nextSlot = null;
+            }
+            if (remaining == 0 && resetAt != null) {
+                return Duration.between(now, resetAt);
+            }
+            Duration wait = Duration.ZERO;
+            if (remaining > 0 && remaining < lowWatermark && resetAt != null) {
+                Duration spacing = Duration.between(now, resetAt).dividedBy(remaining);
+                Instant slot = nextSlot != null && nextSlot.isAfter(now) ? nextSlot : now;
+                wait = Duration.between(now, slot);
+                if (wait.compareTo(maxWait) > 0) {
+                    return wait;
+                }
+                nextSlot = slot.plus(spacing);
+            }
+            if (remaining > 0) {
+                remaining--;
+            }
+            return wait;
+        }
+
+        long available(Instant now) {
+            if (pausedUntil != null && pausedUntil.isAfter(now)) {
+                return 0;
+            }
+            if (remaining < 0 || (resetAt != null && !resetAt.isAfter(now))) {
+                return Long.MAX_VALUE;
+            }
+            return remaining;
+        }
+
+        Instant availableAt(Instant now) {
+            Instant at = now;
+            if (remaining == 0 && resetAt != null && resetAt.isAfter(at)) {
+                at = resetAt;
+            }
+            if (pausedUntil != null && pausedUntil.isAfter(at)) {
+                at = pausedUntil;
+            }
+            return at;
+        }
+
+        void pauseUntil(Instant until) {
+            if (pausedUntil == null || until.isAfter(pausedUntil)) {
+                pausedUntil = until;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package backend.academy.scrapper.checkupdate.worker.http.ratelimit;
+
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Перехватчик {@link org.springframework.web.client.RestClient}, который перед каждым запросом резервирует место в
+ * {@link HostRateLimiter} (при необходимости ожидая), а по ответу обновляет состояние лимита. Ответ, означающий
+ * превышение лимита, превращается в {@link CheckDeferredException}. Запросы к GitHub учитываются по токену, ключ выдаёт
+ * {@link GitHubTokenPool}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final HostRateLimiter rateLimiter;
+    private final GitHubTokenPool tokenPool;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String uriHost = request.getURI().getHost();
+        if (uriHost == null) {
+            return execution.execute(request, body);
+        }
+        String host = tokenPool.rateLimitKey(
+                uriHost, request.getURI().getPath(), request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+
+        Duration wait = rateLimiter.reserve(host);
+        if (!wait.isZero()) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for rate limit of " + host);
+            }
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        Optional<Instant> pausedUntil = rateLimiter.record(host, response.getStatusCode(), response.getHeaders());
+        if (pausedUntil.isPresent()) {
+            response.close();
+            throw new CheckDeferredException(host, pausedUntil.get());
+        }
+        return response;
+    }
+}
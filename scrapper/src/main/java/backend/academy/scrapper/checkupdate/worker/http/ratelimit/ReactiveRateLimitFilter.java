@@ -0,0 +1,49 @@
+package backend.academy.scrapper.checkupdate.worker.http.ratelimit;
+
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Неблокирующий аналог {@link RateLimitInterceptor} для
+ * {@link org.springframework.web.reactive.function.client.WebClient}: ожидание лимита выполняется через
+ * {@link Mono#delay(Duration)}, а не блокировкой потока event loop.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveRateLimitFilter implements ExchangeFilterFunction {
+
+    private final HostRateLimiter rateLimiter;
+    private final GitHubTokenPool tokenPool;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String uriHost = request.url().getHost();
+        if (uriHost == null) {
+            return next.exchange(request);
+        }
+        String host = tokenPool.rateLimitKey(
+                uriHost, request.url().getPath(), request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+        return Mono.defer(() -> {
+            Duration wait = rateLimiter.reserve(host);
+            Mono<ClientResponse> exchange = next.exchange(request).flatMap(response -> {
+                Optional<Instant> pausedUntil = rateLimiter.record(
+                        host, response.statusCode(), response.headers().asHttpHeaders());
+                if (pausedUntil.isPresent()) {
+                    return response.releaseBody().then(Mono.error(new CheckDeferredException(host, pausedUntil.get())));
+                }
+                return Mono.just(response);
+            });
+            return wait.isZero() ? exchange : Mono.delay(wait).then(exchange);
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package backend.academy.scrapper.checkupdate.worker.http.transport;
+
+import java.net.URI;
+import java.util.function.Function;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.core.publisher.Mono;
+
+/**
+ * Неблокирующий аналог {@link HostRoutingClientHttpRequestFactory} для
+ * {@link org.springframework.web.reactive.function.client.WebClient}.
+ */
+public class HostRoutingClientHttpConnector implements ClientHttpConnector {
+
+    private final Function<String, ClientHttpConnector> router;
+
+    public HostRoutingClientHttpConnector(UpstreamHttpClients clients) {
+        this.router = clients.router(ReactorClientHttpConnector::new);
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(
+            HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        return router.apply(uri.getHost()).connect(method, uri, requestCallback);
+    }
+}
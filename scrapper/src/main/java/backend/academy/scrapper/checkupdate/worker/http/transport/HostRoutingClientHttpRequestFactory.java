@@ -0,0 +1,27 @@
+package backend.academy.scrapper.checkupdate.worker.http.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.function.Function;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+
+/**
+ * Фабрика запросов {@link org.springframework.web.client.RestClient}, которая выбирает HTTP-клиент по хосту запроса из
+ * {@link UpstreamHttpClients}.
+ */
+public class HostRoutingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final Function<String, ClientHttpRequestFactory> router;
+
+    public HostRoutingClientHttpRequestFactory(UpstreamHttpClients clients) {
+        this.router = clients.router(ReactorClientHttpRequestFactory::new);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return router.apply(uri.getHost()).createRequest(uri, httpMethod);
+    }
+}
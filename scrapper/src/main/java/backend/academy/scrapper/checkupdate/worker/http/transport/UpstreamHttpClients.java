@@ -0,0 +1,33 @@
+package backend.academy.scrapper.checkupdate.worker.http.transport;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Настроенные HTTP-клиенты Reactor Netty для внешних API: отдельный клиент на каждый известный хост (свои таймауты,
+ * протокол) и общий клиент для остальных адресов. Все клиенты используют один пул соединений.
+ *
+ * @param byHost клиенты по имени хоста в нижнем регистре
+ * @param fallback клиент для хостов, которых нет в {@code byHost}
+ */
+public record UpstreamHttpClients(Map<String, HttpClient> byHost, HttpClient fallback) {
+
+    /**
+     * Оборачивает каждый клиент адаптером и возвращает выбор адаптера по хосту запроса. Адаптеры создаются один раз,
+     * хосты, которых нет в {@code byHost}, и запросы без хоста получают адаптер общего клиента.
+     *
+     * @param adapter обёртка клиента (фабрика запросов, коннектор)
+     * @param <T> тип адаптера
+     * @return функция выбора адаптера по хосту запроса (может принимать null)
+     */
+    public <T> Function<String, T> router(Function<HttpClient, T> adapter) {
+        Map<String, T> adapted = new HashMap<>();
+        byHost.forEach((host, client) -> adapted.put(host, adapter.apply(client)));
+        T adaptedFallback = adapter.apply(fallback);
+        return host ->
+                host == null ? adaptedFallback : adapted.getOrDefault(host.toLowerCase(Locale.ROOT), adaptedFallback);
+    }
+}
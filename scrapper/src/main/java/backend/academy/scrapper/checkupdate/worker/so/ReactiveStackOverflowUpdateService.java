@@ -0,0 +1,70 @@
+package backend.academy.scrapper.checkupdate.worker.so;
+
+import backend.academy.scrapper.checkupdate.worker.http.ReactiveConditionalRequestExecutor;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.converter.base.StackOverflowResponseConverter;
+import backend.academy.scrapper.model.app.request.StackOverflowLinkRequest;
+import backend.academy.scrapper.model.app.response.so.StackOverflowAnswerDetail;
+import backend.academy.scrapper.model.app.response.so.StackOverflowAnswerDetailWrapper;
+import backend.academy.scrapper.model.app.response.so.StackOverflowQuestionDetail;
+import backend.academy.scrapper.model.app.update.impl.StackOverflowUpdateDetail;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Неблокирующий аналог {@link StackOverflowUpdateService} на WebClient. Детали вопроса и последний ответ запрашиваются
+ * одновременно.
+ */
+@Service
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+public class ReactiveStackOverflowUpdateService {
+
+    private static final String API_URL = "https://api.stackexchange.com";
+
+    private final ReactiveConditionalRequestExecutor requestExecutor;
+    private final StackOverflowResponseConverter stackOverflowResponseConverter;
+    private final String stackOverflowKey;
+    private final String stackOverflowAccessToken;
+
+    public ReactiveStackOverflowUpdateService(
+            ReactiveConditionalRequestExecutor requestExecutor,
+            ScrapperConfig scrapperConfig,
+            StackOverflowResponseConverter stackOverflowResponseConverter) {
+        this.requestExecutor = requestExecutor;
+        this.stackOverflowResponseConverter = stackOverflowResponseConverter;
+        this.stackOverflowKey = scrapperConfig.stackOverflow().key();
+        this.stackOverflowAccessToken = scrapperConfig.stackOverflow().accessToken();
+    }
+
+    /**
+     * Получает детальную информацию по обновлению (последний ответ) для вопроса StackOverflow, используя
+     * StackOverflowLinkRequest.
+     */
+    public Mono<StackOverflowUpdateDetail> fetchLatestUpdateDetail(StackOverflowLinkRequest request) {
+        String questionId = request.questionId();
+        String questionUrl = String.format(
+                API_URL + "/2.3/questions/%s?site=stackoverflow&filter=!)Q2B_A7tT0)5rwkNz6Wv&key=%s&access_token=%s",
+                questionId,
+                stackOverflowKey,
+                stackOverflowAccessToken);
+        String answerUrl = String.format(
+                API_URL + "/2.3/questions/%s/answers?order=desc&sort=creation&site=stackoverflow&filter=withbody",
+                questionId);
+
+        Mono<Optional<StackOverflowQuestionDetail>> question = requestExecutor
+                .get(questionUrl, headers -> {}, StackOverflowQuestionDetail.class)
+                .map(entity -> Optional.ofNullable(entity.getBody()));
+        Mono<Optional<StackOverflowAnswerDetail>> answer = requestExecutor
+                .get(answerUrl, headers -> {}, StackOverflowAnswerDetailWrapper.class)
+                .map(entity -> Optional.ofNullable(entity.getBody())
+                        .map(StackOverflowAnswerDetailWrapper::items)
+                        .filter(items -> !items.isEmpty())
+                        .map(items -> items.getFirst()));
+
+        return Mono.zip(question, answer)
+                .map(result -> stackOverflowResponseConverter.convert(
+                        result.getT1().orElse(null), result.getT2().orElse(null)));
+    }
+}
@@ -1,58 +1,74 @@
 package backend.academy.scrapper.checkupdate.worker.so;
 
+import backend.academy.scrapper.checkupdate.worker.http.ConditionalRequestExecutor;
 import backend.academy.scrapper.config.ScrapperConfig;
 import backend.academy.scrapper.converter.base.StackOverflowResponseConverter;
 import backend.academy.scrapper.model.app.request.StackOverflowLinkRequest;
 import backend.academy.scrapper.model.app.response.so.StackOverflowAnswerDetail;
 import backend.academy.scrapper.model.app.response.so.StackOverflowAnswerDetailWrapper;
 import backend.academy.scrapper.model.app.response.so.StackOverflowQuestionDetail;
+import backend.academy.scrapper.model.app.response.so.StackOverflowQuestionDetailWrapper;
 import backend.academy.scrapper.model.app.update.impl.StackOverflowUpdateDetail;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
 @Slf4j
 @Service
 public class StackOverflowUpdateService {
 
-    private final RestClient restClient;
+    private static final String API_URL = "https://api.stackexchange.com";
+
+    private final ConditionalRequestExecutor requestExecutor;
     private final StackOverflowResponseConverter stackOverflowResponseConverter;
     private final String stackOverflowKey;
     private final String stackOverflowAccessToken;
+    private final ScrapperConfig.StackOverflowApi api;
 
     public StackOverflowUpdateService(
-            RestClient restClient,
+            ConditionalRequestExecutor requestExecutor,
             ScrapperConfig scrapperConfig,
             StackOverflowResponseConverter stackOverflowResponseConverter) {
-        this.restClient = restClient;
+        this.requestExecutor = requestExecutor;
         this.stackOverflowResponseConverter = stackOverflowResponseConverter;
         this.stackOverflowKey = scrapperConfig.stackOverflow().key();
         this.stackOverflowAccessToken = scrapperConfig.stackOverflow().accessToken();
+        this.api = scrapperConfig.stackOverflowApi();
     }
 
     /**
      * Получает детальную информацию по обновлению (последний ответ) для вопроса StackOverflow, используя
-     * StackOverflowLinkRequest.
+     * StackOverflowLinkRequest. Если API ответил 304, используется ранее полученный ответ.
      */
     public StackOverflowUpdateDetail fetchLatestUpdateDetail(StackOverflowLinkRequest request) {
         String questionId = request.questionId();
 
         // Формируем URL для получения деталей вопроса
         String questionUrl = String.format(
-                "/2.3/questions/%s?site=stackoverflow&filter=!)Q2B_A7tT0)5rwkNz6Wv&key=%s&access_token=%s",
-                questionId, stackOverflowKey, stackOverflowAccessToken);
+                API_URL + "/2.3/questions/%s?site=stackoverflow&filter=!)Q2B_A7tT0)5rwkNz6Wv&key=%s&access_token=%s",
+                questionId,
+                stackOverflowKey,
+                stackOverflowAccessToken);
 
-        // Синхронный запрос для получения информации о вопросе
+        // Синхронный условный запрос для получения информации о вопросе
         StackOverflowQuestionDetail questionDetail =
-                restClient.get().uri(questionUrl).retrieve().body(StackOverflowQuestionDetail.class);
+                requestExecutor.getBody(questionUrl, headers -> {}, StackOverflowQuestionDetail.class);
 
         // Формируем URL для получения последнего ответа
         String answerUrl = String.format(
-                "/2.3/questions/%s/answers?order=desc&sort=creation&site=stackoverflow&filter=withbody", questionId);
+                API_URL + "/2.3/questions/%s/answers?order=desc&sort=creation&site=stackoverflow&filter=withbody",
+                questionId);
 
-        // Синхронный запрос для получения обёртки с ответами
+        // Синхронный условный запрос для получения обёртки с ответами
         StackOverflowAnswerDetailWrapper answerWrapper =
-                restClient.get().uri(answerUrl).retrieve().body(StackOverflowAnswerDetailWrapper.class);
+                requestExecutor.getBody(answerUrl, headers -> {}, StackOverflowAnswerDetailWrapper.class);
 
         // Извлекаем первый (последний по времени) ответ, если он присутствует
         StackOverflowAnswerDetail answerDetail = null;
@@ -65,4 +81,129 @@ public class StackOverflowUpdateService {
         // Конвертируем полученные данные в StackOverflowUpdateDetail и возвращаем
         return stackOverflowResponseConverter.convert(questionDetail, answerDetail);
     }
+
+    /**
+     * Получает детали обновлений для пакета вопросов за ceil(N / batch-size) запросов к {@code /questions/{ids}}.
+     *
+     * <p>Ответы запрашиваются одним вызовом {@code /questions/{ids}/answers} только для вопросов, у которых
+     * {@code last_activity_date} новее сохранённого {@code lastModified}. Для остальных возвращаются детали с прежним
+     * временем обновления, поэтому уведомление по ним не отправляется. Если ответ на вопрос не удалось однозначно
+     * определить (страница ответов неполная), ссылка в результат не попадает и будет проверена по одной.
+     *
+     * @param requests запросы по идентификатору ссылки
+     * @return детали обновления по идентификатору ссылки
+     */
+    public Map<Long, StackOverflowUpdateDetail> fetchLatestUpdateDetails(Map<Long, StackOverflowLinkRequest> requests) {
+        Map<String, Map<Long, StackOverflowLinkRequest>> byQuestion = new LinkedHashMap<>();
+        requests.forEach((linkId, request) -> byQuestion
+                .computeIfAbsent(request.questionId(), id -> new LinkedHashMap<>())
+                .put(linkId, request));
+
+        Map<Long, StackOverflowUpdateDetail> result = new HashMap<>();
+        List<String> questionIds = new ArrayList<>(byQuestion.keySet());
+        for (int from = 0; from < questionIds.size(); from += api.batchSize()) {
+            List<String> chunk = questionIds.subList(from, Math.min(from + api.batchSize(), questionIds.size()));
+            processChunk(chunk, byQuestion, result);
+        }
+        log.info("Fetched StackOverflow updates for {} of {} links in batch mode", result.size(), requests.size());
+        return result;
+    }
+
+    private void processChunk(
+            List<String> questionIds,
+            Map<String, Map<Long, StackOverflowLinkRequest>> byQuestion,
+            Map<Long, StackOverflowUpdateDetail> result) {
+        String questionsUrl = String.format(
+                API_URL + "/2.3/questions/%s?site=stackoverflow&pagesize=%d&filter=%s&key=%s&access_token=%s",
+                String.join(";", questionIds),
+                api.batchSize(),
+                api.questionFilter(),
+                stackOverflowKey,
+                stackOverflowAccessToken);
+        StackOverflowQuestionDetailWrapper questions =
+                requestExecutor.getBody(questionsUrl, headers -> {}, StackOverflowQuestionDetailWrapper.class);
+        if (questions == null || questions.items() == null) {
+            return;
+        }
+
+        // Вопросы без новой активности не требуют запроса ответов
+        Map<String, StackOverflowQuestionDetail> active = new LinkedHashMap<>();
+        LocalDateTime since = LocalDateTime.MAX;
+        for (StackOverflowQuestionDetail question : questions.items()) {
+            String questionId = String.valueOf(question.questionId());
+            Map<Long, StackOverflowLinkRequest> links = byQuestion.get(questionId);
+            if (links == null) {
+                continue;
+            }
+            LocalDateTime known = earliestLastModified(links.values());
+            if (known != null && !toDateTime(question.lastActivityDate()).isAfter(known)) {
+                links.forEach((linkId, request) -> result.put(linkId, unchanged(question, request)));
+                continue;
+            }
+            active.put(questionId, question);
+            if (known == null || since == null) {
+                since = null;
+            } else if (known.isBefore(since)) {
+                since = known;
+            }
+        }
+        if (active.isEmpty()) {
+            return;
+        }
+
+        // Один запрос ответов на все активные вопросы; fromdate отсекает заведомо известные ответы
+        String answersUrl = String.format(
+                API_URL + "/2.3/questions/%s/answers?order=desc&sort=creation&site=stackoverflow&pagesize=%d"
+                        + "&filter=%s&key=%s&access_token=%s",
+                String.join(";", active.keySet()),
+                api.batchSize(),
+                api.answerFilter(),
+                stackOverflowKey,
+                stackOverflowAccessToken);
+        if (since != null) {
+            answersUrl += "&fromdate=" + since.toEpochSecond(ZoneOffset.UTC);
+        }
+        StackOverflowAnswerDetailWrapper answers =
+                requestExecutor.getBody(answersUrl, headers -> {}, StackOverflowAnswerDetailWrapper.class);
+        if (answers == null || answers.items() == null) {
+            return;
+        }
+
+        Map<String, StackOverflowAnswerDetail> latest = new HashMap<>();
+        for (StackOverflowAnswerDetail answer : answers.items()) {
+            latest.putIfAbsent(String.valueOf(answer.questionId()), answer);
+        }
+        active.forEach((questionId, question) -> {
+            StackOverflowAnswerDetail answer = latest.get(questionId);
+            byQuestion.get(questionId).forEach((linkId, request) -> {
+                if (answer != null) {
+                    result.put(linkId, stackOverflowResponseConverter.convert(question, answer));
+                } else if (!answers.hasMore() && request.lastModified() != null) {
+                    result.put(linkId, unchanged(question, request));
+                }
+            });
+        });
+    }
+
+    private static LocalDateTime earliestLastModified(Iterable<StackOverflowLinkRequest> requests) {
+        LocalDateTime earliest = LocalDateTime.MAX;
+        for (StackOverflowLinkRequest request : requests) {
+            if (request.lastModified() == null) {
+                return null;
+            }
+            if (request.lastModified().isBefore(earliest)) {
+                earliest = request.lastModified();
+            }
+        }
+        return earliest;
+    }
+
+    private static StackOverflowUpdateDetail unchanged(
+            StackOverflowQuestionDetail question, StackOverflowLinkRequest request) {
+        return new StackOverflowUpdateDetail(question.title(), null, request.lastModified(), "");
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+    }
 }
@@ -1,8 +1,9 @@
 package backend.academy.scrapper.config;
 
-import backend.academy.dto.LinkUpdate;
 import java.util.Map;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.LongSerializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,13 +15,18 @@ import org.springframework.kafka.core.ProducerFactory;
 @Configuration
 public class KafkaProducerConfig {
 
+    /**
+     * Значение записи — уже сериализованный в Outbox JSON {@code LinkUpdate}, поэтому оно передаётся как есть, без
+     * повторной сериализации. Заголовок с типом, который раньше добавлял {@code JsonSerializer}, выставляет публикатор.
+     */
     @Bean
-    public ProducerFactory<Long, LinkUpdate> producerFactory(KafkaProperties props) {
-        return new DefaultKafkaProducerFactory<>(props.buildProducerProperties());
+    public ProducerFactory<Long, byte[]> producerFactory(KafkaProperties props) {
+        return new DefaultKafkaProducerFactory<>(
+                props.buildProducerProperties(), new LongSerializer(), new ByteArraySerializer());
     }
 
     @Bean
-    public KafkaTemplate<Long, LinkUpdate> kafkaTemplate(ProducerFactory<Long, LinkUpdate> pf) {
+    public KafkaTemplate<Long, byte[]> kafkaTemplate(ProducerFactory<Long, byte[]> pf) {
         return new KafkaTemplate<>(pf);
     }
 
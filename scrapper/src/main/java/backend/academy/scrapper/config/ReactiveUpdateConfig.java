@@ -0,0 +1,39 @@
+package backend.academy.scrapper.config;
+
+import backend.academy.scrapper.checkupdate.handler.ReactiveLinkUpdateHandler;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.ReactiveRateLimitFilter;
+import backend.academy.scrapper.checkupdate.worker.http.transport.HostRoutingClientHttpConnector;
+import backend.academy.scrapper.checkupdate.worker.http.transport.UpstreamHttpClients;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+public class ReactiveUpdateConfig {
+
+    @Bean
+    public WebClient upstreamWebClient(
+            WebClient.Builder webClientBuilder,
+            UpstreamHttpClients upstreamHttpClients,
+            ReactiveRateLimitFilter rateLimitFilter) {
+        return webClientBuilder
+                .clientConnector(new HostRoutingClientHttpConnector(upstreamHttpClients))
+                .filter(rateLimitFilter)
+                .build();
+    }
+
+    @Bean
+    public Map<LinkType, ReactiveLinkUpdateHandler<? extends Link>> reactiveLinkUpdateHandlerMap(
+            List<ReactiveLinkUpdateHandler<? extends Link>> handlers) {
+        return handlers.stream()
+                .collect(Collectors.toMap(ReactiveLinkUpdateHandler::getSupportedType, Function.identity()));
+    }
+}
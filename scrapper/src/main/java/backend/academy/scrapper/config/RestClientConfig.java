@@ -1,5 +1,8 @@
 package backend.academy.scrapper.config;
 
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.RateLimitInterceptor;
+import backend.academy.scrapper.checkupdate.worker.http.transport.HostRoutingClientHttpRequestFactory;
+import backend.academy.scrapper.checkupdate.worker.http.transport.UpstreamHttpClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
@@ -8,7 +11,13 @@ import org.springframework.web.client.RestClient;
 public class RestClientConfig {
 
     @Bean
-    public RestClient restClient(RestClient.Builder clientBuilder) {
-        return clientBuilder.build();
+    public RestClient restClient(
+            RestClient.Builder clientBuilder,
+            RateLimitInterceptor rateLimitInterceptor,
+            UpstreamHttpClients upstreamHttpClients) {
+        return clientBuilder
+                .requestFactory(new HostRoutingClientHttpRequestFactory(upstreamHttpClients))
+                .requestInterceptor(rateLimitInterceptor)
+                .build();
     }
 }
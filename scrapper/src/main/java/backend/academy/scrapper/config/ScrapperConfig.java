@@ -1,24 +1,50 @@
 package backend.academy.scrapper.config;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 @Validated
 @ConfigurationProperties(prefix = "app", ignoreUnknownFields = false)
 public record ScrapperConfig(
-        @NotEmpty String githubToken,
+        @NotEmpty List<@NotEmpty String> githubTokens,
+        @NotNull @Valid @DefaultValue GitHubApi githubApi,
         @NotNull @Valid StackOverflowCredentials stackOverflow,
+        @NotNull @Valid @DefaultValue StackOverflowApi stackOverflowApi,
         @NotEmpty String botApiUrl,
         @NotNull @Valid Timeout timeout,
         @NotNull @Valid Update update,
-        @NotNull @Valid Kafka kafka) {
+        @NotNull @Valid Kafka kafka,
+        @NotNull @Valid @DefaultValue RateLimit rateLimit,
+        @NotNull @Valid @DefaultValue CircuitBreaker circuitBreaker,
+        @NotNull @Valid @DefaultValue Transport transport,
+        @NotNull @Valid @DefaultValue Sharding sharding) {
+    public record GitHubApi(
+            @NotNull @DefaultValue("REST") Mode mode,
+            @NotEmpty @DefaultValue("https://api.github.com/graphql") String graphqlUrl,
+            @Positive @DefaultValue("50") int batchSize,
+            @Positive @DefaultValue("10000") int linkDeadlineMs) {
+        public enum Mode {
+            REST,
+            GRAPHQL
+        }
+    }
+
     public record StackOverflowCredentials(@NotEmpty String key, @NotEmpty String accessToken) {}
 
+    public record StackOverflowApi(
+            @Positive @Max(100) @DefaultValue("100") int batchSize,
+            @NotEmpty @DefaultValue("default") String questionFilter,
+            @NotEmpty @DefaultValue("withbody") String answerFilter) {}
+
     public record Timeout(@Positive int connect, @Positive int read) {}
 
     public record Update(
@@ -27,10 +53,27 @@ public record ScrapperConfig(
             @NotNull DispatcherType dispatcherType,
             @Min(1) int threadCount,
             @Positive int intervalSeconds,
-            @Positive int batchLimit) {
+            @Positive int batchLimit,
+            @Positive @DefaultValue("64") int maxInFlightRequests,
+            @Positive @DefaultValue("4") int maxDbConnections,
+            @NotNull @DefaultValue("DYNAMIC") ParallelMode parallelMode,
+            @Positive @DefaultValue("21600") int maxIntervalSeconds,
+            @PositiveOrZero @DefaultValue("10000") long singleFlightTtlMs,
+            @Positive @DefaultValue("256") int pipelineQueueCapacity,
+            @Positive @DefaultValue("100") int dispatchBatchSize,
+            @PositiveOrZero @DefaultValue("600") int priorityBoostSeconds,
+            @Positive @DefaultValue("60000") long priorityRefreshMs) {
         public enum ProcessorType {
             SEQUENTIAL,
-            PARALLEL
+            PARALLEL,
+            VIRTUAL,
+            REACTIVE,
+            PIPELINE
+        }
+
+        public enum ParallelMode {
+            STATIC,
+            DYNAMIC
         }
 
         public enum DispatcherType {
@@ -39,6 +82,43 @@ public record ScrapperConfig(
         }
     }
 
+    public record RateLimit(
+            @PositiveOrZero @DefaultValue("100") int lowWatermark,
+            @PositiveOrZero @DefaultValue("2000") long maxWaitMs) {}
+
+    public record CircuitBreaker(
+            @Positive @DefaultValue("5") int failureThreshold,
+            @Positive @DefaultValue("30000") long openMs,
+            @Positive @DefaultValue("1") int halfOpenProbes) {}
+
+    public record Transport(
+            @Positive @DefaultValue("500") int maxConnections,
+            @Positive @DefaultValue("30000") long maxIdleMs,
+            @Positive @DefaultValue("600000") long maxLifeMs,
+            @DefaultValue("true") boolean compress,
+            @NotNull @Valid @DefaultValue Upstream github,
+            @NotNull @Valid @DefaultValue Upstream stackOverflow) {
+        public record Upstream(
+                @Positive @DefaultValue("5000") int connectMs,
+                @Positive @DefaultValue("10000") int readMs,
+                @Positive @DefaultValue("16") int maxConnections,
+                @DefaultValue("true") boolean http2) {}
+    }
+
     public record Kafka(
-            @Positive int pollIntervalMs, @NotEmpty String name, @Positive int partitions, @Positive short replicas) {}
+            @Positive int pollIntervalMs,
+            @NotEmpty String name,
+            @Positive int partitions,
+            @Positive short replicas,
+            @Positive @DefaultValue("30000") int leaseMs,
+            @Positive @DefaultValue("7") int retentionDays,
+            @Positive @DefaultValue("3600000") long retentionCheckIntervalMs,
+            @DefaultValue("true") boolean notifyEnabled,
+            @Positive @DefaultValue("30000") long safetyPollIntervalMs) {}
+
+    public record Sharding(
+            @DefaultValue("false") boolean enabled,
+            @Positive @DefaultValue("64") int shardCount,
+            @Positive @DefaultValue("5000") long heartbeatMs,
+            @Positive @DefaultValue("15000") long leaseMs) {}
 }
@@ -1,5 +1,6 @@
 package backend.academy.scrapper.config;
 
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,17 +12,22 @@ public class UpdateProcessorConfig {
     }
 
     @Bean
-    public String topic(ScrapperConfig scrapperConfig) {
-        return scrapperConfig.kafka().name();
+    public ScrapperConfig.Update.ParallelMode parallelMode(ScrapperConfig scrapperConfig) {
+        return scrapperConfig.update().parallelMode();
     }
 
     @Bean
-    public int intervalSeconds(ScrapperConfig scrapperConfig) {
-        return scrapperConfig.update().intervalSeconds();
+    public String topic(ScrapperConfig scrapperConfig) {
+        return scrapperConfig.kafka().name();
     }
 
     @Bean
-    public int batchLimit(ScrapperConfig scrapperConfig) {
-        return scrapperConfig.update().batchLimit();
+    public LinkClaimCriteria linkClaimCriteria(ScrapperConfig scrapperConfig) {
+        ScrapperConfig.Update update = scrapperConfig.update();
+        return new LinkClaimCriteria(
+                update.intervalSeconds(),
+                update.maxIntervalSeconds(),
+                update.batchLimit(),
+                update.priorityBoostSeconds());
     }
 }
@@ -0,0 +1,72 @@
+package backend.academy.scrapper.config;
+
+import backend.academy.scrapper.checkupdate.worker.http.transport.UpstreamHttpClients;
+import io.netty.channel.ChannelOption;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Транспорт для запросов к внешним API ({@code app.transport}).
+ *
+ * <p>Соединения берутся из общего пула с ограничением на хост и переиспользуются (keep-alive) до {@code max-idle-ms}
+ * простоя. К GitHub и StackExchange по умолчанию используется HTTP/2, поэтому параллельные запросы мультиплексируются в
+ * нескольких TLS-соединениях. Ответы запрашиваются сжатыми ({@code Accept-Encoding: gzip}). Метрики пула публикуются в
+ * Micrometer под именами {@code reactor.netty.connection.provider.*}.
+ */
+@Configuration
+public class UpstreamTransportConfig {
+
+    private static final String GITHUB_HOST = "api.github.com";
+    private static final String STACKOVERFLOW_HOST = "api.stackexchange.com";
+    private static final int HTTPS_PORT = 443;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(ScrapperConfig config) {
+        ScrapperConfig.Transport transport = config.transport();
+        return ConnectionProvider.builder("upstream")
+                .maxConnections(transport.maxConnections())
+                .pendingAcquireMaxCount(-1)
+                .maxIdleTime(Duration.ofMillis(transport.maxIdleMs()))
+                .maxLifeTime(Duration.ofMillis(transport.maxLifeMs()))
+                .evictInBackground(Duration.ofMillis(transport.maxIdleMs()))
+                .metrics(true)
+                .forRemoteHost(
+                        InetSocketAddress.createUnresolved(GITHUB_HOST, HTTPS_PORT),
+                        spec -> spec.maxConnections(transport.github().maxConnections()))
+                .forRemoteHost(
+                        InetSocketAddress.createUnresolved(STACKOVERFLOW_HOST, HTTPS_PORT),
+                        spec -> spec.maxConnections(transport.stackOverflow().maxConnections()))
+                .build();
+    }
+
+    @Bean
+    public UpstreamHttpClients upstreamHttpClients(
+            ConnectionProvider upstreamConnectionProvider, ScrapperConfig config) {
+        ScrapperConfig.Transport transport = config.transport();
+        HttpClient base = HttpClient.create(upstreamConnectionProvider)
+                .compress(transport.compress())
+                .keepAlive(true);
+        HttpClient fallback = base.option(
+                        ChannelOption.CONNECT_TIMEOUT_MILLIS, config.timeout().connect())
+                .responseTimeout(Duration.ofMillis(config.timeout().read()));
+        return new UpstreamHttpClients(
+                Map.of(
+                        GITHUB_HOST, forUpstream(base, transport.github()),
+                        STACKOVERFLOW_HOST, forUpstream(base, transport.stackOverflow())),
+                fallback);
+    }
+
+    private static HttpClient forUpstream(HttpClient base, ScrapperConfig.Transport.Upstream upstream) {
+        HttpClient client = base.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, upstream.connectMs())
+                .responseTimeout(Duration.ofMillis(upstream.readMs()));
+        return upstream.http2()
+                ? client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                : client;
+    }
+}
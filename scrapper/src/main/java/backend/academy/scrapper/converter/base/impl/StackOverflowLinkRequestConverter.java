@@ -9,6 +9,6 @@ import org.springframework.stereotype.Component;
 public class StackOverflowLinkRequestConverter implements Converter<StackOverflowLink, StackOverflowLinkRequest> {
     @Override
     public StackOverflowLinkRequest convert(StackOverflowLink source) {
-        return new StackOverflowLinkRequest(source.questionId());
+        return new StackOverflowLinkRequest(source.questionId(), source.lastModified());
     }
 }
@@ -0,0 +1,24 @@
+package backend.academy.scrapper.exception.model;
+
+import java.time.Instant;
+import lombok.Getter;
+
+/**
+ * Проверка ссылки отложена: внешний API исчерпал лимит запросов, попросил подождать или признан недоступным. Ссылку
+ * следует вернуть в очередь на проверку, а не считать проверенной.
+ */
+@Getter
+public class CheckDeferredException extends ScrapperException {
+    private final String host;
+    private final Instant resumeAt;
+
+    public CheckDeferredException(String host, Instant resumeAt) {
+        this("Внешний API временно ограничил число запросов", host, resumeAt);
+    }
+
+    public CheckDeferredException(String description, String host, Instant resumeAt) {
+        super(description, "Requests to " + host + " are deferred until " + resumeAt);
+        this.host = host;
+        this.resumeAt = resumeAt;
+    }
+}
@@ -1,4 +1,11 @@
 package backend.academy.scrapper.model.app.request;
 
-/** Объект, инкапсулирующий параметры для запроса обновления StackOverflow. */
-public record StackOverflowLinkRequest(String questionId) {}
+import java.time.LocalDateTime;
+
+/**
+ * Объект, инкапсулирующий параметры для запроса обновления StackOverflow.
+ *
+ * @param questionId идентификатор вопроса
+ * @param lastModified время последнего известного обновления ссылки (может быть null для новой ссылки)
+ */
+public record StackOverflowLinkRequest(String questionId, LocalDateTime lastModified) {}
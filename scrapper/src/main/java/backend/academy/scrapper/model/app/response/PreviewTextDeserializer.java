@@ -0,0 +1,78 @@
+package backend.academy.scrapper.model.app.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Десериализатор текстовых полей, от которых в уведомление попадает только превью: тела Issue, PR, комментариев,
+ * сообщения коммитов и ответы StackOverflow.
+ *
+ * <p>Длинная строка не собирается в {@link String} целиком: содержимое буфера парсера передаётся в
+ * {@link PreviewWriter}, который сохраняет первые {@link #PREVIEW_LENGTH} символов и отбрасывает остальные. Так на
+ * каждое поле не создаются промежуточный массив и строка размером с исходный текст.
+ */
+public class PreviewTextDeserializer extends StdScalarDeserializer<String> {
+
+    /** Длина превью, совпадающая с обрезкой в конвертерах. */
+    public static final int PREVIEW_LENGTH = 200;
+
+    public PreviewTextDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return StringDeserializer.instance.deserialize(p, ctxt);
+        }
+        if (p.getTextLength() <= PREVIEW_LENGTH) {
+            return p.getText();
+        }
+        PreviewWriter preview = new PreviewWriter(PREVIEW_LENGTH);
+        p.getText(preview);
+        return preview.toString();
+    }
+
+    /** Writer, сохраняющий только первые {@code limit} символов. */
+    private static final class PreviewWriter extends Writer {
+        private final StringBuilder buffer;
+        private final int limit;
+
+        PreviewWriter(int limit) {
+            this.buffer = new StringBuilder(limit);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int remaining = limit - buffer.length();
+            if (remaining > 0) {
+                buffer.append(chars, offset, Math.min(length, remaining));
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            int remaining = limit - buffer.length();
+            if (remaining > 0) {
+                buffer.append(text, offset, offset + Math.min(length, remaining));
+            }
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
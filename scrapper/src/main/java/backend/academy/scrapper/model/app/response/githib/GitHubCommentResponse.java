@@ -1,6 +1,8 @@
 package backend.academy.scrapper.model.app.response.githib;
 
+import backend.academy.scrapper.model.app.response.PreviewTextDeserializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,7 +14,9 @@ public class GitHubCommentResponse {
     @JsonProperty("created_at")
     private String createdAt;
 
+    @JsonDeserialize(using = PreviewTextDeserializer.class)
     private String body;
+
     private GitHubUser user;
 
     @Getter
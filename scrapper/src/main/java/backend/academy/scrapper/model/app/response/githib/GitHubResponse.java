@@ -1,6 +1,8 @@
 package backend.academy.scrapper.model.app.response.githib;
 
+import backend.academy.scrapper.model.app.response.PreviewTextDeserializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,7 +18,10 @@ public class GitHubResponse {
     private String updatedAt;
 
     private String title;
+
+    @JsonDeserialize(using = PreviewTextDeserializer.class)
     private String body;
+
     private GitHubUser user;
 
     // Дополнительные поля для репозитория
@@ -0,0 +1,15 @@
+package backend.academy.scrapper.model.app.response.so;
+
+/**
+ * Поля обёртки ответа StackExchange API, описывающие расход квоты. Отсутствующие в ответе поля равны null.
+ *
+ * @see <a href="https://api.stackexchange.com/docs/throttle">StackExchange API throttles</a>
+ */
+public interface StackExchangeQuota {
+
+    /** Сколько секунд не вызывать тот же метод API. */
+    Integer backoff();
+
+    /** Остаток дневной квоты запросов. */
+    Integer quotaRemaining();
+}
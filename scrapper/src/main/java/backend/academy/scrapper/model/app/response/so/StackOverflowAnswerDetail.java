@@ -1,6 +1,8 @@
 package backend.academy.scrapper.model.app.response.so;
 
+import backend.academy.scrapper.model.app.response.PreviewTextDeserializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,10 +11,17 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class StackOverflowAnswerDetail {
+    @JsonProperty("question_id")
+    private Long questionId;
+
     @JsonProperty("creation_date")
     private long creationDate;
 
+    @JsonProperty("body")
+    @JsonDeserialize(using = PreviewTextDeserializer.class)
     private String body;
+
+    @JsonProperty("owner")
     private Owner owner;
 
     @Getter
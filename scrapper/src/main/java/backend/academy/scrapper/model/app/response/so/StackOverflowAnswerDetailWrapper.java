@@ -1,11 +1,22 @@
 package backend.academy.scrapper.model.app.response.so;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
-public class StackOverflowAnswerDetailWrapper {
+public class StackOverflowAnswerDetailWrapper implements StackExchangeQuota {
+    @JsonProperty("items")
     private List<StackOverflowAnswerDetail> items;
+
+    @JsonProperty("backoff")
+    private Integer backoff;
+
+    @JsonProperty("quota_remaining")
+    private Integer quotaRemaining;
+
+    @JsonProperty("has_more")
+    private boolean hasMore;
 }
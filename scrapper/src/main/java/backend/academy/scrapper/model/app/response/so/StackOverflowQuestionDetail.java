@@ -8,7 +8,19 @@ import lombok.NoArgsConstructor;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-public class StackOverflowQuestionDetail {
+public class StackOverflowQuestionDetail implements StackExchangeQuota {
+    @JsonProperty("question_id")
+    private Long questionId;
+
     @JsonProperty("title")
     private String title;
+
+    @JsonProperty("last_activity_date")
+    private long lastActivityDate;
+
+    @JsonProperty("backoff")
+    private Integer backoff;
+
+    @JsonProperty("quota_remaining")
+    private Integer quotaRemaining;
 }
@@ -0,0 +1,19 @@
+package backend.academy.scrapper.model.app.response.so;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StackOverflowQuestionDetailWrapper implements StackExchangeQuota {
+    @JsonProperty("items")
+    private List<StackOverflowQuestionDetail> items;
+
+    @JsonProperty("backoff")
+    private Integer backoff;
+
+    @JsonProperty("quota_remaining")
+    private Integer quotaRemaining;
+}
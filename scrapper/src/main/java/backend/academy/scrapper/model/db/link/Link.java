@@ -34,6 +34,14 @@ public abstract class Link {
 
     private LocalDateTime lastChecked;
 
+    private LocalDateTime nextCheckAt;
+
+    private int checkIntervalSeconds;
+
+    /** Пересчитывается {@code LinkPriorityService}, поэтому JPA его не записывает. */
+    @Column(name = "priority", insertable = false, updatable = false)
+    private int priority;
+
     @Column(name = "original_url", nullable = false)
     private String originalUrl;
 
@@ -31,6 +31,9 @@ public class OutboxMessage {
     @Column(name = "payload", nullable = false)
     private String payload;
 
+    @Column(name = "message_key")
+    private Long messageKey;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -47,4 +50,9 @@ public class OutboxMessage {
         this.topic = topic;
         this.payload = payload;
     }
+
+    public OutboxMessage(String topic, String payload, Long messageKey) {
+        this(topic, payload);
+        this.messageKey = messageKey;
+    }
 }
@@ -0,0 +1,17 @@
+package backend.academy.scrapper.model.helper;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Закэшированный ответ внешнего API вместе с валидаторами, по которым его можно перепроверить условным запросом.
+ *
+ * @param etag значение заголовка ETag (может быть null)
+ * @param lastModified значение заголовка Last-Modified в миллисекундах (-1, если заголовка не было)
+ * @param entity ранее полученный и десериализованный ответ
+ */
+public record CachedResponse<T>(String etag, long lastModified, ResponseEntity<T> entity) {
+
+    public boolean hasValidators() {
+        return etag != null || lastModified >= 0;
+    }
+}
@@ -0,0 +1,3 @@
+package backend.academy.scrapper.model.helper;
+
+public record LinkChatPair(Long linkId, Long chatId) {}
@@ -0,0 +1,50 @@
+package backend.academy.scrapper.model.helper;
+
+import java.util.List;
+
+/**
+ * Параметры выборки ссылок на проверку.
+ *
+ * <p>Интервал проверки каждой ссылки адаптивный: после проверки без изменений он удваивается, но не превышает
+ * {@code maxIntervalSeconds} и время, прошедшее с последнего изменения ссылки. Найденное обновление сбрасывает интервал
+ * к {@code intervalSeconds}.
+ *
+ * <p>Из наступивших проверок первыми выбираются ссылки с большим приоритетом: каждый уровень приоритета сдвигает срок
+ * проверки на {@code priorityBoostSeconds} раньше. Ссылка с низким приоритетом, просроченная сильнее этого сдвига, всё
+ * равно опередит более приоритетную, поэтому она не голодает.
+ *
+ * <p>Если {@code shardCount > 0}, выбираются только ссылки из шардов {@code shards}, где шард ссылки — {@code mod(id,
+ * shardCount)}.
+ *
+ * @param intervalSeconds базовый (минимальный) интервал проверки
+ * @param maxIntervalSeconds потолок адаптивного интервала
+ * @param limit максимальное число ссылок в пакете
+ * @param priorityBoostSeconds сдвиг срока проверки на один уровень приоритета; {@code 0} — без учёта приоритета
+ * @param shardCount общее число шардов; {@code 0} — выборка без шардирования
+ * @param shards шарды, из которых выбираются ссылки
+ */
+public record LinkClaimCriteria(
+        int intervalSeconds,
+        int maxIntervalSeconds,
+        int limit,
+        int priorityBoostSeconds,
+        int shardCount,
+        List<Integer> shards) {
+
+    public LinkClaimCriteria(int intervalSeconds, int maxIntervalSeconds, int limit) {
+        this(intervalSeconds, maxIntervalSeconds, limit, 0);
+    }
+
+    public LinkClaimCriteria(int intervalSeconds, int maxIntervalSeconds, int limit, int priorityBoostSeconds) {
+        this(intervalSeconds, maxIntervalSeconds, limit, priorityBoostSeconds, 0, List.of());
+    }
+
+    public LinkClaimCriteria withShards(int shardCount, List<Integer> shards) {
+        return new LinkClaimCriteria(
+                intervalSeconds, maxIntervalSeconds, limit, priorityBoostSeconds, shardCount, List.copyOf(shards));
+    }
+
+    public boolean sharded() {
+        return shardCount > 0;
+    }
+}
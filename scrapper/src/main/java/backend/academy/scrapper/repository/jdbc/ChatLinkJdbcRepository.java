@@ -2,9 +2,13 @@ package backend.academy.scrapper.repository.jdbc;
 
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.chatlink.ChatLink;
+import backend.academy.scrapper.model.helper.LinkChatPair;
 import backend.academy.scrapper.repository.jdbc.mapper.ChatLinkRowMapper;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.simple.JdbcClient;
@@ -108,4 +112,31 @@ public class ChatLinkJdbcRepository {
                 .query(Long.class)
                 .list();
     }
+
+    /**
+     * Пакетный вариант {@link #findChatIdsByLinkId(Long)}: одним запросом {@code WHERE link_id = ANY(:linkIds)} находит
+     * подписчиков всех переданных ссылок.
+     *
+     * @param linkIds идентификаторы ссылок
+     * @return Map: id ссылки → отсортированный список id чатов; ссылки без подписчиков отсутствуют
+     */
+    public Map<Long, List<Long>> findChatIdsByLinkIds(Collection<Long> linkIds) {
+        if (linkIds.isEmpty()) {
+            return Map.of();
+        }
+        return jdbcClient
+                .sql(
+                        """
+                  SELECT link_id, chat_id
+                    FROM chat_link
+                   WHERE link_id = ANY(:linkIds::bigint[])
+                ORDER BY link_id, chat_id
+                """)
+                .param("linkIds", linkIds.toArray(Long[]::new))
+                .query((rs, rowNum) -> new LinkChatPair(rs.getLong("link_id"), rs.getLong("chat_id")))
+                .list()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        LinkChatPair::linkId, Collectors.mapping(LinkChatPair::chatId, Collectors.toList())));
+    }
 }
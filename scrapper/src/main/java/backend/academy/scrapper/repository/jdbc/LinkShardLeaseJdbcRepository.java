@@ -0,0 +1,147 @@
+package backend.academy.scrapper.repository.jdbc;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC-доступ к таблицам {@code scrapper_node} и {@code link_shard_lease}. Все сроки считаются по часам базы
+ * ({@code CURRENT_TIMESTAMP}), поэтому расхождение часов между репликами на аренду не влияет.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LinkShardLeaseJdbcRepository {
+    private final JdbcClient jdbcClient;
+
+    /** Отмечает узел живым. */
+    public void heartbeat(String nodeId) {
+        jdbcClient
+                .sql(
+                        """
+                    INSERT INTO scrapper_node (node_id, heartbeat_at)
+                    VALUES (:node, CURRENT_TIMESTAMP)
+                    ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = CURRENT_TIMESTAMP
+                """)
+                .param("node", nodeId)
+                .update();
+    }
+
+    /**
+     * Возвращает узлы, приславшие heartbeat не позднее {@code ttlMs} назад.
+     *
+     * @param ttlMs время, в течение которого узел без heartbeat считается живым
+     * @return идентификаторы живых узлов по возрастанию
+     */
+    public List<String> findLiveNodes(long ttlMs) {
+        return jdbcClient
+                .sql(
+                        """
+                    SELECT node_id FROM scrapper_node
+                    WHERE heartbeat_at > CURRENT_TIMESTAMP - make_interval(secs := :ttlMs / 1000.0)
+                    ORDER BY node_id
+                """)
+                .param("ttlMs", ttlMs)
+                .query(String.class)
+                .list();
+    }
+
+    /** Удаляет узел из реестра и освобождает все его шарды. */
+    public void removeNode(String nodeId) {
+        jdbcClient
+                .sql("UPDATE link_shard_lease SET owner = NULL, lease_until = NULL WHERE owner = :node")
+                .param("node", nodeId)
+                .update();
+        jdbcClient
+                .sql("DELETE FROM scrapper_node WHERE node_id = :node")
+                .param("node", nodeId)
+                .update();
+    }
+
+    /** Создаёт строки аренды для шардов {@code 0 .. shardCount - 1}, если их ещё нет. */
+    public void ensureShards(int shardCount) {
+        jdbcClient
+                .sql(
+                        """
+                    INSERT INTO link_shard_lease (shard)
+                    SELECT generate_series(0, :shardCount - 1)
+                    ON CONFLICT (shard) DO NOTHING
+                """)
+                .param("shardCount", shardCount)
+                .update();
+    }
+
+    /**
+     * Продлевает аренду всех шардов узла.
+     *
+     * @return шарды, которые по-прежнему принадлежат узлу
+     */
+    public List<Integer> renew(String owner, long leaseMs) {
+        return jdbcClient
+                .sql(
+                        """
+                    UPDATE link_shard_lease
+                    SET lease_until = CURRENT_TIMESTAMP + make_interval(secs := :leaseMs / 1000.0)
+                    WHERE owner = :owner
+                    RETURNING shard
+                """)
+                .param("owner", owner)
+                .param("leaseMs", leaseMs)
+                .query(Integer.class)
+                .list()
+                .stream()
+                .sorted()
+                .toList();
+    }
+
+    /** Освобождает переданные шарды, если они принадлежат узлу. */
+    public void release(String owner, Collection<Integer> shards) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        jdbcClient
+                .sql(
+                        """
+                    UPDATE link_shard_lease SET owner = NULL, lease_until = NULL
+                    WHERE owner = :owner AND shard = ANY(:shards::int[])
+                """)
+                .param("owner", owner)
+                .param("shards", shards.toArray(Integer[]::new))
+                .update();
+    }
+
+    /**
+     * Захватывает до {@code count} свободных шардов или шардов с истёкшей арендой. Строки выбираются с {@code FOR
+     * UPDATE SKIP LOCKED}, поэтому одновременно подключившиеся узлы получают разные шарды.
+     *
+     * @return захваченные шарды
+     */
+    public List<Integer> claimFree(String owner, int count, int shardCount, long leaseMs) {
+        return jdbcClient
+                .sql(
+                        """
+                    WITH free AS (
+                        SELECT shard
+                        FROM link_shard_lease
+                        WHERE shard < :shardCount
+                          AND (owner IS NULL OR lease_until < CURRENT_TIMESTAMP)
+                        ORDER BY shard
+                        LIMIT :count
+                        FOR UPDATE SKIP LOCKED
+                    )
+                    UPDATE link_shard_lease
+                    SET owner = :owner,
+                        lease_until = CURRENT_TIMESTAMP + make_interval(secs := :leaseMs / 1000.0)
+                    FROM free
+                    WHERE link_shard_lease.shard = free.shard
+                    RETURNING link_shard_lease.shard
+                """)
+                .param("owner", owner)
+                .param("count", count)
+                .param("shardCount", shardCount)
+                .param("leaseMs", leaseMs)
+                .query(Integer.class)
+                .list();
+    }
+}
@@ -3,6 +3,8 @@ package backend.academy.scrapper.repository.jdbc;
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.outbox.OutboxMessage;
 import backend.academy.scrapper.repository.jdbc.mapper.OutboxRowMapper;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -21,11 +23,13 @@ public class OutboxJdbcRepository {
             jdbcClient
                     .sql(
                             """
-                        INSERT INTO outbox (topic, payload, created_at)
-                        VALUES (:topic, :payload, :createdAt)
+                        INSERT INTO outbox (topic, payload, message_key, created_at)
+                        VALUES (:topic, :payload, :messageKey,
+                                COALESCE(CAST(:createdAt AS timestamp), CURRENT_TIMESTAMP))
                     """)
                     .param("topic", msg.topic())
                     .param("payload", msg.payload())
+                    .param("messageKey", msg.messageKey())
                     .param("createdAt", msg.createdAt())
                     .update();
             return msg;
@@ -34,11 +38,61 @@ public class OutboxJdbcRepository {
         }
     }
 
+    /**
+     * Записывает срез сообщений одним запросом {@code INSERT ... SELECT FROM unnest(...)}: значения передаются
+     * массивами, поэтому текст запроса не зависит от размера среза и его план кешируется. Сообщения без
+     * {@code createdAt} получают текущее время.
+     *
+     * @param messages сообщения для записи
+     * @return число записанных строк
+     */
+    public int saveAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        String[] topics = new String[messages.size()];
+        String[] payloads = new String[messages.size()];
+        Long[] keys = new Long[messages.size()];
+        String[] createdAt = new String[messages.size()];
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage msg = messages.get(i);
+            topics[i] = msg.topic();
+            payloads[i] = msg.payload();
+            keys[i] = msg.messageKey();
+            createdAt[i] = msg.createdAt() == null ? null : msg.createdAt().toString();
+        }
+        try {
+            return jdbcClient
+                    .sql(
+                            """
+                        INSERT INTO outbox (topic, payload, message_key, created_at)
+                        SELECT m.topic, m.payload, m.message_key, COALESCE(m.created_at, CURRENT_TIMESTAMP)
+                        FROM unnest(:topics::varchar[], :payloads::text[], :keys::bigint[], :createdAt::timestamp[])
+                             AS m(topic, payload, message_key, created_at)
+                    """)
+                    .param("topics", topics)
+                    .param("payloads", payloads)
+                    .param("keys", keys)
+                    .param("createdAt", createdAt)
+                    .update();
+        } catch (DataIntegrityViolationException e) {
+            throw new ScrapperException("Не удалось записать в outbox", e.getMessage());
+        }
+    }
+
+    /**
+     * Отправляет {@code NOTIFY outbox}: уведомление доставляется слушателям после фиксации текущей транзакции, поэтому
+     * публикатор видит уже записанные сообщения. Несколько уведомлений одной транзакции Postgres сворачивает в одно.
+     */
+    public void notifyInserted() {
+        jdbcClient.sql("NOTIFY outbox").update();
+    }
+
     public List<OutboxMessage> findUnprocessed(int limit) {
         return jdbcClient
                 .sql(
                         """
-                    SELECT id, topic, payload, created_at, processed_at
+                    SELECT id, topic, payload, message_key, created_at, processed_at
                     FROM outbox
                     WHERE processed_at IS NULL
                     ORDER BY created_at
@@ -49,10 +103,71 @@ public class OutboxJdbcRepository {
                 .list();
     }
 
+    /**
+     * Захватывает до {@code limit} необработанных сообщений для публикации экземпляром {@code owner}.
+     *
+     * <p>Строки выбираются с {@code FOR UPDATE SKIP LOCKED}, поэтому параллельные публикаторы получают непересекающиеся
+     * срезы, а не ждут друг друга. Захват оформляется арендой: {@code claimed_by} и {@code claimed_until}. Пока аренда
+     * действует, сообщение не выдаётся другим экземплярам; если публикатор упал, не пометив сообщения обработанными,
+     * после истечения аренды их захватит любой другой.
+     *
+     * @param owner идентификатор экземпляра-публикатора
+     * @param limit максимальное число сообщений
+     * @param leaseMs длительность аренды в миллисекундах
+     * @return захваченные сообщения в порядке создания
+     */
+    public List<OutboxMessage> claimUnprocessed(String owner, int limit, long leaseMs) {
+        return jdbcClient
+                .sql(
+                        """
+                    WITH claimable AS (
+                        SELECT id
+                        FROM outbox
+                        WHERE processed_at IS NULL
+                          AND (claimed_until IS NULL OR claimed_until < CURRENT_TIMESTAMP)
+                        ORDER BY created_at, id
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                    )
+                    UPDATE outbox
+                    SET claimed_by = :owner,
+                        claimed_until = CURRENT_TIMESTAMP + make_interval(secs := :leaseMs / 1000.0)
+                    FROM claimable
+                    WHERE outbox.id = claimable.id
+                    RETURNING outbox.id, outbox.topic, outbox.payload, outbox.message_key,
+                              outbox.created_at, outbox.processed_at
+                """)
+                .param("owner", owner)
+                .param("limit", limit)
+                .param("leaseMs", leaseMs)
+                .query(rowMapper)
+                .list()
+                .stream()
+                .sorted(Comparator.comparing((OutboxMessage msg) -> msg.createdAt())
+                        .thenComparing(msg -> msg.id()))
+                .toList();
+    }
+
     public void markProcessed(Long id) {
         jdbcClient
                 .sql("UPDATE outbox SET processed_at = CURRENT_TIMESTAMP WHERE id = :id")
                 .param("id", id)
                 .update();
     }
+
+    /**
+     * Помечает обработанными все переданные сообщения одним запросом.
+     *
+     * @param ids идентификаторы сообщений
+     * @return число обновлённых строк
+     */
+    public int markProcessed(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcClient
+                .sql("UPDATE outbox SET processed_at = CURRENT_TIMESTAMP WHERE id = ANY(:ids::bigint[])")
+                .param("ids", ids.toArray(Long[]::new))
+                .update();
+    }
 }
@@ -0,0 +1,117 @@
+package backend.academy.scrapper.repository.jdbc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Управление суточными партициями таблицы outbox ({@code PARTITION BY RANGE (created_at)}).
+ *
+ * <p>Партиция за день {@code D} называется {@code outbox_pYYYYMMDD} и покрывает {@code [D, D + 1)}. Строки, для которых
+ * партиция ещё не создана, попадают в {@code outbox_default}.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OutboxPartitionJdbcRepository {
+    private static final String PREFIX = "outbox_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Возвращает текущую дату по часам базы: по ним же заполняется {@code created_at}, так что границы партиций не
+     * зависят от часового пояса JVM.
+     *
+     * @return {@code CURRENT_DATE} сессии
+     */
+    public LocalDate currentDate() {
+        return jdbcClient.sql("SELECT CURRENT_DATE").query(LocalDate.class).single();
+    }
+
+    /**
+     * Создаёт партицию за указанный день, если её ещё нет.
+     *
+     * @param day день
+     * @return {@code false}, если партицию создать не удалось: например, строки за этот день уже лежат в
+     *     {@code outbox_default}
+     */
+    public boolean createDailyPartition(LocalDate day) {
+        try {
+            jdbcClient
+                    .sql(String.format(
+                            "CREATE TABLE IF NOT EXISTS %s PARTITION OF outbox FOR VALUES FROM ('%s') TO ('%s')",
+                            partitionName(day), day, day.plusDays(1)))
+                    .update();
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Could not create outbox partition for {}: {}", day, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Перечисляет суточные партиции outbox.
+     *
+     * @return дни, за которые существуют партиции, по возрастанию
+     */
+    public List<LocalDate> findDailyPartitions() {
+        return jdbcClient
+                .sql(
+                        """
+                    SELECT c.relname
+                    FROM pg_inherits i
+                    JOIN pg_class c ON c.oid = i.inhrelid
+                    WHERE i.inhparent = 'outbox'::regclass
+                      AND c.relname LIKE 'outbox\\_p%'
+                    ORDER BY c.relname
+                """)
+                .query(String.class)
+                .list()
+                .stream()
+                .map(name -> LocalDate.parse(name.substring(PREFIX.length()), SUFFIX))
+                .toList();
+    }
+
+    /**
+     * Удаляет партицию за указанный день, если в ней не осталось необработанных сообщений.
+     *
+     * @param day день
+     * @return {@code true}, если партиция удалена
+     */
+    public boolean dropIfProcessed(LocalDate day) {
+        String partition = partitionName(day);
+        boolean pending = jdbcClient
+                .sql("SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE processed_at IS NULL)")
+                .query(Boolean.class)
+                .single();
+        if (pending) {
+            return false;
+        }
+        jdbcClient.sql("DROP TABLE IF EXISTS " + partition).update();
+        return true;
+    }
+
+    /**
+     * Удаляет из {@code outbox_default} обработанные сообщения, созданные раньше {@code cutoff}.
+     *
+     * @param cutoff граница хранения
+     * @return число удалённых строк
+     */
+    public int deleteProcessedFromDefault(LocalDateTime cutoff) {
+        return jdbcClient
+                .sql("DELETE FROM outbox_default WHERE processed_at IS NOT NULL AND created_at < :cutoff")
+                .param("cutoff", cutoff)
+                .update();
+    }
+
+    private static String partitionName(LocalDate day) {
+        return PREFIX + day.format(SUFFIX);
+    }
+}
@@ -2,10 +2,13 @@ package backend.academy.scrapper.repository.jdbc.link;
 
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.repository.jdbc.mapper.LinkRowMapper;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -50,56 +53,201 @@ public class LinkJdbcRepository {
     }
 
     /**
-     * Выбирает до {@code limit} устаревших ссылок из таблицы {@code link}, блокируя их и пропуская заблокированные с
+     * Выбирает до {@code limit} ссылок, срок проверки которых наступил, блокируя их и пропуская заблокированные с
      * помощью SKIP LOCKED, и одновременно обновляет их поля:
      *
      * <ul>
      *   <li>{@code last_checked} устанавливается в текущий TIMESTAMP;
+     *   <li>{@code check_interval_seconds} удваивается, но остаётся в пределах от базового интервала до меньшего из
+     *       потолка и времени, прошедшего с {@code last_modified};
+     *   <li>{@code next_check_at} сдвигается на новый интервал (если проверка найдёт обновление,
+     *       {@link #updateLastModified(Long, LocalDateTime)} сбросит расписание);
      *   <li>{@code version} инкрементируется на единицу.
      * </ul>
      *
-     * Затем возвращает полный список полей этих ссылок как объекты {@link Link}.
+     * Ссылки без {@code next_check_at} считаются подлежащими проверке через базовый интервал после
+     * {@code last_checked}. Из наступивших первыми выбираются ссылки с большим {@code priority} (см.
+     * {@link LinkClaimCriteria}). При шардировании выбираются только ссылки из шардов {@code criteria.shards()},
+     * поэтому реплики не конкурируют за голову одной очереди. Захваченные строки в том же запросе соединяются с
+     * {@code github_link} и {@code stackoverflow_link}, поэтому возвращаются готовые типизированные {@link Link} с
+     * заполненными полями подтипа — без отдельного запроса деталей на каждый тип.
      *
-     * @param intervalSeconds минимальное число секунд с момента последней проверки, после которого ссылка считается
-     *     устаревшей
-     * @param limit максимальное число ссылок для обработки за один проход
+     * @param criteria базовый интервал, потолок интервала и размер пакета
      * @return список базовых сущностей {@link Link} для дальнейшей проверки обновлений
      */
-    public List<Link> fetchLinksToUpdate(int intervalSeconds, int limit) {
+    public List<Link> fetchLinksToUpdate(LinkClaimCriteria criteria) {
         return jdbcClient
                 .sql(
                         """
                     WITH selected AS (
                         SELECT *
                         FROM link
-                        WHERE last_checked < (CURRENT_TIMESTAMP - make_interval(secs := :interval))
-                        ORDER BY last_checked, id
+                        WHERE (next_check_at <= CURRENT_TIMESTAMP
+                               OR (next_check_at IS NULL
+                                   AND last_checked < (CURRENT_TIMESTAMP - make_interval(secs := :interval))))
+                          AND (:shard_count = 0 OR mod(id, :shard_count) = ANY(:shards::int[]))
+                        ORDER BY COALESCE(next_check_at, last_checked + make_interval(secs := :interval))
+                                     - make_interval(secs := priority * :boost),
+                                 id
                         FOR NO KEY UPDATE SKIP LOCKED
                         LIMIT :limit
+                    ),
+                    scheduled AS (
+                        SELECT s.id,
+                               s.version,
+                               LEAST(:max_interval, GREATEST(:interval, LEAST(
+                                   s.check_interval_seconds * 2,
+                                   EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - s.last_modified)::BIGINT))) AS next_interval
+                        FROM selected s
+                    ),
+                    claimed AS (
+                        UPDATE link
+                        SET last_checked = CURRENT_TIMESTAMP,
+                            check_interval_seconds = sc.next_interval,
+                            next_check_at = CURRENT_TIMESTAMP + make_interval(secs := sc.next_interval),
+                            version = link.version + 1
+                        FROM scheduled sc
+                        WHERE link.id = sc.id AND link.version = sc.version
+                        RETURNING link.*
                     )
-                    UPDATE link
-                    SET last_checked = CURRENT_TIMESTAMP,
-                        version = link.version + 1
-                    FROM selected s
-                    WHERE link.id = s.id AND link.version = s.version
-                    RETURNING link.*
+                    SELECT c.*, gh.owner, gh.repo, gh.item_number, gh.event_type, so.question_id
+                    FROM claimed c
+                    LEFT JOIN github_link gh ON gh.id = c.id
+                    LEFT JOIN stackoverflow_link so ON so.id = c.id
                 """)
-                .param("interval", intervalSeconds)
-                .param("limit", limit)
-                .query(linkRowMapper)
+                .param("interval", criteria.intervalSeconds())
+                .param("max_interval", criteria.maxIntervalSeconds())
+                .param("limit", criteria.limit())
+                .param("boost", criteria.priorityBoostSeconds())
+                .param("shard_count", criteria.shardCount())
+                .param("shards", criteria.shards().toArray(Integer[]::new))
+                .query(linkRowMapper::mapRowWithDetails)
                 .list();
     }
 
+    /**
+     * Сохраняет время последнего изменения и сбрасывает адаптивное расписание: следующая проверка произойдёт через
+     * базовый интервал.
+     *
+     * @param linkId идентификатор ссылки
+     * @param newTime новое время последнего изменения
+     */
     public void updateLastModified(Long linkId, LocalDateTime newTime) {
         jdbcClient
                 .sql(
                         """
                     UPDATE link
-                    SET last_modified = :new_time
+                    SET last_modified = :new_time,
+                        check_interval_seconds = 0,
+                        next_check_at = NULL
                     WHERE id = :id
                 """)
                 .param("new_time", newTime)
                 .param("id", linkId)
                 .update();
     }
+
+    /**
+     * Пакетный вариант {@link #updateLastModified(Long, LocalDateTime)}: одним запросом {@code UPDATE ... FROM unnest}
+     * сохраняет новое время последнего изменения для всех переданных ссылок и сбрасывает их адаптивное расписание.
+     *
+     * @param newTimes новое время последнего изменения по идентификатору ссылки
+     */
+    public void updateLastModifiedAll(Map<Long, LocalDateTime> newTimes) {
+        if (newTimes.isEmpty()) {
+            return;
+        }
+        Long[] ids = new Long[newTimes.size()];
+        String[] times = new String[newTimes.size()];
+        int i = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : newTimes.entrySet()) {
+            ids[i] = entry.getKey();
+            times[i++] = entry.getValue().toString();
+        }
+        jdbcClient
+                .sql(
+                        """
+                    UPDATE link
+                    SET last_modified = u.new_time,
+                        check_interval_seconds = 0,
+                        next_check_at = NULL
+                    FROM unnest(:ids::bigint[], :times::timestamp[]) AS u(id, new_time)
+                    WHERE link.id = u.id
+                """)
+                .param("ids", ids)
+                .param("times", times)
+                .update();
+    }
+
+    /**
+     * Откладывает проверку ссылки до указанного момента, не меняя её адаптивный интервал.
+     *
+     * @param linkId идентификатор ссылки
+     * @param resumeAt момент, когда ссылку снова можно проверять
+     */
+    public void deferNextCheck(Long linkId, LocalDateTime resumeAt) {
+        jdbcClient
+                .sql("UPDATE link SET next_check_at = :resume_at WHERE id = :id")
+                .param("resume_at", resumeAt)
+                .param("id", linkId)
+                .update();
+    }
+
+    /**
+     * Пересчитывает приоритет всех ссылок одним запросом: порядок числа подписчиков ({@code floor(log10(n))}: 1–9
+     * подписчиков → 0, 10–99 → 1 и т. д.) плюс единица, если ссылка менялась за последние {@code activitySeconds}
+     * секунд. Результат ограничен {@code maxPriority}; строки с неизменившимся приоритетом не перезаписываются.
+     *
+     * @return число ссылок, чей приоритет изменился
+     */
+    public int refreshPriorities(int activitySeconds, int maxPriority) {
+        return jdbcClient
+                .sql(
+                        """
+                    UPDATE link
+                    SET priority = p.priority
+                    FROM (
+                        SELECT l.id,
+                               LEAST(:max_priority,
+                                     FLOOR(LOG(GREATEST(COUNT(cl.id), 1)))::INT
+                                     + CASE WHEN l.last_modified > CURRENT_TIMESTAMP
+                                                                   - make_interval(secs := :activity)
+                                            THEN 1 ELSE 0 END) AS priority
+                        FROM link l
+                        LEFT JOIN chat_link cl ON cl.link_id = l.id
+                        GROUP BY l.id
+                    ) p
+                    WHERE link.id = p.id AND link.priority <> p.priority
+                """)
+                .param("activity", activitySeconds)
+                .param("max_priority", maxPriority)
+                .update();
+    }
+
+    /**
+     * Отставание проверок по уровням приоритета: для каждого уровня — на сколько секунд просрочена самая давняя из
+     * наступивших проверок. Уровни без просроченных ссылок в результат не попадают.
+     *
+     * @param intervalSeconds базовый интервал для ссылок без {@code next_check_at}
+     * @return отставание в секундах по уровню приоритета
+     */
+    public Map<Integer, Long> findLagByPriority(int intervalSeconds) {
+        return jdbcClient
+                .sql(
+                        """
+                    SELECT priority,
+                           EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - MIN(
+                               COALESCE(next_check_at, last_checked + make_interval(secs := :interval))))::BIGINT AS lag
+                    FROM link
+                    WHERE next_check_at <= CURRENT_TIMESTAMP
+                       OR (next_check_at IS NULL
+                           AND last_checked < (CURRENT_TIMESTAMP - make_interval(secs := :interval)))
+                    GROUP BY priority
+                """)
+                .param("interval", intervalSeconds)
+                .query((rs, rowNum) -> Map.entry(rs.getInt("priority"), rs.getLong("lag")))
+                .list()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
 }
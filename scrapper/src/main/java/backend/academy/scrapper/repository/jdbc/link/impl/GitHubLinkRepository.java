@@ -3,9 +3,6 @@ package backend.academy.scrapper.repository.jdbc.link.impl;
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.link.LinkType;
 import backend.academy.scrapper.model.db.link.impl.GitHubLink;
-import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
-import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.simple.JdbcClient;
@@ -16,22 +13,6 @@ import org.springframework.stereotype.Repository;
 public class GitHubLinkRepository implements LinkImplRepository<GitHubLink> {
     private final JdbcClient jdbcClient;
 
-    @Override
-    public void findByIds(List<Long> ids, Map<Long, GitHubLink> map) {
-        jdbcClient
-                .sql("SELECT * FROM github_link WHERE id IN (:ids)")
-                .params(Map.of("ids", ids))
-                .query((rs, rowNum) -> {
-                    GitHubLink link = map.get(rs.getLong("id"));
-                    link.owner(rs.getString("owner"));
-                    link.repo(rs.getString("repo"));
-                    link.itemNumber(rs.getString("item_number"));
-                    link.eventType(GitHubEventType.valueOf(rs.getString("event_type")));
-                    return link;
-                })
-                .list();
-    }
-
     @Override
     public void insert(GitHubLink link) {
         try {
@@ -3,8 +3,6 @@ package backend.academy.scrapper.repository.jdbc.link.impl;
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.link.LinkType;
 import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
-import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.simple.JdbcClient;
@@ -15,19 +13,6 @@ import org.springframework.stereotype.Repository;
 public class StackOverflowLinkRepository implements LinkImplRepository<StackOverflowLink> {
     private final JdbcClient jdbcClient;
 
-    @Override
-    public void findByIds(List<Long> ids, Map<Long, StackOverflowLink> map) {
-        jdbcClient
-                .sql("SELECT * FROM stackoverflow_link WHERE id IN (:ids)")
-                .params(Map.of("ids", ids))
-                .query((rs, rowNum) -> {
-                    StackOverflowLink link = map.get(rs.getLong("id"));
-                    link.questionId(rs.getString("question_id"));
-                    return link;
-                })
-                .list();
-    }
-
     @Override
     public void insert(StackOverflowLink stackOverflowLink) {
         try {
@@ -31,4 +31,21 @@ public class LinkRowMapper implements RowMapper<Link> {
         LinkType type = LinkType.valueOf(typeStr);
         return linkBaseMapperMap.get(type).mapBase(id, originalUrl, lastModified, version);
     }
+
+    /**
+     * Как {@link #mapRow}, но дополнительно заполняет поля подтипа и приоритет. Выборка должна содержать колонки
+     * {@code link.*}, а также {@code github_link} и {@code stackoverflow_link}, присоединённые через LEFT JOIN.
+     */
+    public Link mapRowWithDetails(ResultSet rs, int rowNum) throws SQLException {
+        Link link = mapRow(rs, rowNum);
+        mapDetails(linkBaseMapperMap.get(LinkType.valueOf(rs.getString("type"))), link, rs);
+        return link.priority(rs.getInt("priority"));
+    }
+
+    /** Экземпляр {@code link} создан тем же {@code mapper} в {@link #mapRow}, поэтому приведение безопасно. */
+    @SuppressWarnings("unchecked")
+    private static <T extends Link> void mapDetails(LinkBaseMapper<T> mapper, Link link, ResultSet rs)
+            throws SQLException {
+        mapper.mapDetails((T) link, rs);
+    }
 }
@@ -15,6 +15,7 @@ public class OutboxRowMapper implements RowMapper<OutboxMessage> {
         msg.id(rs.getLong("id"));
         msg.topic(rs.getString("topic"));
         msg.payload(rs.getString("payload"));
+        msg.messageKey(rs.getObject("message_key", Long.class));
         msg.createdAt(rs.getTimestamp("created_at").toLocalDateTime());
         Timestamp proc = rs.getTimestamp("processed_at");
         if (proc != null) {
@@ -2,6 +2,8 @@ package backend.academy.scrapper.repository.jdbc.mapper.helper;
 
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.LinkType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 
 /**
@@ -10,6 +12,7 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>Обозначить, какой {@link LinkType} они поддерживают.
  *   <li>Заполнить общие поля {@code id}, {@code url}, {@code lastModified}, {@code version}.
+ *   <li>Заполнить поля подтипа из колонок его таблицы, присоединённой к выборке.
  * </ul>
  *
  * @param <T> конкретный подкласс {@link Link}
@@ -33,4 +36,15 @@ public interface LinkBaseMapper<T extends Link> {
      * @return экземпляр T с заполненными полями
      */
     T mapBase(Long id, String url, LocalDateTime lastModified, Long version);
+
+    /**
+     * Заполняет поля, специфичные для типа, из колонок таблицы подтипа ({@code github_link},
+     * {@code stackoverflow_link}), присоединённой к выборке через LEFT JOIN. Если строки подтипа нет, поля остаются
+     * пустыми.
+     *
+     * @param link объект с заполненными общими полями
+     * @param rs текущая строка выборки
+     * @throws SQLException при ошибке чтения колонок
+     */
+    void mapDetails(T link, ResultSet rs) throws SQLException;
 }
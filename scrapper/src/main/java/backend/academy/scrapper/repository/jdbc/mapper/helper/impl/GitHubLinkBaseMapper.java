@@ -2,7 +2,10 @@ package backend.academy.scrapper.repository.jdbc.mapper.helper.impl;
 
 import backend.academy.scrapper.model.db.link.LinkType;
 import backend.academy.scrapper.model.db.link.impl.GitHubLink;
+import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
 import backend.academy.scrapper.repository.jdbc.mapper.helper.AbstractLinkBaseMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -12,6 +15,15 @@ public class GitHubLinkBaseMapper extends AbstractLinkBaseMapper<GitHubLink> {
         return LinkType.GITHUB;
     }
 
+    @Override
+    public void mapDetails(GitHubLink link, ResultSet rs) throws SQLException {
+        String eventType = rs.getString("event_type");
+        link.owner(rs.getString("owner"));
+        link.repo(rs.getString("repo"));
+        link.itemNumber(rs.getString("item_number"));
+        link.eventType(eventType == null ? null : GitHubEventType.valueOf(eventType));
+    }
+
     @Override
     protected GitHubLink createEmptyInstance() {
         return new GitHubLink();
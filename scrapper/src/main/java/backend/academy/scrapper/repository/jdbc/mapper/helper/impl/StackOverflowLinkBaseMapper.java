@@ -3,6 +3,8 @@ package backend.academy.scrapper.repository.jdbc.mapper.helper.impl;
 import backend.academy.scrapper.model.db.link.LinkType;
 import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
 import backend.academy.scrapper.repository.jdbc.mapper.helper.AbstractLinkBaseMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -12,6 +14,11 @@ public class StackOverflowLinkBaseMapper extends AbstractLinkBaseMapper<StackOve
         return LinkType.STACKOVERFLOW;
     }
 
+    @Override
+    public void mapDetails(StackOverflowLink link, ResultSet rs) throws SQLException {
+        link.questionId(rs.getString("question_id"));
+    }
+
     @Override
     protected StackOverflowLink createEmptyInstance() {
         return new StackOverflowLink();
@@ -1,6 +1,8 @@
 package backend.academy.scrapper.repository.jpa.chatlink;
 
 import backend.academy.scrapper.model.db.chatlink.ChatLink;
+import backend.academy.scrapper.model.helper.LinkChatPair;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,4 +28,8 @@ public interface ChatLinkJpaRepository extends JpaRepository<ChatLink, Long> {
 
     @Query("SELECT cl.chat.id FROM ChatLink cl WHERE cl.link.id = :linkId ORDER BY cl.chat.id")
     List<Long> findChatIdsByLinkId(@Param("linkId") Long linkId);
+
+    @Query("SELECT new backend.academy.scrapper.model.helper.LinkChatPair(cl.link.id, cl.chat.id) FROM ChatLink cl"
+            + " WHERE cl.link.id IN :linkIds ORDER BY cl.link.id, cl.chat.id")
+    List<LinkChatPair> findChatIdsByLinkIds(@Param("linkIds") Collection<Long> linkIds);
 }
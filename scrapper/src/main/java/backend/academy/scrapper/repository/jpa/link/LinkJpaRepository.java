@@ -1,9 +1,11 @@
 package backend.academy.scrapper.repository.jpa.link;
 
 import backend.academy.scrapper.model.db.link.Link;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,11 +18,78 @@ public interface LinkJpaRepository extends JpaRepository<Link, Long> {
             value =
                     """
             SELECT id FROM link
-            WHERE last_checked < (CURRENT_TIMESTAMP - make_interval(secs := :interval))
-            ORDER BY last_checked, id
+            WHERE next_check_at <= CURRENT_TIMESTAMP
+               OR (next_check_at IS NULL AND last_checked < (CURRENT_TIMESTAMP - make_interval(secs := :interval)))
+            ORDER BY COALESCE(next_check_at, last_checked + make_interval(secs := :interval))
+                         - make_interval(secs := priority * :boost),
+                     id
             LIMIT :limit
             FOR NO KEY UPDATE SKIP LOCKED
         """,
             nativeQuery = true)
-    List<Long> fetchIdsToUpdate(@Param("interval") int intervalSeconds, @Param("limit") int limit);
+    List<Long> fetchIdsToUpdate(
+            @Param("interval") int intervalSeconds,
+            @Param("limit") int limit,
+            @Param("boost") int priorityBoostSeconds);
+
+    @Query(
+            value =
+                    """
+            SELECT id FROM link
+            WHERE (next_check_at <= CURRENT_TIMESTAMP
+                   OR (next_check_at IS NULL
+                       AND last_checked < (CURRENT_TIMESTAMP - make_interval(secs := :interval))))
+              AND mod(id, :shardCount) = ANY(CAST(:shards AS int[]))
+            ORDER BY COALESCE(next_check_at, last_checked + make_interval(secs := :interval))
+                         - make_interval(secs := priority * :boost),
+                     id
+            LIMIT :limit
+            FOR NO KEY UPDATE SKIP LOCKED
+        """,
+            nativeQuery = true)
+    List<Long> fetchIdsToUpdateInShards(
+            @Param("interval") int intervalSeconds,
+            @Param("limit") int limit,
+            @Param("boost") int priorityBoostSeconds,
+            @Param("shardCount") int shardCount,
+            @Param("shards") Integer[] shards);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value =
+                    """
+            UPDATE link
+            SET last_checked = CURRENT_TIMESTAMP,
+                check_interval_seconds = LEAST(:maxInterval, GREATEST(:interval, LEAST(
+                    check_interval_seconds * 2,
+                    EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - last_modified)::BIGINT))),
+                next_check_at = CURRENT_TIMESTAMP + make_interval(secs := LEAST(:maxInterval, GREATEST(:interval, LEAST(
+                    check_interval_seconds * 2,
+                    EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - last_modified)::BIGINT)))),
+                version = version + 1
+            WHERE id IN (:ids)
+        """,
+            nativeQuery = true)
+    int scheduleNextCheck(
+            @Param("ids") List<Long> ids,
+            @Param("interval") int intervalSeconds,
+            @Param("maxInterval") int maxIntervalSeconds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value =
+                    """
+            UPDATE link
+            SET last_modified = u.new_time,
+                check_interval_seconds = 0,
+                next_check_at = NULL
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:times AS timestamp[])) AS u(id, new_time)
+            WHERE link.id = u.id
+        """,
+            nativeQuery = true)
+    int updateLastModifiedAll(@Param("ids") Long[] ids, @Param("times") LocalDateTime[] newTimes);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE link SET next_check_at = :resumeAt WHERE id = :id", nativeQuery = true)
+    int deferNextCheck(@Param("id") Long id, @Param("resumeAt") LocalDateTime resumeAt);
 }
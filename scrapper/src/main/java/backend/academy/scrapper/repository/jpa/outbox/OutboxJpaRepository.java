@@ -1,6 +1,8 @@
 package backend.academy.scrapper.repository.jpa.outbox;
 
 import backend.academy.scrapper.model.db.outbox.OutboxMessage;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,7 +17,59 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxMessage, Long>
     @Query("SELECT o FROM OutboxMessage o WHERE o.processedAt IS NULL ORDER BY o.createdAt")
     List<OutboxMessage> findUnprocessed(Pageable pageable);
 
+    @Query(
+            value =
+                    """
+            SELECT id FROM outbox
+            WHERE processed_at IS NULL
+              AND (claimed_until IS NULL OR claimed_until < CURRENT_TIMESTAMP)
+            ORDER BY created_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        """,
+            nativeQuery = true)
+    List<Long> findClaimableIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE outbox
+            SET claimed_by = :owner,
+                claimed_until = CURRENT_TIMESTAMP + make_interval(secs := :leaseMs / 1000.0)
+            WHERE id IN (:ids)
+        """,
+            nativeQuery = true)
+    int claim(@Param("ids") List<Long> ids, @Param("owner") String owner, @Param("leaseMs") long leaseMs);
+
+    @Query("SELECT o FROM OutboxMessage o WHERE o.id IN :ids ORDER BY o.createdAt, o.id")
+    List<OutboxMessage> findAllByIdOrdered(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO outbox (topic, payload, message_key, created_at)
+            SELECT * FROM unnest(
+                CAST(:topics AS varchar[]), CAST(:payloads AS text[]),
+                CAST(:keys AS bigint[]), CAST(:createdAt AS timestamp[]))
+        """,
+            nativeQuery = true)
+    int insertAll(
+            @Param("topics") String[] topics,
+            @Param("payloads") String[] payloads,
+            @Param("keys") Long[] keys,
+            @Param("createdAt") LocalDateTime[] createdAt);
+
+    @Modifying
+    @Query(value = "NOTIFY outbox", nativeQuery = true)
+    void notifyInserted();
+
     @Modifying
     @Query("UPDATE OutboxMessage o SET o.processedAt = CURRENT_TIMESTAMP WHERE o.id = :id")
     int markProcessedById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.processedAt = CURRENT_TIMESTAMP WHERE o.id IN :ids")
+    int markProcessedByIds(@Param("ids") Collection<Long> ids);
 }
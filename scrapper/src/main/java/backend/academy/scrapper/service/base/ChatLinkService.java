@@ -1,7 +1,9 @@
 package backend.academy.scrapper.service.base;
 
 import backend.academy.scrapper.model.db.chatlink.ChatLink;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ChatLinkService {
@@ -54,4 +56,12 @@ public interface ChatLinkService {
      * @return список идентификаторов чатов
      */
     List<Long> getChatIdsByLinkId(Long linkId);
+
+    /**
+     * Пакетный вариант {@link #getChatIdsByLinkId(Long)}: находит подписчиков всех переданных ссылок одним запросом.
+     *
+     * @param linkIds идентификаторы ссылок
+     * @return Map: идентификатор ссылки → список идентификаторов чатов; ссылки без подписчиков отсутствуют
+     */
+    Map<Long, List<Long>> getChatIdsByLinkIds(Collection<Long> linkIds);
 }
@@ -3,18 +3,20 @@ package backend.academy.scrapper.service.base;
 import backend.academy.dto.AddLinkRequest;
 import backend.academy.dto.LinkResponse;
 import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface LinkService {
     /**
-     * Возвращает и «резервирует» пакет ссылок для последующей проверки обновлений.
+     * Возвращает и «резервирует» пакет ссылок, срок проверки которых наступил, назначая каждой следующий срок по
+     * адаптивному интервалу.
      *
-     * @param intervalSeconds минимальное время с момента последней проверки
-     * @param limit максимально число ссылок в пакете
+     * @param criteria базовый интервал, потолок интервала и максимальное число ссылок в пакете
      * @return список сущностей Link для обработки
      */
-    List<Link> fetchBatchToUpdate(int intervalSeconds, int limit);
+    List<Link> fetchBatchToUpdate(LinkClaimCriteria criteria);
 
     /**
      * Добавляет новую ссылку (если ещё нет) и возвращает DTO с её данными и тегами.
@@ -33,9 +35,27 @@ public interface LinkService {
     Optional<Long> findByUrl(String url);
 
     /**
-     * Обновляет время последнего изменения для указанной сущности Link.
+     * Обновляет время последнего изменения для указанной сущности Link и сбрасывает её адаптивный интервал проверки к
+     * базовому.
      *
      * @param link сущность Link с новым значением поля lastModified
      */
     void updateLastModified(Link link);
+
+    /**
+     * Пакетный вариант {@link #updateLastModified(Link)}: сохраняет новое время последнего изменения для всех
+     * переданных ссылок за один запрос к базе.
+     *
+     * @param links сущности Link с новыми значениями поля lastModified
+     */
+    void updateLastModifiedAll(List<Link> links);
+
+    /**
+     * Возвращает ссылку в очередь на проверку, не считая её проверенной: ссылка снова станет доступна в указанный
+     * момент. Используется, когда проверка отложена из-за ограничения числа запросов к внешнему API.
+     *
+     * @param link сущность Link, проверка которой отложена
+     * @param resumeAt момент, когда ссылку снова можно проверять
+     */
+    void deferCheck(Link link, Instant resumeAt);
 }
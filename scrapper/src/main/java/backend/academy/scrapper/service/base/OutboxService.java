@@ -1,6 +1,7 @@
 package backend.academy.scrapper.service.base;
 
 import backend.academy.scrapper.model.db.outbox.OutboxMessage;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +20,13 @@ public interface OutboxService {
      */
     OutboxMessage save(OutboxMessage message);
 
+    /**
+     * Сохраняет срез сообщений в таблицу outbox одним запросом.
+     *
+     * @param messages сообщения для сохранения
+     */
+    void saveAll(List<OutboxMessage> messages);
+
     /**
      * Находит необработанные (неотправленные) сообщения.
      *
@@ -27,10 +35,29 @@ public interface OutboxService {
      */
     List<OutboxMessage> findUnprocessed(int limit);
 
+    /**
+     * Захватывает необработанные сообщения для публикации этим экземпляром так, чтобы несколько экземпляров scrapper
+     * получали непересекающиеся срезы. Захват действует {@code leaseMs} миллисекунд; сообщения, не помеченные
+     * обработанными за это время, снова становятся доступны любому экземпляру.
+     *
+     * @param owner идентификатор экземпляра-публикатора
+     * @param limit максимальное количество сообщений для выборки
+     * @param leaseMs длительность аренды в миллисекундах
+     * @return захваченные сообщения в порядке создания
+     */
+    List<OutboxMessage> claimUnprocessed(String owner, int limit, long leaseMs);
+
     /**
      * Помечает сообщение как обработанное после успешной отправки.
      *
      * @param id идентификатор сообщения в таблице outbox
      */
     void markProcessed(Long id);
+
+    /**
+     * Помечает обработанными все сообщения пакета, доставку которых подтвердил брокер, одним запросом.
+     *
+     * @param ids идентификаторы сообщений в таблице outbox
+     */
+    void markProcessed(Collection<Long> ids);
 }
@@ -4,7 +4,9 @@ import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.chatlink.ChatLink;
 import backend.academy.scrapper.repository.jdbc.ChatLinkJdbcRepository;
 import backend.academy.scrapper.service.base.ChatLinkService;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -59,4 +61,10 @@ public class ChatLinkServiceJdbcImpl implements ChatLinkService {
     public List<Long> getChatIdsByLinkId(Long linkId) {
         return chatLinkJdbcRepository.findChatIdsByLinkId(linkId);
     }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Map<Long, List<Long>> getChatIdsByLinkIds(Collection<Long> linkIds) {
+        return chatLinkJdbcRepository.findChatIdsByLinkIds(linkIds);
+    }
 }
@@ -7,11 +7,15 @@ import backend.academy.scrapper.converter.base.impl.LinkConverter;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.parser.CompositeLinkParser;
 import backend.academy.scrapper.repository.jdbc.link.LinkJdbcRepository;
 import backend.academy.scrapper.repository.jdbc.link.impl.LinkImplRepository;
 import backend.academy.scrapper.service.base.LinkService;
-import backend.academy.scrapper.service.base.impl.jdbc.enrich.LinkDetailsEnricher;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,14 +34,13 @@ public class LinkServiceJdbcImpl implements LinkService {
     private final LinkJdbcRepository linkJdbcRepository;
     private final LinkUpdater linkUpdater;
     private final CompositeLinkParser parser;
-    private final LinkDetailsEnricher linkDetailsEnricher;
     private final LinkConverter linkConverter;
     private final Map<LinkType, LinkImplRepository<? extends Link>> linkImplRepositoryMap;
 
     @Override
-    public List<Link> fetchBatchToUpdate(int intervalSeconds, int limit) {
-        List<Link> links = linkJdbcRepository.fetchLinksToUpdate(intervalSeconds, limit);
-        return linkDetailsEnricher.enrich(links);
+    public List<Link> fetchBatchToUpdate(LinkClaimCriteria criteria) {
+        // Поля подтипа заполняются тем же запросом, что и захват пакета
+        return linkJdbcRepository.fetchLinksToUpdate(criteria);
     }
 
     @Override
@@ -52,6 +55,20 @@ public class LinkServiceJdbcImpl implements LinkService {
         linkJdbcRepository.updateLastModified(link.id(), link.lastModified());
     }
 
+    @Override
+    @Transactional
+    public void updateLastModifiedAll(List<Link> links) {
+        Map<Long, LocalDateTime> newTimes = new LinkedHashMap<>();
+        links.forEach(link -> newTimes.put(link.id(), link.lastModified()));
+        linkJdbcRepository.updateLastModifiedAll(newTimes);
+    }
+
+    @Override
+    @Transactional
+    public void deferCheck(Link link, Instant resumeAt) {
+        linkJdbcRepository.deferNextCheck(link.id(), LocalDateTime.ofInstant(resumeAt, ZoneId.systemDefault()));
+    }
+
     @Override
     @Transactional
     @SuppressWarnings("unchecked")
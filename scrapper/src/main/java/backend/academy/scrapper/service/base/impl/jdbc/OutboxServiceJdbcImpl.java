@@ -3,6 +3,7 @@ package backend.academy.scrapper.service.base.impl.jdbc;
 import backend.academy.scrapper.model.db.outbox.OutboxMessage;
 import backend.academy.scrapper.repository.jdbc.OutboxJdbcRepository;
 import backend.academy.scrapper.service.base.OutboxService;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -18,7 +19,16 @@ public class OutboxServiceJdbcImpl implements OutboxService {
 
     @Override
     public OutboxMessage save(OutboxMessage message) {
-        return repository.save(message);
+        OutboxMessage saved = repository.save(message);
+        repository.notifyInserted();
+        return saved;
+    }
+
+    @Override
+    public void saveAll(List<OutboxMessage> messages) {
+        if (repository.saveAll(messages) > 0) {
+            repository.notifyInserted();
+        }
     }
 
     @Override
@@ -27,9 +37,19 @@ public class OutboxServiceJdbcImpl implements OutboxService {
         return repository.findUnprocessed(limit);
     }
 
+    @Override
+    public List<OutboxMessage> claimUnprocessed(String owner, int limit, long leaseMs) {
+        return repository.claimUnprocessed(owner, limit, leaseMs);
+    }
+
     @Override
     @Transactional
     public void markProcessed(Long id) {
         repository.markProcessed(id);
     }
+
+    @Override
+    public void markProcessed(Collection<Long> ids) {
+        repository.markProcessed(ids);
+    }
 }
@@ -3,10 +3,14 @@ package backend.academy.scrapper.service.base.impl.jpa;
 import backend.academy.scrapper.converter.jpa.ChatLinkConverter;
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.chatlink.ChatLink;
+import backend.academy.scrapper.model.helper.LinkChatPair;
 import backend.academy.scrapper.repository.jpa.chatlink.ChatLinkJpaRepository;
 import backend.academy.scrapper.service.base.ChatLinkService;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -70,4 +74,15 @@ public class ChatLinkServiceJpaImpl implements ChatLinkService {
     public List<Long> getChatIdsByLinkId(Long linkId) {
         return chatLinkJpaRepository.findChatIdsByLinkId(linkId);
     }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Map<Long, List<Long>> getChatIdsByLinkIds(Collection<Long> linkIds) {
+        if (linkIds.isEmpty()) {
+            return Map.of();
+        }
+        return chatLinkJpaRepository.findChatIdsByLinkIds(linkIds).stream()
+                .collect(Collectors.groupingBy(
+                        LinkChatPair::linkId, Collectors.mapping(LinkChatPair::chatId, Collectors.toList())));
+    }
 }
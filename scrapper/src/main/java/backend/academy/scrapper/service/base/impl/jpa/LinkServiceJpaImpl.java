@@ -6,9 +6,11 @@ import backend.academy.scrapper.checkupdate.main.LinkUpdater;
 import backend.academy.scrapper.converter.base.impl.LinkConverter;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.parser.CompositeLinkParser;
 import backend.academy.scrapper.repository.jpa.link.LinkJpaRepository;
 import backend.academy.scrapper.service.base.LinkService;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
@@ -31,14 +33,21 @@ public class LinkServiceJpaImpl implements LinkService {
     private final LinkConverter linkConverter;
 
     @Override
-    public List<Link> fetchBatchToUpdate(int intervalSeconds, int limit) {
-        List<Long> ids = linkJpaRepository.fetchIdsToUpdate(intervalSeconds, limit);
+    public List<Link> fetchBatchToUpdate(LinkClaimCriteria criteria) {
+        List<Long> ids = criteria.sharded()
+                ? linkJpaRepository.fetchIdsToUpdateInShards(
+                        criteria.intervalSeconds(),
+                        criteria.limit(),
+                        criteria.priorityBoostSeconds(),
+                        criteria.shardCount(),
+                        criteria.shards().toArray(Integer[]::new))
+                : linkJpaRepository.fetchIdsToUpdate(
+                        criteria.intervalSeconds(), criteria.limit(), criteria.priorityBoostSeconds());
         if (ids.isEmpty()) {
             return Collections.emptyList();
         }
-        List<Link> links = linkJpaRepository.findAllById(ids);
-        links.forEach(link -> link.lastChecked(LocalDateTime.now(ZoneId.systemDefault())));
-        return linkJpaRepository.saveAll(links);
+        linkJpaRepository.scheduleNextCheck(ids, criteria.intervalSeconds(), criteria.maxIntervalSeconds());
+        return linkJpaRepository.findAllById(ids);
     }
 
     @Override
@@ -49,9 +58,32 @@ public class LinkServiceJpaImpl implements LinkService {
 
     @Override
     public void updateLastModified(Link link) {
+        link.nextCheckAt(null);
+        link.checkIntervalSeconds(0);
         linkJpaRepository.save(link);
     }
 
+    @Override
+    public void updateLastModifiedAll(List<Link> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+        // Один UPDATE ... FROM unnest вместо merge-SELECT и отдельного UPDATE на каждую отсоединённую сущность
+        Long[] ids = new Long[links.size()];
+        LocalDateTime[] newTimes = new LocalDateTime[links.size()];
+        for (int i = 0; i < links.size(); i++) {
+            Link link = links.get(i).nextCheckAt(null).checkIntervalSeconds(0);
+            ids[i] = link.id();
+            newTimes[i] = link.lastModified();
+        }
+        linkJpaRepository.updateLastModifiedAll(ids, newTimes);
+    }
+
+    @Override
+    public void deferCheck(Link link, Instant resumeAt) {
+        linkJpaRepository.deferNextCheck(link.id(), LocalDateTime.ofInstant(resumeAt, ZoneId.systemDefault()));
+    }
+
     @Override
     public LinkResponse addLink(AddLinkRequest request) {
         return linkJpaRepository
@@ -3,6 +3,9 @@ package backend.academy.scrapper.service.base.impl.jpa;
 import backend.academy.scrapper.model.db.outbox.OutboxMessage;
 import backend.academy.scrapper.repository.jpa.outbox.OutboxJpaRepository;
 import backend.academy.scrapper.service.base.OutboxService;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -20,7 +23,29 @@ public class OutboxServiceJpaImpl implements OutboxService {
 
     @Override
     public OutboxMessage save(OutboxMessage message) {
-        return repository.save(message);
+        OutboxMessage saved = repository.save(message);
+        repository.notifyInserted();
+        return saved;
+    }
+
+    /**
+     * Записывает срез одним нативным запросом: при {@link jakarta.persistence.GenerationType#IDENTITY} Hibernate не
+     * группирует вставки сущностей в пакеты и выполняет по запросу на каждую.
+     */
+    @Override
+    public void saveAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneId.systemDefault());
+        repository.insertAll(
+                messages.stream().map(OutboxMessage::topic).toArray(String[]::new),
+                messages.stream().map(OutboxMessage::payload).toArray(String[]::new),
+                messages.stream().map(OutboxMessage::messageKey).toArray(Long[]::new),
+                messages.stream()
+                        .map(msg -> msg.createdAt() == null ? now : msg.createdAt())
+                        .toArray(LocalDateTime[]::new));
+        repository.notifyInserted();
     }
 
     @Override
@@ -29,8 +54,25 @@ public class OutboxServiceJpaImpl implements OutboxService {
         return repository.findUnprocessed(PageRequest.of(0, limit));
     }
 
+    @Override
+    public List<OutboxMessage> claimUnprocessed(String owner, int limit, long leaseMs) {
+        List<Long> ids = repository.findClaimableIds(limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repository.claim(ids, owner, leaseMs);
+        return repository.findAllByIdOrdered(ids);
+    }
+
     @Override
     public void markProcessed(Long id) {
         repository.markProcessedById(id);
     }
+
+    @Override
+    public void markProcessed(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            repository.markProcessedByIds(ids);
+        }
+    }
 }
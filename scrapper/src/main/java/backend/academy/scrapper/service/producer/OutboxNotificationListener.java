@@ -0,0 +1,97 @@
+package backend.academy.scrapper.service.producer;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Будит {@link OutboxProducerService} по {@code NOTIFY outbox}, который отправляется при записи сообщений в Outbox.
+ *
+ * <p>Держит отдельное соединение с Postgres вне пула и выполняет на нём {@code LISTEN outbox}. Получив уведомление,
+ * сразу выгружает Outbox в Kafka на своём потоке; уведомления, пришедшие за это время, копятся в соединении и
+ * обрабатываются следующей выгрузкой. При обрыве соединение переоткрывается, а после подключения Outbox выгружается без
+ * ожидания уведомления, чтобы не пропустить записи, сделанные во время обрыва.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.kafka", name = "notify-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxNotificationListener {
+    static final String CHANNEL = "outbox";
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final OutboxProducerService producerService;
+    private final ScrapperConfig cfg;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("outbox-listener").daemon().factory());
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor.execute(this::listen);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                log.info("Listening for outbox notifications");
+                drain();
+                while (running) {
+                    // Таймаут ограничивает время реакции на остановку: драйвер не прерывает чтение по interrupt
+                    PGNotification[] notifications =
+                            pg.getNotifications(cfg.kafka().pollIntervalMs());
+                    if (notifications != null && notifications.length > 0) {
+                        drain();
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Outbox listener connection lost, reconnecting: {}", e.getMessage());
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            producerService.publishUnprocessed();
+        } catch (RuntimeException e) {
+            log.error("Failed to publish outbox on notification", e);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(cfg.kafka().pollIntervalMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -2,54 +2,135 @@ package backend.academy.scrapper.service.producer;
 
 import backend.academy.dto.LinkUpdate;
 import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.db.outbox.OutboxMessage;
 import backend.academy.scrapper.service.base.OutboxService;
 import backend.academy.scrapper.service.serialization.JsonSerializationService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
  * Сервис-публикатор для отправки сообщений из таблицы Outbox в Kafka.
  *
- * <p>Периодически запрашивает необработанные записи из Outbox через {@link OutboxService}, десериализует полезную
- * нагрузку в {@link LinkUpdate} и публикует в указанный топик при помощи {@link KafkaTemplate}. После успешной отправки
- * сообщение помечается как обработанное, в противном случае логируется ошибка.
+ * <p>Захватывает необработанные записи из Outbox через {@link OutboxService} и публикует весь пакет в указанный топик
+ * при помощи {@link KafkaTemplate}, не дожидаясь подтверждения каждой записи. Полезная нагрузка уже хранится в Outbox
+ * как JSON {@link LinkUpdate}, поэтому уходит в Kafka байтами без разбора и повторной сериализации; ключ записи берётся
+ * из {@code message_key}, а тип — в заголовке {@code __TypeId__}, как его выставлял {@code JsonSerializer}. Контракт
+ * {@code JsonDeserializer} на стороне бота не меняется. Затем ждёт подтверждений всего пакета и одним запросом помечает
+ * обработанными те сообщения, которые брокер принял; остальные будут отправлены повторно в следующем цикле.
+ *
+ * <p>Записи захватываются в аренду на {@code app.kafka.lease-ms} от имени этого экземпляра, поэтому несколько
+ * экземпляров scrapper публикуют непересекающиеся срезы Outbox.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OutboxProducerService {
+    private static final byte[] TYPE_ID = LinkUpdate.class.getName().getBytes(StandardCharsets.UTF_8);
+
     private final OutboxService outboxService;
-    private final KafkaTemplate<Long, LinkUpdate> kafka;
+    private final KafkaTemplate<Long, byte[]> kafka;
     private final ScrapperConfig cfg;
     private final JsonSerializationService jsonSer;
+    private final String instanceId = UUID.randomUUID().toString();
 
     /**
-     * Запускается по расписанию (fixed delay) и отправляет в Kafka неотправленные сообщения из Outbox.
+     * Отправляет в Kafka все неотправленные сообщения из Outbox, пакет за пакетом.
+     *
+     * <p>Вызывается {@link OutboxNotificationListener} по {@code NOTIFY outbox} сразу после записи сообщений, а по
+     * расписанию ({@code app.kafka.safety-poll-interval-ms}) — лишь как страховка на случай потерянного уведомления или
+     * истёкшей аренды. Вызовы сериализуются, поэтому уведомление, пришедшее во время отправки, не теряется: следующий
+     * вызов дождётся текущего и заберёт новые записи.
      *
-     * <p>Размер пакета берётся из конфигурации ({@code cfg.update().batchLimit()}).
+     * <p>Размер пакета берётся из конфигурации ({@code cfg.update().batchLimit()}). Следующий пакет забирается, только
+     * если предыдущий был полным и целиком подтверждён брокером.
      */
-    @Scheduled(fixedDelayString = "${app.kafka.poll-interval-ms}")
-    public void publishUnprocessed() {
-        var batch = outboxService.findUnprocessed(cfg.update().batchLimit());
-        for (var msg : batch) {
-            try {
-                LinkUpdate record = jsonSer.fromJson(msg.payload(), LinkUpdate.class);
-
-                var unused = kafka.send(msg.topic(), record.id(), record).whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        outboxService.markProcessed(msg.id());
-                        log.info("Outbox {} published marked processed", msg.id());
-                    } else {
-                        log.error("Kafka send failed for outbox {}", msg.id(), ex);
-                    }
-                });
+    @Scheduled(fixedDelayString = "${app.kafka.safety-poll-interval-ms}")
+    public synchronized void publishUnprocessed() {
+        int limit = cfg.update().batchLimit();
+        boolean more = true;
+        while (more) {
+            more = publishBatch(limit);
+        }
+    }
 
+    /**
+     * Публикует один пакет. Подтверждения ожидаются не дольше интервала опроса ({@code cfg.kafka().pollIntervalMs()}).
+     *
+     * @return {@code true}, если в Outbox, вероятно, остались сообщения и брокер доступен
+     */
+    private boolean publishBatch(int limit) {
+        var batch =
+                outboxService.claimUnprocessed(instanceId, limit, cfg.kafka().leaseMs());
+        if (batch.isEmpty()) {
+            return false;
+        }
+        Map<Long, CompletableFuture<SendResult<Long, byte[]>>> sent = new LinkedHashMap<>();
+        for (OutboxMessage msg : batch) {
+            try {
+                sent.put(msg.id(), kafka.send(toRecord(msg)));
             } catch (Exception e) {
                 log.error("Failed to process outbox {}", msg.id(), e);
             }
         }
+        kafka.flush();
+
+        List<Long> acknowledged = awaitAcknowledged(sent);
+        if (!acknowledged.isEmpty()) {
+            outboxService.markProcessed(acknowledged);
+        }
+        log.info("Outbox batch published: {} of {} messages marked processed", acknowledged.size(), batch.size());
+        return batch.size() == limit && acknowledged.size() == batch.size();
+    }
+
+    private ProducerRecord<Long, byte[]> toRecord(OutboxMessage msg) throws IOException {
+        // Записи, созданные до появления message_key, разбираются ради ключа
+        Long key = msg.messageKey() != null
+                ? msg.messageKey()
+                : jsonSer.fromJson(msg.payload(), LinkUpdate.class).id();
+        ProducerRecord<Long, byte[]> record =
+                new ProducerRecord<>(msg.topic(), key, msg.payload().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(new RecordHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, TYPE_ID));
+        return record;
+    }
+
+    private List<Long> awaitAcknowledged(Map<Long, CompletableFuture<SendResult<Long, byte[]>>> sent) {
+        try {
+            CompletableFuture.allOf(sent.values().toArray(new CompletableFuture[0]))
+                    .get(cfg.kafka().pollIntervalMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Ошибки отдельных сообщений разбираются ниже: подтверждённые всё равно помечаются обработанными
+            log.debug("Not every outbox message was acknowledged in time", e);
+        }
+        List<Long> acknowledged = new ArrayList<>(sent.size());
+        sent.forEach((id, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                acknowledged.add(id);
+            } else if (future.isCompletedExceptionally()) {
+                log.error("Kafka send failed for outbox {}", id, future.exceptionNow());
+            } else {
+                log.warn("Kafka send for outbox {} not acknowledged in time, will retry", id);
+            }
+        });
+        return acknowledged;
     }
 }
@@ -0,0 +1,51 @@
+package backend.academy.scrapper.service.producer;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.repository.jdbc.OutboxPartitionJdbcRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Обслуживание партиций таблицы outbox.
+ *
+ * <p>Заранее создаёт суточные партиции на сегодня и {@value #PRECREATE_DAYS} дня вперёд, чтобы новые сообщения не
+ * попадали в {@code outbox_default}. Партиции старше {@code app.kafka.retention-days} удаляются целиком ({@code DROP
+ * TABLE} не оставляет мёртвых строк и раздутых индексов), но только если в них не осталось неотправленных сообщений.
+ * Текущая дата берётся из базы, как и {@code created_at}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRetentionService {
+    static final int PRECREATE_DAYS = 2;
+
+    private final OutboxPartitionJdbcRepository partitionRepository;
+    private final ScrapperConfig cfg;
+
+    /** Запускается при старте и затем каждые {@code app.kafka.retention-check-interval-ms} миллисекунд. */
+    @Scheduled(fixedDelayString = "${app.kafka.retention-check-interval-ms}")
+    public void maintainPartitions() {
+        LocalDate today = partitionRepository.currentDate();
+        for (int i = 0; i <= PRECREATE_DAYS; i++) {
+            partitionRepository.createDailyPartition(today.plusDays(i));
+        }
+
+        LocalDate cutoff = today.minusDays(cfg.kafka().retentionDays());
+        int dropped = 0;
+        for (LocalDate day : partitionRepository.findDailyPartitions()) {
+            if (!day.isBefore(cutoff)) {
+                break;
+            }
+            if (partitionRepository.dropIfProcessed(day)) {
+                dropped++;
+            } else {
+                log.warn("Outbox partition for {} is past retention but still has pending messages", day);
+            }
+        }
+        int deleted = partitionRepository.deleteProcessedFromDefault(cutoff.atStartOfDay());
+        log.info("Outbox retention: dropped {} partitions, deleted {} rows from default partition", dropped, deleted);
+    }
+}
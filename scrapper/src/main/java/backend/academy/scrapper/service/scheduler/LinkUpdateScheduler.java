@@ -1,43 +1,64 @@
 package backend.academy.scrapper.service.scheduler;
 
+import backend.academy.scrapper.checkupdate.main.LinkUpdater;
 import backend.academy.scrapper.config.ScrapperConfig;
 import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.service.base.LinkService;
+import backend.academy.scrapper.service.scheduler.priority.LinkPriorityService;
 import backend.academy.scrapper.service.scheduler.processor.LinkUpdateProcessor;
+import backend.academy.scrapper.service.scheduler.shard.LinkShardSelector;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
- * Планировщик, который каждые {@code app.update.interval-seconds} секунд запрашивает из {@link LinkService} пакет
- * ссылок на обновление (до {@code app.update.batch-limit} штук) и передаёт их на обработку в текущую стратегию
- * {@link LinkUpdateProcessor}.
+ * Планировщик, который каждые {@code app.update.delay-ms} миллисекунд запрашивает из {@link LinkService} пакет ссылок,
+ * срок проверки которых наступил (до {@code app.update.batch-limit} штук), и передаёт их на обработку в текущую
+ * стратегию {@link LinkUpdateProcessor}.
  *
- * <p>Интервал опроса фиксирован константой {@code DELAY_MS}, остальные параметры (batch‑limit, interval‑seconds, режим
- * обработки) настраиваются через {@link ScrapperConfig.Update}.
+ * <p>Внутри пакета ссылки обрабатываются в порядке убывания приоритета (см. {@link LinkPriorityService}).
+ *
+ * <p>Срок проверки каждой ссылки адаптивный (см. {@link LinkClaimCriteria}), параметры выборки и режим обработки
+ * настраиваются через {@link ScrapperConfig.Update}. При нескольких репликах выборка ограничивается шардами, которыми
+ * владеет этот экземпляр (см. {@link LinkShardSelector}).
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LinkUpdateScheduler {
-    private final int intervalSeconds;
-    private final int batchLimit;
+    private final LinkClaimCriteria linkClaimCriteria;
     private final LinkService linkService;
+    private final LinkUpdater linkUpdater;
     private final LinkUpdateProcessor updateProcessor;
+    private final LinkShardSelector shardSelector;
 
     /**
-     * Выполняет один цикл проверки: получает список ссылок, которые давно не проверялись, логирует результат,
-     * делегирует обработку {@link LinkUpdateProcessor}, и по её окончании логирует завершение.
+     * Выполняет один цикл проверки: получает список ссылок, которые давно не проверялись, логирует результат, заранее
+     * загружает пакетные обновления через {@link LinkUpdater#prefetch(List)}, делегирует обработку
+     * {@link LinkUpdateProcessor}, и по её окончании логирует завершение.
      */
     @Scheduled(fixedDelayString = "${app.update.delay-ms}")
     public void checkForUpdates() {
-        List<Link> batch = linkService.fetchBatchToUpdate(intervalSeconds, batchLimit);
+        Optional<LinkClaimCriteria> criteria = shardSelector.restrict(linkClaimCriteria);
+        if (criteria.isEmpty()) {
+            log.info("No link shards owned by this instance");
+            return;
+        }
+        List<Link> batch = linkService.fetchBatchToUpdate(criteria.get());
         if (batch.isEmpty()) {
             log.info("No links to update in this batch");
             return;
         }
+        // Приоритетные ссылки первыми получают квоту upstream и место в очередях обработки
+        batch = batch.stream()
+                .sorted(Comparator.comparingInt((Link link) -> link.priority()).reversed())
+                .toList();
+        linkUpdater.prefetch(batch);
         updateProcessor.process(batch);
         log.info("Batch update processing completed");
     }
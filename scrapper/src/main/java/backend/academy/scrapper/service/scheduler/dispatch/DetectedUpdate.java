@@ -0,0 +1,12 @@
+package backend.academy.scrapper.service.scheduler.dispatch;
+
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+
+/**
+ * Найденное обновление ссылки, ожидающее записи в базу и отправки уведомления.
+ *
+ * @param link ссылка
+ * @param detail детали обновления, новее сохранённого <code>lastModified</code>
+ */
+public record DetectedUpdate(Link link, UpdateDetail detail) {}
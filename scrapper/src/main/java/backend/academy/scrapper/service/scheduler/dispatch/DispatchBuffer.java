@@ -0,0 +1,81 @@
+package backend.academy.scrapper.service.scheduler.dispatch;
+
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Накопитель найденных обновлений одной пачки ссылок. Обновления копятся до {@code app.update.dispatch-batch-size} штук
+ * и записываются одним вызовом {@link LinkDispatchHandler#dispatchAll(List)}, то есть за несколько запросов к базе на
+ * весь срез вместо двух-трёх на каждую ссылку.
+ *
+ * <p>Если запись среза целиком не удалась, обновления записываются по одному через
+ * {@link LinkDispatchHandler#dispatch(Link, UpdateDetail)}, чтобы ошибка одной ссылки не теряла остальные.
+ * Потокобезопасен.
+ */
+@Slf4j
+public class DispatchBuffer {
+    private final LinkDispatchHandler linkDispatchHandler;
+    private final int sliceSize;
+    private List<DetectedUpdate> buffer;
+
+    public DispatchBuffer(LinkDispatchHandler linkDispatchHandler, int sliceSize) {
+        this.linkDispatchHandler = linkDispatchHandler;
+        this.sliceSize = sliceSize;
+        this.buffer = new ArrayList<>(sliceSize);
+    }
+
+    /**
+     * Добавляет обновление в накопитель.
+     *
+     * @param link ссылка
+     * @param detail детали обновления
+     * @return заполненный срез, который вызывающий должен записать через {@link #flush(List)}, если накопитель
+     *     заполнился
+     */
+    public synchronized Optional<List<DetectedUpdate>> add(Link link, UpdateDetail detail) {
+        buffer.add(new DetectedUpdate(link, detail));
+        if (buffer.size() < sliceSize) {
+            return Optional.empty();
+        }
+        return Optional.of(drain());
+    }
+
+    /**
+     * Забирает накопленные обновления, оставляя накопитель пустым.
+     *
+     * @return накопленные обновления (возможно, пустой список)
+     */
+    public synchronized List<DetectedUpdate> drain() {
+        List<DetectedUpdate> slice = buffer;
+        buffer = new ArrayList<>(sliceSize);
+        return slice;
+    }
+
+    /**
+     * Записывает срез обновлений. Ошибки логируются и не пробрасываются.
+     *
+     * @param slice обновления для записи
+     */
+    public void flush(List<DetectedUpdate> slice) {
+        if (slice.isEmpty()) {
+            return;
+        }
+        try {
+            linkDispatchHandler.dispatchAll(slice);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Batch dispatch of {} updates failed, falling back to per-link dispatch", slice.size(), e);
+        }
+        for (DetectedUpdate update : slice) {
+            try {
+                linkDispatchHandler.dispatch(update.link(), update.detail());
+            } catch (RuntimeException e) {
+                log.error("Error dispatching update for link {}", update.link().id(), e);
+            }
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package backend.academy.scrapper.service.scheduler.dispatch;
 
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.LoggerFactory;
 
 /** Интерфейс для обработки обновлений ссылок. Обновить lastModified и отправить уведомление (Kafka или HTTP). */
 public interface LinkDispatchHandler {
@@ -11,4 +17,57 @@ public interface LinkDispatchHandler {
      * @param link сущность ссылки для обработки
      */
     void handleOne(Link link);
+
+    /**
+     * Первая половина {@link #handleOne(Link)}: запрашивает у внешнего API детали обновления и сравнивает их с <code>
+     * lastModified</code>. Ошибки логируются. К базе данных не обращается: если проверка отложена из-за лимита
+     * запросов, исключение пробрасывается, и вызывающий возвращает ссылку в очередь через {@link #deferCheck(Link,
+     * Instant)} под тем же ограничением соединений, что и запись обновлений.
+     *
+     * @param link сущность ссылки для проверки
+     * @return детали обновления, если оно новее сохранённого, иначе пустой результат
+     * @throws CheckDeferredException если внешний API ограничил число запросов
+     */
+    Optional<UpdateDetail> fetchUpdate(Link link);
+
+    /**
+     * Вторая половина {@link #handleOne(Link)}: сохраняет новое <code>lastModified</code> и отправляет уведомление.
+     * Обращается только к базе данных и каналу доставки; ошибки пробрасываются вызывающему.
+     *
+     * @param link сущность ссылки
+     * @param detail детали нового обновления, полученные из {@link #fetchUpdate(Link)}
+     */
+    void dispatch(Link link, UpdateDetail detail);
+
+    /**
+     * Пакетный вариант {@link #dispatch(Link, UpdateDetail)}: сохраняет <code>lastModified</code> и отправляет
+     * уведомления для среза найденных обновлений за фиксированное число запросов к базе.
+     *
+     * <p>По умолчанию обновления записываются по одному, ошибки отдельных ссылок логируются. Реализации, работающие с
+     * базой, переопределяют метод и пробрасывают ошибку, если срез не удалось записать целиком.
+     *
+     * @param updates найденные обновления
+     */
+    default void dispatchAll(List<DetectedUpdate> updates) {
+        for (DetectedUpdate update : updates) {
+            try {
+                dispatch(update.link(), update.detail());
+            } catch (RuntimeException e) {
+                LoggerFactory.getLogger(LinkDispatchHandler.class)
+                        .error(
+                                "Error dispatching update for link {}",
+                                update.link().id(),
+                                e);
+            }
+        }
+    }
+
+    /**
+     * Возвращает ссылку в очередь на проверку, не считая её проверенной. Вызывается, когда внешний API ограничил число
+     * запросов и проверка отложена.
+     *
+     * @param link сущность ссылки
+     * @param resumeAt момент, когда ссылку снова можно проверять
+     */
+    void deferCheck(Link link, Instant resumeAt);
 }
@@ -2,14 +2,20 @@ package backend.academy.scrapper.service.scheduler.dispatch.impl;
 
 import backend.academy.dto.LinkUpdate;
 import backend.academy.scrapper.checkupdate.main.LinkUpdater;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.service.base.ChatLinkService;
 import backend.academy.scrapper.service.base.LinkService;
 import backend.academy.scrapper.service.client.BotApiClient;
+import backend.academy.scrapper.service.scheduler.dispatch.DetectedUpdate;
 import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -45,27 +51,81 @@ public class HttpLinkDispatchHandler implements LinkDispatchHandler {
      */
     @Override
     public void handleOne(Link link) {
+        try {
+            fetchUpdate(link).ifPresent(detail -> dispatch(link, detail));
+        } catch (CheckDeferredException e) {
+            deferCheck(link, e.resumeAt());
+        } catch (Exception e) {
+            log.error("Error processing link {} via HTTP", link.id(), e);
+        }
+    }
+
+    @Override
+    public Optional<UpdateDetail> fetchUpdate(Link link) {
         try {
             UpdateDetail detail = linkUpdater.fetchLastUpdate(link);
             LocalDateTime newTime = detail.getCreationTime();
             if (link.lastModified() == null || newTime.isAfter(link.lastModified())) {
-                link.lastModified(newTime);
-                linkService.updateLastModified(link);
+                return Optional.of(detail);
+            }
+        } catch (CheckDeferredException e) {
+            log.info("Check of link {} deferred until {}", link.id(), e.resumeAt());
+            throw e;
+        } catch (Exception e) {
+            log.error("Error fetching update for link {}", link.id(), e);
+        }
+        return Optional.empty();
+    }
 
-                List<Long> chatIds = chatLinkService.getChatIdsByLinkId(link.id());
-                LinkUpdate dto = new LinkUpdate(link.id(), link.originalUrl(), detail.getDescription(), chatIds);
+    @Override
+    public void deferCheck(Link link, Instant resumeAt) {
+        linkService.deferCheck(link, resumeAt);
+    }
 
-                botApiClient
-                        .sendUpdate(dto)
-                        .doOnSuccess(__ -> log.info("Sent HTTP update for link {}", link.id()))
-                        .doOnError(err ->
-                                log.error("Error sending HTTP update for link {}: {}", link.id(), err.getMessage()))
-                        .subscribe();
+    @Override
+    public void dispatch(Link link, UpdateDetail detail) {
+        link.lastModified(detail.getCreationTime());
+        linkService.updateLastModified(link);
 
-                log.info("Processed link {} via HTTP", link.id());
-            }
-        } catch (Exception e) {
-            log.error("Error processing link {} via HTTP", link.id(), e);
+        List<Long> chatIds = chatLinkService.getChatIdsByLinkId(link.id());
+        send(link, detail, chatIds);
+
+        log.info("Processed link {} via HTTP", link.id());
+    }
+
+    /**
+     * Сохраняет <code>lastModified</code> всего среза одним запросом, одним запросом находит подписчиков всех ссылок и
+     * отправляет уведомления в Bot API.
+     *
+     * @param updates найденные обновления
+     */
+    @Override
+    public void dispatchAll(List<DetectedUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        List<Link> links = new ArrayList<>(updates.size());
+        for (DetectedUpdate update : updates) {
+            links.add(update.link().lastModified(update.detail().getCreationTime()));
         }
+        linkService.updateLastModifiedAll(links);
+        Map<Long, List<Long>> chatIds =
+                chatLinkService.getChatIdsByLinkIds(links.stream().map(Link::id).toList());
+        for (DetectedUpdate update : updates) {
+            Link link = update.link();
+            send(link, update.detail(), chatIds.getOrDefault(link.id(), List.of()));
+        }
+
+        log.info("Processed {} links via HTTP in one batch", updates.size());
+    }
+
+    private void send(Link link, UpdateDetail detail, List<Long> chatIds) {
+        LinkUpdate dto = new LinkUpdate(link.id(), link.originalUrl(), detail.getDescription(), chatIds);
+
+        botApiClient
+                .sendUpdate(dto)
+                .doOnSuccess(__ -> log.info("Sent HTTP update for link {}", link.id()))
+                .doOnError(err -> log.error("Error sending HTTP update for link {}: {}", link.id(), err.getMessage()))
+                .subscribe();
     }
 }
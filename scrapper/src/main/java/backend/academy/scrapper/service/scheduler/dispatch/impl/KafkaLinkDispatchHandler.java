@@ -2,15 +2,24 @@ package backend.academy.scrapper.service.scheduler.dispatch.impl;
 
 import backend.academy.dto.LinkUpdate;
 import backend.academy.scrapper.checkupdate.main.LinkUpdater;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.outbox.OutboxMessage;
 import backend.academy.scrapper.service.base.ChatLinkService;
 import backend.academy.scrapper.service.base.LinkService;
 import backend.academy.scrapper.service.base.OutboxService;
+import backend.academy.scrapper.service.scheduler.dispatch.DetectedUpdate;
 import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
 import backend.academy.scrapper.service.serialization.JsonSerializationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -45,23 +54,86 @@ public class KafkaLinkDispatchHandler implements LinkDispatchHandler {
     @Transactional
     @Override
     public void handleOne(Link link) {
+        try {
+            fetchUpdate(link).ifPresent(detail -> dispatch(link, detail));
+        } catch (CheckDeferredException e) {
+            deferCheck(link, e.resumeAt());
+        } catch (Exception e) {
+            log.error("Error processing link {} via Kafka", link.id(), e);
+        }
+    }
+
+    @Override
+    public Optional<UpdateDetail> fetchUpdate(Link link) {
         try {
             UpdateDetail detail = linkUpdater.fetchLastUpdate(link);
             LocalDateTime newTime = detail.getCreationTime();
             if (link.lastModified() == null || newTime.isAfter(link.lastModified())) {
-                link.lastModified(newTime);
-                linkService.updateLastModified(link);
-                LinkUpdate dto = new LinkUpdate(
-                        link.id(),
-                        link.originalUrl(),
-                        detail.getDescription(),
-                        chatLinkService.getChatIdsByLinkId(link.id()));
-                String json = jsonSer.toJson(dto);
-                outboxService.save(new OutboxMessage(topic, json));
-                log.info("Processed link {} via Kafka", link.id());
+                return Optional.of(detail);
             }
+        } catch (CheckDeferredException e) {
+            log.info("Check of link {} deferred until {}", link.id(), e.resumeAt());
+            throw e;
         } catch (Exception e) {
-            log.error("Error processing link {} via Kafka", link.id(), e);
+            log.error("Error fetching update for link {}", link.id(), e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void deferCheck(Link link, Instant resumeAt) {
+        linkService.deferCheck(link, resumeAt);
+    }
+
+    /**
+     * Сохраняет новое <code>lastModified</code> и кладёт {@link LinkUpdate} в Outbox в одной транзакции.
+     *
+     * @param link сущность ссылки
+     * @param detail детали нового обновления
+     */
+    @Transactional
+    @Override
+    public void dispatch(Link link, UpdateDetail detail) {
+        link.lastModified(detail.getCreationTime());
+        linkService.updateLastModified(link);
+        outboxService.save(toOutboxMessage(link, detail, chatLinkService.getChatIdsByLinkId(link.id())));
+        log.info("Processed link {} via Kafka", link.id());
+    }
+
+    /**
+     * Сохраняет <code>lastModified</code> всего среза, находит подписчиков всех ссылок и кладёт уведомления в Outbox —
+     * по одному запросу на каждый шаг. Всё выполняется в одной транзакции: при ошибке срез откатывается целиком.
+     *
+     * @param updates найденные обновления
+     */
+    @Transactional
+    @Override
+    public void dispatchAll(List<DetectedUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        List<Link> links = new ArrayList<>(updates.size());
+        for (DetectedUpdate update : updates) {
+            links.add(update.link().lastModified(update.detail().getCreationTime()));
+        }
+        linkService.updateLastModifiedAll(links);
+        Map<Long, List<Long>> chatIds =
+                chatLinkService.getChatIdsByLinkIds(links.stream().map(Link::id).toList());
+        List<OutboxMessage> messages = new ArrayList<>(updates.size());
+        for (DetectedUpdate update : updates) {
+            Link link = update.link();
+            messages.add(toOutboxMessage(link, update.detail(), chatIds.getOrDefault(link.id(), List.of())));
+        }
+        outboxService.saveAll(messages);
+        log.info("Processed {} links via Kafka in one batch", updates.size());
+    }
+
+    private OutboxMessage toOutboxMessage(Link link, UpdateDetail detail, List<Long> chatIds) {
+        LinkUpdate dto = new LinkUpdate(link.id(), link.originalUrl(), detail.getDescription(), chatIds);
+        try {
+            return new OutboxMessage(topic, jsonSer.toJson(dto), dto.id());
+        } catch (JsonProcessingException e) {
+            throw new ScrapperException("Не удалось сериализовать обновление", e.getMessage());
         }
     }
 }
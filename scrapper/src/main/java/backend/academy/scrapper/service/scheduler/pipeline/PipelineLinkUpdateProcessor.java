@@ -0,0 +1,152 @@
+package backend.academy.scrapper.service.scheduler.pipeline;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.service.scheduler.dispatch.DetectedUpdate;
+import backend.academy.scrapper.service.scheduler.dispatch.DispatchBuffer;
+import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import backend.academy.scrapper.service.scheduler.processor.LinkUpdateProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Обработка пачки ссылок конвейером из двух стадий с ограниченными очередями между ними.
+ *
+ * <ol>
+ *   <li>{@code fetch}: запрос к внешнему API и сравнение с <code>lastModified</code>
+ *       ({@link LinkDispatchHandler#fetchUpdate(Link)}), {@code app.update.max-in-flight-requests} потоков.
+ *   <li>{@code persist}: сохранение <code>lastModified</code> и отправка уведомления срезами до
+ *       {@code app.update.dispatch-batch-size} штук ({@link LinkDispatchHandler#dispatchAll(List)}), а также возврат
+ *       отложенных проверок в очередь ({@link LinkDispatchHandler#deferCheck(Link, Instant)}),
+ *       {@code app.update.max-db-connections} потоков.
+ * </ol>
+ *
+ * <p>Сохранение и публикация остаются одной стадией: для Kafka они выполняются в одной транзакции с записью в Outbox.
+ * Очереди вмещают {@code app.update.pipeline-queue-capacity} элементов. Когда очередь {@code persist} заполнена, потоки
+ * {@code fetch} ждут места, а когда заполнена очередь {@code fetch}, ждёт планировщик, поэтому быстрые запросы к API не
+ * накапливают неограниченную очередь записей в базу.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "PIPELINE")
+public class PipelineLinkUpdateProcessor implements LinkUpdateProcessor, DisposableBean {
+
+    private final LinkDispatchHandler linkDispatchHandler;
+    private final DispatchBuffer dispatchBuffer;
+    private final PipelineStage<Task> persistStage;
+    private final PipelineStage<Task> fetchStage;
+
+    public PipelineLinkUpdateProcessor(
+            LinkDispatchHandler linkDispatchHandler, ScrapperConfig.Update updateConfig, MeterRegistry meterRegistry) {
+        this.linkDispatchHandler = linkDispatchHandler;
+        this.dispatchBuffer = new DispatchBuffer(linkDispatchHandler, updateConfig.dispatchBatchSize());
+        int capacity = updateConfig.pipelineQueueCapacity();
+        this.persistStage = new PipelineStage<>(
+                "persist",
+                capacity,
+                updateConfig.maxDbConnections(),
+                updateConfig.dispatchBatchSize(),
+                this::persist,
+                meterRegistry);
+        this.fetchStage = new PipelineStage<>(
+                "fetch",
+                capacity,
+                updateConfig.maxInFlightRequests(),
+                1,
+                tasks -> tasks.forEach(this::fetch),
+                meterRegistry);
+    }
+
+    @Override
+    public void process(List<Link> links) {
+        CountDownLatch done = new CountDownLatch(links.size());
+        try {
+            for (Link link : links) {
+                fetchStage.put(new Task(link, null, null, done));
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Pipeline batch processing interrupted with {} links left", done.getCount());
+            return;
+        }
+        log.info("Pipeline batch processing complete");
+    }
+
+    private void fetch(Task task) {
+        Optional<Task> next;
+        try {
+            next = linkDispatchHandler
+                    .fetchUpdate(task.link())
+                    .map(detail -> new Task(task.link(), detail, null, task.done()));
+        } catch (CheckDeferredException e) {
+            next = Optional.of(new Task(task.link(), null, e.resumeAt(), task.done()));
+        } catch (RuntimeException e) {
+            log.error(
+                    "Error fetching update for link {} in pipeline", task.link().id(), e);
+            task.done().countDown();
+            return;
+        }
+        if (next.isEmpty()) {
+            task.done().countDown();
+            return;
+        }
+        try {
+            persistStage.put(next.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.done().countDown();
+        }
+    }
+
+    private void persist(List<Task> tasks) {
+        try {
+            List<DetectedUpdate> updates = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                if (task.resumeAt() != null) {
+                    defer(task);
+                } else {
+                    updates.add(new DetectedUpdate(task.link(), task.detail()));
+                }
+            }
+            dispatchBuffer.flush(updates);
+        } finally {
+            tasks.forEach(task -> task.done().countDown());
+        }
+    }
+
+    private void defer(Task task) {
+        try {
+            linkDispatchHandler.deferCheck(task.link(), task.resumeAt());
+        } catch (RuntimeException e) {
+            log.error(
+                    "Error deferring check of link {} in pipeline", task.link().id(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        fetchStage.close();
+        persistStage.close();
+    }
+
+    /**
+     * Элемент конвейера.
+     *
+     * @param link ссылка
+     * @param detail найденное обновление (null до стадии {@code persist} и для отложенной проверки)
+     * @param resumeAt момент, до которого проверка отложена (null, если не отложена)
+     * @param done счётчик необработанных ссылок пачки
+     */
+    record Task(Link link, UpdateDetail detail, Instant resumeAt, CountDownLatch done) {}
+}
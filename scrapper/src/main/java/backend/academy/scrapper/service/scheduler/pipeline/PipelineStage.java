@@ -0,0 +1,91 @@
+package backend.academy.scrapper.service.scheduler.pipeline;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Стадия конвейера обработки ссылок: ограниченная очередь и фиксированное число рабочих виртуальных потоков. Рабочий
+ * поток забирает из очереди всё, что накопилось, но не больше {@code batchSize} элементов за раз, и передаёт их
+ * обработчику одним списком.
+ *
+ * <p>{@link #put(Object)} блокирует вызывающего, пока в очереди нет места, поэтому медленная стадия притормаживает
+ * предыдущую. Глубина очереди публикуется как {@code scrapper.pipeline.queue.size}, а число и длительность обработанных
+ * срезов — как таймер {@code scrapper.pipeline.stage}; оба с тегом {@code stage}.
+ *
+ * @param <T> тип элемента
+ */
+@Slf4j
+public class PipelineStage<T> implements AutoCloseable {
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final Consumer<List<T>> handler;
+    private final Timer timer;
+    private final List<Thread> workers = new ArrayList<>();
+
+    public PipelineStage(
+            String name,
+            int capacity,
+            int concurrency,
+            int batchSize,
+            Consumer<List<T>> handler,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.handler = handler;
+        Gauge.builder("scrapper.pipeline.queue.size", queue, BlockingQueue::size)
+                .description("Число элементов, ожидающих стадию конвейера")
+                .tag("stage", name)
+                .register(meterRegistry);
+        this.timer = Timer.builder("scrapper.pipeline.stage")
+                .description("Срезы, обработанные стадией конвейера")
+                .tag("stage", name)
+                .register(meterRegistry);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(Thread.ofVirtual().name("pipeline-" + name + "-" + i).start(this::work));
+        }
+    }
+
+    /**
+     * Ставит элемент в очередь стадии, ожидая свободного места.
+     *
+     * @param item элемент
+     * @throws InterruptedException если поток прерван во время ожидания
+     */
+    public void put(T item) throws InterruptedException {
+        queue.put(item);
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<T> batch = new ArrayList<>(batchSize);
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                timer.record(() -> handler.accept(batch));
+            } catch (RuntimeException e) {
+                log.error("Pipeline stage {} failed to process {} items", name, batch.size(), e);
+            }
+        }
+    }
+
+    /** Останавливает рабочие потоки; элементы, оставшиеся в очереди, не обрабатываются. */
+    @Override
+    public void close() {
+        workers.forEach(Thread::interrupt);
+    }
+}
@@ -0,0 +1,69 @@
+package backend.academy.scrapper.service.scheduler.priority;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.repository.jdbc.link.LinkJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Поддерживает приоритет проверки ссылок ({@code link.priority}) и публикует отставание проверок по уровням.
+ *
+ * <p>Приоритет — порядок числа подписчиков ссылки в {@code chat_link} плюс бонус за изменение в последние сутки, от 0
+ * до {@value #MAX_PRIORITY}. Выборка на проверку ставит приоритетные ссылки вперёд, когда пакет или квота upstream не
+ * покрывают все наступившие проверки.
+ *
+ * <p>Метрика {@code scrapper.link.check.lag} с тегом {@code priority} показывает, на сколько секунд просрочена самая
+ * давняя наступившая проверка на каждом уровне.
+ */
+@Slf4j
+@Service
+public class LinkPriorityService {
+    public static final int MAX_PRIORITY = 4;
+    static final int ACTIVITY_WINDOW_SECONDS = 86400;
+    private static final String LAG_METRIC = "scrapper.link.check.lag";
+
+    private final LinkJdbcRepository linkRepository;
+    private final int intervalSeconds;
+    private final AtomicLong[] lagSeconds = new AtomicLong[MAX_PRIORITY + 1];
+
+    public LinkPriorityService(
+            LinkJdbcRepository linkRepository, ScrapperConfig scrapperConfig, MeterRegistry meterRegistry) {
+        this.linkRepository = linkRepository;
+        this.intervalSeconds = scrapperConfig.update().intervalSeconds();
+        IntStream.rangeClosed(0, MAX_PRIORITY).forEach(priority -> {
+            lagSeconds[priority] = new AtomicLong();
+            Gauge.builder(LAG_METRIC, lagSeconds[priority], AtomicLong::get)
+                    .tag("priority", String.valueOf(priority))
+                    .baseUnit("seconds")
+                    .description("Отставание самой давней наступившей проверки ссылки на уровне приоритета")
+                    .register(meterRegistry);
+        });
+    }
+
+    /** Запускается каждые {@code app.update.priority-refresh-ms}: пересчитывает приоритеты и обновляет метрики. */
+    @Scheduled(fixedDelayString = "${app.update.priority-refresh-ms}")
+    public void refresh() {
+        int changed = linkRepository.refreshPriorities(ACTIVITY_WINDOW_SECONDS, MAX_PRIORITY);
+        Map<Integer, Long> lag = linkRepository.findLagByPriority(intervalSeconds);
+        for (int priority = 0; priority <= MAX_PRIORITY; priority++) {
+            lagSeconds[priority].set(lag.getOrDefault(priority, 0L));
+        }
+        log.info("Link priorities refreshed: {} changed, check lag by priority {}", changed, lag);
+    }
+
+    /**
+     * Возвращает значение, посчитанное при последнем {@link #refresh()}.
+     *
+     * @param priority уровень приоритета, от 0 до {@value #MAX_PRIORITY}
+     * @return текущее отставание проверок на уровне приоритета, в секундах
+     */
+    public long lagSeconds(int priority) {
+        return lagSeconds[priority].get();
+    }
+}
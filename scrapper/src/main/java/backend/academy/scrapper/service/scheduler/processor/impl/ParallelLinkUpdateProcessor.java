@@ -1,18 +1,34 @@
 package backend.academy.scrapper.service.scheduler.processor.impl;
 
+import backend.academy.scrapper.config.ScrapperConfig;
 import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
 import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
 import backend.academy.scrapper.service.scheduler.processor.LinkUpdateProcessor;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+/**
+ * Параллельная обработка пачки ссылок на пуле из {@code threadCount} потоков.
+ *
+ * <p>В режиме {@link ScrapperConfig.Update.ParallelMode#STATIC} пачка заранее делится на {@code threadCount} равных
+ * частей. В режиме {@link ScrapperConfig.Update.ParallelMode#DYNAMIC} потоки забирают ссылки по одной из общей очереди,
+ * поэтому поток, получивший медленные ссылки, не задерживает остальных, и время пачки определяется суммарной работой, а
+ * не самой тяжёлой частью. Ссылки разных типов в очереди чередуются.
+ */
 @Slf4j
 @Service
 @ConditionalOnProperty(name = "app.update.processor-type", havingValue = "PARALLEL")
@@ -21,26 +37,82 @@ public class ParallelLinkUpdateProcessor implements LinkUpdateProcessor {
     private final LinkDispatchHandler linkDispatchHandler;
     private final ExecutorService executorService;
     private final int threadCount;
+    private final ScrapperConfig.Update.ParallelMode parallelMode;
 
     @Override
     public void process(List<Link> links) {
+        var futures = parallelMode == ScrapperConfig.Update.ParallelMode.DYNAMIC
+                ? processDynamic(links)
+                : processStatic(links);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        log.info("Parallel batch processing complete");
+    }
+
+    private List<CompletableFuture<Void>> processStatic(List<Link> links) {
         List<List<Link>> parts = partition(links, threadCount);
         var futures = new ArrayList<CompletableFuture<Void>>(parts.size());
         for (List<Link> part : parts) {
             futures.add(CompletableFuture.runAsync(
                     () -> {
                         for (Link link : part) {
-                            try {
-                                linkDispatchHandler.handleOne(link);
-                            } catch (Exception e) {
-                                log.error("Error processing link {} in parallel", link.id(), e);
-                            }
+                            handleSafely(link);
                         }
                     },
                     executorService));
         }
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-        log.info("Parallel batch processing complete");
+        return futures;
+    }
+
+    private List<CompletableFuture<Void>> processDynamic(List<Link> links) {
+        Queue<Link> queue = new ConcurrentLinkedQueue<>(interleaveByType(links));
+        int workers = Math.max(1, Math.min(threadCount, links.size()));
+        var futures = new ArrayList<CompletableFuture<Void>>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        Link link;
+                        while ((link = queue.poll()) != null) {
+                            handleSafely(link);
+                        }
+                    },
+                    executorService));
+        }
+        return futures;
+    }
+
+    private void handleSafely(Link link) {
+        try {
+            linkDispatchHandler.handleOne(link);
+        } catch (Exception e) {
+            log.error("Error processing link {} in parallel", link.id(), e);
+        }
+    }
+
+    /**
+     * Чередует ссылки разных типов (GitHub, StackOverflow, ...), сохраняя исходный порядок внутри типа, чтобы
+     * однотипные медленные ссылки не шли подряд.
+     */
+    private List<Link> interleaveByType(List<Link> links) {
+        Map<LinkType, List<Link>> byType =
+                links.stream().collect(Collectors.groupingBy(Link::getType, LinkedHashMap::new, Collectors.toList()));
+        if (byType.size() < 2) {
+            return links;
+        }
+        List<Iterator<Link>> iterators =
+                byType.values().stream().map(List::iterator).collect(Collectors.toCollection(ArrayList::new));
+        List<Link> result = new ArrayList<>(links.size());
+        while (!iterators.isEmpty()) {
+            Iterator<Iterator<Link>> it = iterators.iterator();
+            while (it.hasNext()) {
+                Iterator<Link> typeIterator = it.next();
+                if (typeIterator.hasNext()) {
+                    result.add(typeIterator.next());
+                } else {
+                    it.remove();
+                }
+            }
+        }
+        return result;
     }
 
     private <T> List<List<T>> partition(List<T> list, int parts) {
@@ -0,0 +1,89 @@
+package backend.academy.scrapper.service.scheduler.processor.impl;
+
+import backend.academy.scrapper.checkupdate.main.ReactiveLinkUpdater;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.service.scheduler.dispatch.DetectedUpdate;
+import backend.academy.scrapper.service.scheduler.dispatch.DispatchBuffer;
+import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import backend.academy.scrapper.service.scheduler.processor.LinkUpdateProcessor;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Неблокирующая обработка пачки ссылок на WebClient / Reactor Netty.
+ *
+ * <p>Ссылки проходят через {@code Flux.flatMap} с параллелизмом {@code app.update.max-in-flight-requests}, поэтому
+ * несколько потоков event loop держат в полёте сотни запросов к внешним API, а backpressure не даёт запросить больше.
+ * Блокирующая запись в базу ({@link LinkDispatchHandler#dispatch(Link, UpdateDetail)}) вынесена на отдельный
+ * планировщик, число потоков которого равно {@code app.update.max-db-connections}. Найденные обновления собираются в
+ * срезы по {@code app.update.dispatch-batch-size} штук и записываются через
+ * {@link LinkDispatchHandler#dispatchAll(List)}.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "REACTIVE")
+public class ReactiveLinkUpdateProcessor implements LinkUpdateProcessor {
+    private final ReactiveLinkUpdater reactiveLinkUpdater;
+    private final LinkDispatchHandler linkDispatchHandler;
+    private final int concurrency;
+    private final int dispatchBatchSize;
+    private final DispatchBuffer dispatchBuffer;
+    private final Scheduler dbScheduler;
+
+    public ReactiveLinkUpdateProcessor(
+            ReactiveLinkUpdater reactiveLinkUpdater,
+            LinkDispatchHandler linkDispatchHandler,
+            ScrapperConfig.Update updateConfig) {
+        this.reactiveLinkUpdater = reactiveLinkUpdater;
+        this.linkDispatchHandler = linkDispatchHandler;
+        this.concurrency = updateConfig.maxInFlightRequests();
+        this.dispatchBatchSize = updateConfig.dispatchBatchSize();
+        this.dispatchBuffer = new DispatchBuffer(linkDispatchHandler, dispatchBatchSize);
+        this.dbScheduler =
+                Schedulers.newBoundedElastic(updateConfig.maxDbConnections(), Integer.MAX_VALUE, "link-dispatch");
+    }
+
+    @Override
+    public void process(List<Link> links) {
+        Flux.fromIterable(links)
+                .flatMap(this::processOne, concurrency)
+                .buffer(dispatchBatchSize)
+                .flatMap(slice ->
+                        Mono.fromRunnable(() -> dispatchBuffer.flush(slice)).subscribeOn(dbScheduler))
+                .then()
+                .block();
+        log.info("Reactive batch processing complete");
+    }
+
+    private Mono<DetectedUpdate> processOne(Link link) {
+        return reactiveLinkUpdater
+                .fetchLastUpdate(link)
+                .filter(detail ->
+                        link.lastModified() == null || detail.getCreationTime().isAfter(link.lastModified()))
+                .map(detail -> new DetectedUpdate(link, detail))
+                .onErrorResume(CheckDeferredException.class, e -> {
+                    log.info("Check of link {} deferred until {}", link.id(), e.resumeAt());
+                    return Mono.<DetectedUpdate>fromRunnable(() -> linkDispatchHandler.deferCheck(link, e.resumeAt()))
+                            .subscribeOn(dbScheduler);
+                })
+                .onErrorResume(e -> {
+                    log.error("Error processing link {} reactively", link.id(), e);
+                    return Mono.empty();
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dbScheduler.dispose();
+    }
+}
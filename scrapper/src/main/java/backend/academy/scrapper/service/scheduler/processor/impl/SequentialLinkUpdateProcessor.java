@@ -1,25 +1,45 @@
 package backend.academy.scrapper.service.scheduler.processor.impl;
 
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
 import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.service.scheduler.dispatch.DispatchBuffer;
 import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
 import backend.academy.scrapper.service.scheduler.processor.LinkUpdateProcessor;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+/**
+ * Последовательная обработка пачки ссылок в потоке планировщика. Найденные обновления записываются срезами по
+ * {@code app.update.dispatch-batch-size} штук через {@link LinkDispatchHandler#dispatchAll(java.util.List)}.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "app.update.processor-type", havingValue = "SEQUENTIAL", matchIfMissing = true)
 public class SequentialLinkUpdateProcessor implements LinkUpdateProcessor {
     private final LinkDispatchHandler linkDispatchHandler;
+    private final int dispatchBatchSize;
+
+    public SequentialLinkUpdateProcessor(LinkDispatchHandler linkDispatchHandler, ScrapperConfig.Update updateConfig) {
+        this.linkDispatchHandler = linkDispatchHandler;
+        this.dispatchBatchSize = updateConfig.dispatchBatchSize();
+    }
 
     @Override
     public void process(List<Link> links) {
+        DispatchBuffer buffer = new DispatchBuffer(linkDispatchHandler, dispatchBatchSize);
         for (Link link : links) {
-            linkDispatchHandler.handleOne(link);
+            try {
+                linkDispatchHandler
+                        .fetchUpdate(link)
+                        .flatMap(detail -> buffer.add(link, detail))
+                        .ifPresent(buffer::flush);
+            } catch (CheckDeferredException e) {
+                linkDispatchHandler.deferCheck(link, e.resumeAt());
+            }
         }
+        buffer.flush(buffer.drain());
     }
 }
@@ -0,0 +1,106 @@
+package backend.academy.scrapper.service.scheduler.processor.impl;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.service.scheduler.dispatch.DetectedUpdate;
+import backend.academy.scrapper.service.scheduler.dispatch.DispatchBuffer;
+import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import backend.academy.scrapper.service.scheduler.processor.LinkUpdateProcessor;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Обработка пачки ссылок на виртуальных потоках: по одному потоку на ссылку.
+ *
+ * <p>Проверка ссылки разделена на две фазы с независимыми ограничителями. Запрос к внешнему API
+ * ({@link LinkDispatchHandler#fetchUpdate(Link)}) выполняется не более чем {@code app.update.max-in-flight-requests}
+ * потоками одновременно, а запись в базу ({@link LinkDispatchHandler#dispatch(Link, UpdateDetail)}) — не более чем
+ * {@code app.update.max-db-connections}, чтобы пул соединений HikariCP не исчерпывался. Поток, ждущий ответа API, не
+ * держит соединение с базой. Возврат отложенной проверки в очередь ({@link LinkDispatchHandler#deferCheck(Link,
+ * Instant)}) тоже пишет в базу и выполняется под вторым ограничителем.
+ *
+ * <p>Найденные обновления копятся в {@link DispatchBuffer} и записываются срезами по
+ * {@code app.update.dispatch-batch-size} штук через {@link LinkDispatchHandler#dispatchAll(List)}.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.update.processor-type", havingValue = "VIRTUAL")
+public class VirtualLinkUpdateProcessor implements LinkUpdateProcessor {
+    private final LinkDispatchHandler linkDispatchHandler;
+    private final Semaphore upstreamPermits;
+    private final Semaphore dbPermits;
+    private final int dispatchBatchSize;
+
+    public VirtualLinkUpdateProcessor(LinkDispatchHandler linkDispatchHandler, ScrapperConfig.Update updateConfig) {
+        this.linkDispatchHandler = linkDispatchHandler;
+        this.upstreamPermits = new Semaphore(updateConfig.maxInFlightRequests());
+        this.dbPermits = new Semaphore(updateConfig.maxDbConnections());
+        this.dispatchBatchSize = updateConfig.dispatchBatchSize();
+    }
+
+    @Override
+    public void process(List<Link> links) {
+        DispatchBuffer buffer = new DispatchBuffer(linkDispatchHandler, dispatchBatchSize);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Link link : links) {
+                executor.execute(() -> processOne(link, buffer));
+            }
+        }
+        buffer.flush(buffer.drain());
+        log.info("Virtual-thread batch processing complete");
+    }
+
+    private void processOne(Link link, DispatchBuffer buffer) {
+        try {
+            Optional<List<DetectedUpdate>> slice = fetch(link).flatMap(update -> buffer.add(link, update));
+            if (slice.isPresent()) {
+                withDbPermit(() -> buffer.flush(slice.get()));
+            }
+        } catch (CheckDeferredException e) {
+            defer(link, e.resumeAt());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Processing of link {} interrupted", link.id());
+        } catch (Exception e) {
+            log.error("Error processing link {} on virtual thread", link.id(), e);
+        }
+    }
+
+    private Optional<UpdateDetail> fetch(Link link) throws InterruptedException {
+        upstreamPermits.acquire();
+        try {
+            return linkDispatchHandler.fetchUpdate(link);
+        } finally {
+            upstreamPermits.release();
+        }
+    }
+
+    private void defer(Link link, Instant resumeAt) {
+        try {
+            withDbPermit(() -> linkDispatchHandler.deferCheck(link, resumeAt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Deferring check of link {} interrupted", link.id());
+        } catch (RuntimeException e) {
+            log.error("Error deferring check of link {}", link.id(), e);
+        }
+    }
+
+    private void withDbPermit(Runnable action) throws InterruptedException {
+        dbPermits.acquire();
+        try {
+            action.run();
+        } finally {
+            dbPermits.release();
+        }
+    }
+}
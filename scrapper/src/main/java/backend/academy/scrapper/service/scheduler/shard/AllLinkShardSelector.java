@@ -0,0 +1,17 @@
+package backend.academy.scrapper.service.scheduler.shard;
+
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Шардирование выключено: экземпляр выбирает ссылки из всей таблицы, конкурируя с остальными через SKIP LOCKED. */
+@Component
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class AllLinkShardSelector implements LinkShardSelector {
+
+    @Override
+    public Optional<LinkClaimCriteria> restrict(LinkClaimCriteria criteria) {
+        return Optional.of(criteria);
+    }
+}
@@ -0,0 +1,107 @@
+package backend.academy.scrapper.service.scheduler.shard;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
+import backend.academy.scrapper.repository.jdbc.LinkShardLeaseJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Делит таблицу {@code link} между репликами scrapper по шардам {@code mod(id, shard-count)}, которые реплики берут в
+ * аренду через таблицу {@code link_shard_lease}.
+ *
+ * <p>Каждые {@code app.sharding.heartbeat-ms} миллисекунд экземпляр отмечается в {@code scrapper_node}, продлевает
+ * аренду своих шардов и выравнивает их число до справедливой доли {@code ceil(shard-count / живые узлы)}: лишние шарды
+ * освобождает, недостающие захватывает из свободных или брошенных. Поэтому при подключении узла остальные отдают ему
+ * часть шардов, а шарды упавшего узла после истечения аренды ({@code app.sharding.lease-ms}) разбирают оставшиеся.
+ *
+ * <p>Если продлить аренду не удалось дольше её срока, экземпляр считает, что шардов у него нет, и не выбирает ссылки,
+ * пока не восстановит связь с базой.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class LeasedLinkShardSelector implements LinkShardSelector {
+    private final LinkShardLeaseJdbcRepository repository;
+    private final ScrapperConfig.Sharding cfg;
+    private final String nodeId;
+
+    private volatile List<Integer> owned = List.of();
+    private volatile long ownedUntilNanos;
+
+    @Autowired
+    public LeasedLinkShardSelector(LinkShardLeaseJdbcRepository repository, ScrapperConfig scrapperConfig) {
+        this(repository, scrapperConfig.sharding(), UUID.randomUUID().toString());
+    }
+
+    LeasedLinkShardSelector(LinkShardLeaseJdbcRepository repository, ScrapperConfig.Sharding cfg, String nodeId) {
+        this.repository = repository;
+        this.cfg = cfg;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public Optional<LinkClaimCriteria> restrict(LinkClaimCriteria criteria) {
+        List<Integer> shards = ownedShards();
+        if (shards.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(criteria.withShards(cfg.shardCount(), shards));
+    }
+
+    /** Шарды, аренда которых у экземпляра заведомо не истекла. */
+    public List<Integer> ownedShards() {
+        return System.nanoTime() - ownedUntilNanos < 0 ? owned : List.of();
+    }
+
+    /** Отправляет heartbeat и перераспределяет шарды под текущее число живых узлов. */
+    @Scheduled(fixedDelayString = "${app.sharding.heartbeat-ms}")
+    public void rebalance() {
+        long startedNanos = System.nanoTime();
+        try {
+            repository.heartbeat(nodeId);
+            repository.ensureShards(cfg.shardCount());
+            int liveNodes = Math.max(1, repository.findLiveNodes(cfg.leaseMs()).size());
+            int fairShare = (cfg.shardCount() + liveNodes - 1) / liveNodes;
+
+            List<Integer> shards = new ArrayList<>(repository.renew(nodeId, cfg.leaseMs()));
+            if (shards.size() > fairShare) {
+                List<Integer> excess = new ArrayList<>(shards.subList(fairShare, shards.size()));
+                repository.release(nodeId, excess);
+                shards.removeAll(excess);
+            } else if (shards.size() < fairShare) {
+                shards.addAll(repository.claimFree(nodeId, fairShare - shards.size(), cfg.shardCount(), cfg.leaseMs()));
+                shards.sort(null);
+            }
+            owned = List.copyOf(shards);
+            ownedUntilNanos = startedNanos + cfg.leaseMs() * 1_000_000L;
+            log.debug(
+                    "Node {} owns {} of {} link shards ({} live nodes)",
+                    nodeId,
+                    shards.size(),
+                    cfg.shardCount(),
+                    liveNodes);
+        } catch (DataAccessException e) {
+            log.warn("Link shard rebalance failed, keeping current leases until they expire: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        owned = List.of();
+        try {
+            repository.removeNode(nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release link shards on shutdown: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package backend.academy.scrapper.service.scheduler.shard;
+
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
+import java.util.Optional;
+
+/** Определяет, какие ссылки вправе проверять этот экземпляр scrapper. */
+public interface LinkShardSelector {
+
+    /**
+     * Ограничивает критерии выборки шардами, которыми сейчас владеет экземпляр.
+     *
+     * @param criteria базовые критерии выборки
+     * @return критерии для выборки или {@link Optional#empty()}, если экземпляру не принадлежит ни один шард
+     */
+    Optional<LinkClaimCriteria> restrict(LinkClaimCriteria criteria);
+}
@@ -0,0 +1,6 @@
+-- changeset srBob01:009-add-link-next-check-columns
+ALTER TABLE link
+    ADD COLUMN next_check_at          TIMESTAMP,
+    ADD COLUMN check_interval_seconds INT DEFAULT 0 NOT NULL;
+
+CREATE INDEX idx_link_next_check_at ON link (next_check_at, id);
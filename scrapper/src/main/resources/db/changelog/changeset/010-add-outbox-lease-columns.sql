@@ -0,0 +1,6 @@
+-- changeset srBob01:010-add-outbox-lease-columns
+ALTER TABLE outbox
+    ADD COLUMN claimed_by    VARCHAR(255),
+    ADD COLUMN claimed_until TIMESTAMP;
+
+CREATE INDEX idx_outbox_unprocessed ON outbox (created_at, id) WHERE processed_at IS NULL;
@@ -0,0 +1,29 @@
+-- changeset srBob01:011-partition-outbox-by-created-at
+ALTER TABLE outbox RENAME TO outbox_legacy;
+DROP INDEX idx_outbox_processed_at;
+DROP INDEX idx_outbox_unprocessed;
+
+CREATE TABLE outbox
+(
+    id            BIGINT       NOT NULL DEFAULT nextval('outbox_id_seq'),
+    topic         VARCHAR(255) NOT NULL,
+    payload       TEXT         NOT NULL,
+    created_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at  TIMESTAMP,
+    claimed_by    VARCHAR(255),
+    claimed_until TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE outbox_id_seq OWNED BY outbox.id;
+
+-- Строки вне суточных партиций (до их создания планировщиком) попадают сюда
+CREATE TABLE outbox_default PARTITION OF outbox DEFAULT;
+
+CREATE INDEX idx_outbox_unprocessed ON outbox (created_at, id) WHERE processed_at IS NULL;
+
+INSERT INTO outbox (id, topic, payload, created_at, processed_at, claimed_by, claimed_until)
+SELECT id, topic, payload, created_at, processed_at, claimed_by, claimed_until
+FROM outbox_legacy;
+
+DROP TABLE outbox_legacy;
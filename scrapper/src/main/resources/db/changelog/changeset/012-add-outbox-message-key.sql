@@ -0,0 +1,3 @@
+-- changeset srBob01:012-add-outbox-message-key
+-- Ключ записи Kafka хранится рядом с payload, чтобы публикатор не разбирал JSON ради ключа
+ALTER TABLE outbox ADD COLUMN message_key BIGINT;
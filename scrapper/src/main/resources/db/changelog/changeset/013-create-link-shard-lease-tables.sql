@@ -0,0 +1,15 @@
+-- changeset srBob01:013-create-link-shard-lease-tables
+-- Живые экземпляры scrapper: по heartbeat_at определяется число узлов и справедливая доля шардов
+CREATE TABLE scrapper_node
+(
+    node_id      VARCHAR(64) PRIMARY KEY,
+    heartbeat_at TIMESTAMP   NOT NULL
+);
+
+-- Аренда шардов ссылок: шард s содержит ссылки с mod(id, shard_count) = s
+CREATE TABLE link_shard_lease
+(
+    shard       INT PRIMARY KEY,
+    owner       VARCHAR(64),
+    lease_until TIMESTAMP
+);
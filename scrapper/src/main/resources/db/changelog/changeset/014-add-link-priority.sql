@@ -0,0 +1,3 @@
+-- changeset srBob01:014-add-link-priority
+-- Приоритет проверки: порядок числа подписчиков плюс недавняя активность, пересчитывается планировщиком
+ALTER TABLE link ADD COLUMN priority INT DEFAULT 0 NOT NULL;
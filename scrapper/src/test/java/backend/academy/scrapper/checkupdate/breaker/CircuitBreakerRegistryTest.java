@@ -0,0 +1,177 @@
+package backend.academy.scrapper.checkupdate.breaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.db.link.impl.GitHubLink;
+import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
+import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("CircuitBreakerRegistry — предохранители внешних API")
+class CircuitBreakerRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final String KEY = "GITHUB:REPO";
+
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new CircuitBreakerRegistry(new ScrapperConfig.CircuitBreaker(3, 30_000, 1), meterRegistry, clock);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            registry.acquire(KEY);
+            registry.record(KEY, new ResourceAccessException("timeout", new IOException("read timed out")));
+        }
+    }
+
+    private UpstreamCircuitBreaker.State state() {
+        return registry.snapshot().get(KEY).state();
+    }
+
+    @Nested
+    @DisplayName("Когда API отказывает")
+    class Failures {
+
+        @Test
+        @DisplayName("после порога отказов подряд отклоняет запросы до окончания паузы")
+        void shouldOpenAfterThreshold() {
+            // Act
+            fail(3);
+
+            // Assert
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+            assertThatThrownBy(() -> registry.acquire(KEY))
+                    .isInstanceOfSatisfying(CheckDeferredException.class, e -> assertThat(e.resumeAt())
+                            .isEqualTo(NOW.plusSeconds(30)));
+            assertThat(meterRegistry
+                            .get("scrapper.circuit-breaker.state")
+                            .tag("breaker", KEY)
+                            .gauge()
+                            .value())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("не считает отказом ответ 4xx и сбрасывает счётчик после успеха")
+        void shouldIgnoreClientErrors() {
+            // Act
+            fail(2);
+            registry.acquire(KEY);
+            registry.record(KEY, HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", null, null, null));
+            fail(2);
+
+            // Assert
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("ответ 5xx считается отказом")
+        void shouldCountServerErrors() {
+            // Act
+            for (int i = 0; i < 3; i++) {
+                registry.acquire(KEY);
+                registry.record(KEY, HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "", null, null, null));
+            }
+
+            // Assert
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("отказы одного вида запросов не размыкают другие")
+        void shouldIsolateKeys() {
+            // Act
+            fail(3);
+
+            // Assert
+            assertThatCode(() -> registry.acquire("GITHUB:PR")).doesNotThrowAnyException();
+            assertThatCode(() -> registry.acquire("STACKOVERFLOW")).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда пауза закончилась")
+    class HalfOpen {
+
+        @BeforeEach
+        void open() {
+            fail(3);
+            when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+        }
+
+        @Test
+        @DisplayName("пропускает один пробный запрос и закрывается после его успеха")
+        void shouldCloseAfterSuccessfulProbe() {
+            // Act
+            registry.acquire(KEY);
+
+            // Assert
+            assertThatThrownBy(() -> registry.acquire(KEY)).isInstanceOf(CheckDeferredException.class);
+            registry.record(KEY, null);
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+            assertThatCode(() -> registry.acquire(KEY)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("снова размыкается при отказе пробного запроса")
+        void shouldReopenAfterFailedProbe() {
+            // Act
+            fail(1);
+
+            // Assert
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+            assertThat(registry.snapshot().get(KEY).openUntil()).isEqualTo(NOW.plusSeconds(61));
+        }
+
+        @Test
+        @DisplayName("отложенный пробный запрос не закрывает предохранитель, но освобождает место для следующего")
+        void shouldReleaseDeferredProbe() {
+            // Act
+            registry.acquire(KEY);
+            registry.record(KEY, new CheckDeferredException(KEY, NOW));
+
+            // Assert
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+            assertThatCode(() -> registry.acquire(KEY)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("Ключ предохранителя")
+    class Key {
+
+        @Test
+        @DisplayName("для GitHub учитывает тип события")
+        void shouldIncludeEventType() {
+            // Act & Assert
+            assertThat(registry.keyOf(new GitHubLink("url", "o", "r", "1", GitHubEventType.PR)))
+                    .isEqualTo("GITHUB:PR");
+            assertThat(registry.keyOf(new StackOverflowLink("url", "1"))).isEqualTo("STACKOVERFLOW");
+        }
+    }
+}
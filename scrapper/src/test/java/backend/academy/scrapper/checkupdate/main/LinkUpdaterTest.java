@@ -0,0 +1,86 @@
+package backend.academy.scrapper.checkupdate.main;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.checkupdate.breaker.CircuitBreakerRegistry;
+import backend.academy.scrapper.checkupdate.breaker.UpstreamCircuitBreaker;
+import backend.academy.scrapper.checkupdate.handler.LinkUpdateHandler;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.support.SimpleDetail;
+import backend.academy.scrapper.support.TestLink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("LinkUpdater — обращение к обработчикам через предохранитель")
+class LinkUpdaterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Link LINK = new TestLink(1);
+
+    private Clock clock;
+    private CircuitBreakerRegistry circuitBreakers;
+    private LinkUpdateHandler<Link> handler;
+    private LinkUpdater updater;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        circuitBreakers = new CircuitBreakerRegistry(
+                new ScrapperConfig.CircuitBreaker(1, 30_000, 1), new SimpleMeterRegistry(), clock);
+        handler = mock(LinkUpdateHandler.class);
+        updater = new LinkUpdater(Map.of(LinkType.GITHUB, handler), circuitBreakers);
+    }
+
+    private UpstreamCircuitBreaker.State state() {
+        return circuitBreakers.snapshot().get(circuitBreakers.keyOf(LINK)).state();
+    }
+
+    @Nested
+    @DisplayName("Когда предохранитель полуоткрыт")
+    class HalfOpen {
+
+        @BeforeEach
+        void open() {
+            when(handler.fetchUpdateDetail(any()))
+                    .thenThrow(new ResourceAccessException("timeout", new IOException("read timed out")));
+            assertThatThrownBy(() -> updater.fetchLastUpdate(LINK)).isInstanceOf(ResourceAccessException.class);
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+            when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+        }
+
+        @Test
+        @DisplayName("Error в пробном запросе освобождает место для следующей пробы")
+        void shouldReleaseProbeOnError() {
+            // Arrange
+            UpdateDetail detail = new SimpleDetail(LocalDateTime.of(2025, 1, 1, 12, 0), "ok");
+            doThrow(new LinkageError("boom")).doReturn(detail).when(handler).fetchUpdateDetail(any());
+
+            // Act
+            assertThatThrownBy(() -> updater.fetchLastUpdate(LINK)).isInstanceOf(LinkageError.class);
+            UpdateDetail fetched = updater.fetchLastUpdate(LINK);
+
+            // Assert
+            assertThat(fetched).isSameAs(detail);
+            assertThat(state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        }
+    }
+}
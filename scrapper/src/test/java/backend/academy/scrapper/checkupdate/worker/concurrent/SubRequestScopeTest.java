@@ -0,0 +1,118 @@
+package backend.academy.scrapper.checkupdate.worker.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.ScrapperException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SubRequestScope — параллельные подзапросы проверки ссылки")
+class SubRequestScopeTest {
+
+    private static final int DEADLINE_MS = 1000;
+
+    private SubRequestExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        ScrapperConfig config = mock(ScrapperConfig.class);
+        when(config.githubApi())
+                .thenReturn(new ScrapperConfig.GitHubApi(ScrapperConfig.GitHubApi.Mode.REST, "url", 50, DEADLINE_MS));
+        executor = new SubRequestExecutor(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Когда все подзапросы успешны")
+    class WhenAllSucceed {
+
+        @Test
+        @DisplayName("выполняет их одновременно и возвращает результаты")
+        void shouldRunConcurrently() {
+            // Arrange
+            long start = System.nanoTime();
+            Supplier<String> first;
+            Supplier<Integer> second;
+            Supplier<String> third;
+
+            // Act
+            try (SubRequestScope scope = executor.open()) {
+                first = scope.fork(() -> sleepAndReturn("a"));
+                second = scope.fork(() -> sleepAndReturn(2));
+                third = scope.fork(() -> sleepAndReturn("c"));
+                scope.join();
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Assert
+            assertThat(first.get()).isEqualTo("a");
+            assertThat(second.get()).isEqualTo(2);
+            assertThat(third.get()).isEqualTo("c");
+            assertThat(elapsedMs).isLessThan(550);
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда подзапрос падает или зависает")
+    class WhenFailure {
+
+        @Test
+        @DisplayName("пробрасывает ошибку и прерывает остальные подзапросы")
+        void shouldCancelSiblingsOnFailure() throws InterruptedException {
+            // Arrange
+            CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+            // Act & Assert
+            try (SubRequestScope scope = executor.open()) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(DEADLINE_MS * 5L);
+                    } catch (InterruptedException e) {
+                        siblingInterrupted.countDown();
+                    }
+                    return null;
+                });
+                scope.fork(() -> {
+                    throw new IllegalStateException("boom");
+                });
+                assertThatThrownBy(scope::join)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("boom");
+            }
+            assertThat(siblingInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("завершает ожидание по дедлайну ссылки")
+        void shouldFailAfterDeadline() {
+            // Arrange
+            long start = System.nanoTime();
+
+            // Act & Assert
+            try (SubRequestScope scope = executor.open()) {
+                scope.fork(() -> sleepAndReturn(DEADLINE_MS * 5L));
+                assertThatThrownBy(scope::join).isInstanceOf(ScrapperException.class);
+            }
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(DEADLINE_MS * 3L);
+        }
+    }
+
+    private static <T> T sleepAndReturn(T value) throws InterruptedException {
+        Thread.sleep(value instanceof Long ms ? ms : 300);
+        return value;
+    }
+}
@@ -0,0 +1,131 @@
+package backend.academy.scrapper.checkupdate.worker.github;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.checkupdate.worker.http.ConditionalRequestExecutor;
+import backend.academy.scrapper.checkupdate.worker.http.HttpValidatorStore;
+import backend.academy.scrapper.checkupdate.worker.http.ReactiveConditionalRequestExecutor;
+import backend.academy.scrapper.checkupdate.worker.http.SingleFlightGroup;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.GitHubTokenPool;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.HostRateLimiter;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.converter.base.impl.GitHubResponseConverter;
+import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
+import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+@WireMockTest(httpPort = 0)
+@DisplayName("ReactiveGitHubUpdateService — неблокирующая проверка ссылок GitHub")
+class ReactiveGitHubUpdateServiceTest {
+
+    private ReactiveGitHubUpdateService service;
+
+    @BeforeEach
+    void setUp(WireMockRuntimeInfo wmRuntimeInfo) {
+        ScrapperConfig config = mock(ScrapperConfig.class);
+        when(config.githubApi())
+                .thenReturn(new ScrapperConfig.GitHubApi(ScrapperConfig.GitHubApi.Mode.REST, "url", 50, 2000));
+        HttpValidatorStore store = new HttpValidatorStore();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConditionalRequestExecutor blocking = new ConditionalRequestExecutor(
+                RestClient.builder().build(),
+                store,
+                mock(HostRateLimiter.class),
+                new SingleFlightGroup(0, meterRegistry),
+                meterRegistry);
+        // Все запросы к api.github.com направляются на WireMock
+        String wireMockUrl = wmRuntimeInfo.getHttpBaseUrl();
+        WebClient webClient = WebClient.builder()
+                .filter((request, next) ->
+                        next.exchange(org.springframework.web.reactive.function.client.ClientRequest.from(request)
+                                .url(URI.create(
+                                        request.url().toString().replace("https://api.github.com", wireMockUrl)))
+                                .build()))
+                .build();
+        service = new ReactiveGitHubUpdateService(
+                new ReactiveConditionalRequestExecutor(webClient, store, blocking),
+                new GitHubUpdateDetailAssembler(new GitHubResponseConverter()),
+                new GitHubTokenPool(List.of("secret"), mock(HostRateLimiter.class)),
+                config);
+    }
+
+    @Nested
+    @DisplayName("Когда проверяется PR")
+    class WhenPullRequest {
+
+        @Test
+        @DisplayName("выбирает коммит с последней страницы, если он новее комментария")
+        void shouldPickLatestCommitFromLastPage() {
+            // Arrange
+            stubFor(
+                    get(urlEqualTo("/repos/o/r/pulls/5"))
+                            .withHeader("Authorization", equalTo("token secret"))
+                            .willReturn(
+                                    okJson(
+                                            """
+                    {"title": "feature", "body": "b", "created_at": "2024-01-01T00:00:00Z",
+                     "updated_at": "2024-01-02T00:00:00Z", "user": {"login": "erin"}}
+                    """)));
+            stubFor(
+                    get(urlEqualTo("/repos/o/r/issues/5/comments?per_page=1"))
+                            .willReturn(
+                                    okJson(
+                                            """
+                    [{"created_at": "2024-01-03T00:00:00Z", "body": "lgtm", "user": {"login": "frank"}}]
+                    """)));
+            stubFor(
+                    get(urlEqualTo("/repos/o/r/pulls/5/commits?per_page=1"))
+                            .willReturn(
+                                    okJson("[]")
+                                            .withHeader(
+                                                    "Link",
+                                                    "<https://api.github.com/repos/o/r/pulls/5/commits?per_page=1&page=3>; rel=\"last\"")));
+            stubFor(
+                    get(urlEqualTo("/repos/o/r/pulls/5/commits?per_page=1&page=3"))
+                            .willReturn(
+                                    okJson(
+                                            """
+                    [{"sha": "abc", "commit": {"message": "wip",
+                      "author": {"name": "erin", "date": "2024-01-04T00:00:00Z"}}}]
+                    """)));
+
+            GitHubLinkRequest request = new GitHubLinkRequest("o", "r", "5", GitHubEventType.PR);
+
+            // Act & Assert
+            StepVerifier.create(service.fetchLatestUpdateDetail(request))
+                    .assertNext(detail -> assertThat(detail.descriptionPreview())
+                            .startsWith("New commit in PR 'feature'")
+                            .contains("abc"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("завершается ошибкой по дедлайну ссылки")
+        void shouldTimeOut() {
+            // Arrange
+            stubFor(get(urlMatching("/repos/o/r/.*")).willReturn(okJson("[]").withFixedDelay(5000)));
+            GitHubLinkRequest request = new GitHubLinkRequest("o", "r", null, GitHubEventType.REPO);
+
+            // Act & Assert
+            StepVerifier.create(service.fetchLatestUpdateDetail(request))
+                    .expectError(TimeoutException.class)
+                    .verify(Duration.ofSeconds(5));
+        }
+    }
+}
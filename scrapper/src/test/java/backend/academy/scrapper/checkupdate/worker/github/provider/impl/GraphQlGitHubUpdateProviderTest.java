@@ -0,0 +1,142 @@
+package backend.academy.scrapper.checkupdate.worker.github.provider.impl;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.checkupdate.worker.github.GitHubUpdateDetailAssembler;
+import backend.academy.scrapper.checkupdate.worker.github.graphql.GitHubGraphQlQueryBuilder;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.GitHubTokenPool;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.HostRateLimiter;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.converter.base.impl.GitHubResponseConverter;
+import backend.academy.scrapper.model.app.request.GitHubLinkRequest;
+import backend.academy.scrapper.model.app.update.impl.GitHubUpdateDetail;
+import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+@WireMockTest(httpPort = 0)
+@DisplayName("GraphQlGitHubUpdateProvider — пакетная проверка ссылок GitHub")
+class GraphQlGitHubUpdateProviderTest {
+
+    private static final String GRAPHQL_PATH = "/graphql";
+
+    private GraphQlGitHubUpdateProvider provider;
+
+    @BeforeEach
+    void setUp(WireMockRuntimeInfo wmRuntimeInfo) {
+        ScrapperConfig config = mock(ScrapperConfig.class);
+        when(config.githubApi())
+                .thenReturn(new ScrapperConfig.GitHubApi(
+                        ScrapperConfig.GitHubApi.Mode.GRAPHQL,
+                        wmRuntimeInfo.getHttpBaseUrl() + GRAPHQL_PATH,
+                        50,
+                        10000));
+        provider = new GraphQlGitHubUpdateProvider(
+                RestClient.builder().build(),
+                config,
+                new GitHubTokenPool(List.of("secret"), mock(HostRateLimiter.class)),
+                new GitHubGraphQlQueryBuilder(),
+                new GitHubUpdateDetailAssembler(new GitHubResponseConverter()));
+    }
+
+    @Nested
+    @DisplayName("Когда GraphQL возвращает данные по всем алиасам")
+    class WhenAllAliasesResolved {
+
+        @Test
+        @DisplayName("одним запросом возвращает детали для репозитория, Issue и PR")
+        void shouldMapAllLinksFromSingleRequest() {
+            // Arrange
+            stubFor(
+                    post(urlEqualTo(GRAPHQL_PATH))
+                            .withHeader("Authorization", equalTo("bearer secret"))
+                            .willReturn(
+                                    okJson(
+                                            """
+                    {"data": {
+                      "l1": {
+                        "name": "repo", "description": "d", "createdAt": "2024-01-01T00:00:00Z",
+                        "updatedAt": "2024-01-01T00:00:00Z", "owner": {"login": "owner"},
+                        "defaultBranchRef": {"target": {"oid": "abc", "message": "fix",
+                          "author": {"name": "alice", "date": "2024-03-01T10:00:00Z"}}},
+                        "pullRequests": {"nodes": [{"title": "pr", "body": "b", "createdAt": "2024-02-01T00:00:00Z",
+                          "author": {"login": "bob"}}]},
+                        "issues": {"nodes": []}
+                      },
+                      "l2": {"issue": {
+                        "title": "bug", "body": "text", "createdAt": "2024-01-01T00:00:00Z",
+                        "updatedAt": "2024-01-05T00:00:00Z", "author": {"login": "carol"},
+                        "comments": {"nodes": [{"body": "me too", "createdAt": "2024-01-05T00:00:00Z",
+                          "author": {"login": "dave"}}]}
+                      }},
+                      "l3": {"pullRequest": {
+                        "title": "feature", "body": "desc", "createdAt": "2024-01-01T00:00:00Z",
+                        "updatedAt": "2024-01-09T00:00:00Z", "author": {"login": "erin"},
+                        "comments": {"nodes": [{"body": "lgtm", "createdAt": "2024-01-07T00:00:00Z",
+                          "author": {"login": "frank"}}]},
+                        "commits": {"nodes": [{"commit": {"oid": "def", "message": "wip",
+                          "author": {"name": "erin", "date": "2024-01-08T00:00:00Z"}}}]}
+                      }}
+                    }}
+                    """)));
+
+            Map<Long, GitHubLinkRequest> requests = new LinkedHashMap<>();
+            requests.put(1L, new GitHubLinkRequest("owner", "repo", null, GitHubEventType.REPO));
+            requests.put(2L, new GitHubLinkRequest("owner", "repo", "7", GitHubEventType.ISSUE));
+            requests.put(3L, new GitHubLinkRequest("owner", "repo", "9", GitHubEventType.PR));
+
+            // Act
+            Map<Long, GitHubUpdateDetail> result = provider.processBatch(requests);
+
+            // Assert
+            verify(1, postRequestedFor(urlEqualTo(GRAPHQL_PATH)));
+            assertThat(result).hasSize(3);
+            assertThat(result.get(1L).getCreationTime()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 0));
+            assertThat(result.get(1L).descriptionPreview()).contains("New commit in repository 'repo'");
+            assertThat(result.get(2L).descriptionPreview()).contains("New comment on issue 'bug' by dave");
+            assertThat(result.get(3L).descriptionPreview()).contains("New commit in PR 'feature'");
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда часть ссылок не удалось получить")
+    class WhenPartialFailure {
+
+        @Test
+        @DisplayName("пропускает ссылки с ошибкой и нечисловым номером")
+        void shouldSkipUnresolvedLinks() {
+            // Arrange
+            stubFor(
+                    post(urlEqualTo(GRAPHQL_PATH))
+                            .willReturn(
+                                    okJson(
+                                            """
+                    {"data": {"l1": null},
+                     "errors": [{"type": "NOT_FOUND", "path": ["l1"]}]}
+                    """)));
+
+            Map<Long, GitHubLinkRequest> requests = new LinkedHashMap<>();
+            requests.put(1L, new GitHubLinkRequest("owner", "gone", null, GitHubEventType.REPO));
+            requests.put(2L, new GitHubLinkRequest("owner", "repo", "abc", GitHubEventType.ISSUE));
+
+            // Act
+            Map<Long, GitHubUpdateDetail> result = provider.processBatch(requests);
+
+            // Assert
+            assertThat(result).isEmpty();
+            verify(postRequestedFor(urlEqualTo(GRAPHQL_PATH)).withRequestBody(notContaining("issue(number")));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package backend.academy.scrapper.checkupdate.worker.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.HostRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("ConditionalRequestExecutor — условные запросы с ETag / Last-Modified")
+class ConditionalRequestExecutorTest {
+
+    private static final String URI = "https://api.github.com/repos/owner/repo/issues/1";
+    private static final String BODY = "{\"title\":\"issue\"}";
+    private static final String ETAG = "\"abc123\"";
+
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private HttpValidatorStore validatorStore;
+    private ConditionalRequestExecutor executor;
+
+    record Payload(String title) {}
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        meterRegistry = new SimpleMeterRegistry();
+        validatorStore = new HttpValidatorStore();
+        executor = new ConditionalRequestExecutor(
+                builder.build(),
+                validatorStore,
+                Mockito.mock(HostRateLimiter.class),
+                new SingleFlightGroup(0, meterRegistry),
+                meterRegistry);
+    }
+
+    private double counter(String result) {
+        return meterRegistry
+                .get("scrapper.http.conditional.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("Когда сервер отдаёт ETag")
+    class WithEtag {
+
+        @Test
+        @DisplayName("при 304 возвращает ранее полученный ответ и считает попадание")
+        void shouldReturnCachedOnNotModified() {
+            // Arrange
+            HttpHeaders responseHeaders = new HttpHeaders();
+            responseHeaders.setETag(ETAG);
+            responseHeaders.add("Link", "<https://api.github.com/page=2>; rel=\"last\"");
+            server.expect(requestTo(URI))
+                    .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                    .andExpect(header("Authorization", "token t"))
+                    .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(responseHeaders));
+            server.expect(requestTo(URI))
+                    .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                    .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+            // Act
+            ResponseEntity<Payload> first = executor.get(URI, h -> h.set("Authorization", "token t"), Payload.class);
+            ResponseEntity<Payload> second = executor.get(URI, h -> h.set("Authorization", "token t"), Payload.class);
+
+            // Assert
+            server.verify();
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(second.getBody()).isEqualTo(first.getBody());
+            assertThat(second.getHeaders().get("Link"))
+                    .containsExactly("<https://api.github.com/page=2>; rel=\"last\"");
+            assertThat(counter("hit")).isEqualTo(1.0);
+            assertThat(counter("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("при 200 заменяет сохранённый ответ новым")
+        void shouldReplaceCachedOnModified() {
+            // Arrange
+            HttpHeaders firstHeaders = new HttpHeaders();
+            firstHeaders.setETag(ETAG);
+            HttpHeaders secondHeaders = new HttpHeaders();
+            secondHeaders.setETag("\"def456\"");
+            server.expect(requestTo(URI))
+                    .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(firstHeaders));
+            server.expect(requestTo(URI))
+                    .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                    .andRespond(withSuccess("{\"title\":\"renamed\"}", MediaType.APPLICATION_JSON)
+                            .headers(secondHeaders));
+
+            // Act
+            executor.getBody(URI, h -> {}, Payload.class);
+            Payload result = executor.getBody(URI, h -> {}, Payload.class);
+
+            // Assert
+            server.verify();
+            assertThat(result.title()).isEqualTo("renamed");
+            assertThat(validatorStore.<Payload>get(URI).etag()).isEqualTo("\"def456\"");
+            assertThat(counter("miss")).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда сервер не отдаёт валидаторов")
+    class WithoutValidators {
+
+        @Test
+        @DisplayName("отправляет If-Modified-Since, если был Last-Modified")
+        void shouldSendIfModifiedSince() {
+            // Arrange
+            long lastModified = 1_700_000_000_000L;
+            HttpHeaders responseHeaders = new HttpHeaders();
+            responseHeaders.setLastModified(lastModified);
+            server.expect(requestTo(URI))
+                    .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(responseHeaders));
+            server.expect(requestTo(URI))
+                    .andExpect(
+                            header(HttpHeaders.IF_MODIFIED_SINCE, responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED)))
+                    .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+            // Act
+            executor.getBody(URI, h -> {}, Payload.class);
+            Payload result = executor.getBody(URI, h -> {}, Payload.class);
+
+            // Assert
+            server.verify();
+            assertThat(result.title()).isEqualTo("issue");
+        }
+
+        @Test
+        @DisplayName("не сохраняет ответ и не шлёт условных заголовков")
+        void shouldNotCacheWithoutValidators() {
+            // Arrange
+            server.expect(requestTo(URI)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+            server.expect(requestTo(URI))
+                    .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                    .andExpect(headerDoesNotExist(HttpHeaders.IF_MODIFIED_SINCE))
+                    .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+            // Act
+            executor.getBody(URI, h -> {}, Payload.class);
+            executor.getBody(URI, h -> {}, Payload.class);
+
+            // Assert
+            server.verify();
+            assertThat(validatorStore.size()).isZero();
+            assertThat(counter("hit")).isZero();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package backend.academy.scrapper.checkupdate.worker.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import backend.academy.scrapper.exception.model.ScrapperException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlightGroup — объединение одинаковых запросов")
+class SingleFlightGroupTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private double counter(String result) {
+        return meterRegistry
+                .get("scrapper.http.single-flight")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("Когда запросы выполняются одновременно")
+    class Concurrent {
+
+        @Test
+        @DisplayName("выполняет вызов один раз и отдаёт результат всем участникам")
+        void shouldShareInFlightCall() throws Exception {
+            // Arrange
+            SingleFlightGroup group = new SingleFlightGroup(0, meterRegistry);
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            int participants = 8;
+            List<Future<String>> results = new ArrayList<>();
+
+            // Act
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < participants; i++) {
+                    results.add(executor.submit(() -> group.execute("uri", () -> {
+                        calls.incrementAndGet();
+                        awaitQuietly(release);
+                        return "body";
+                    })));
+                }
+                while (counter("leader") + counter("shared") < participants) {
+                    Thread.sleep(5);
+                }
+                release.countDown();
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("body");
+                }
+            }
+
+            // Assert
+            assertThat(calls).hasValue(1);
+            assertThat(counter("shared")).isEqualTo(participants - 1);
+            assertThat(group.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("ошибка ведущего вызова передаётся ожидающим и не запоминается")
+        void shouldPropagateAndForgetFailure() {
+            // Arrange
+            SingleFlightGroup group = new SingleFlightGroup(60_000, meterRegistry);
+
+            // Act & Assert
+            assertThatThrownBy(() -> group.execute("uri", () -> {
+                        throw new IllegalStateException("boom");
+                    }))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(group.execute("uri", () -> "retry")).isEqualTo("retry");
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда ведущий вызов падает с Error или ожидание прервано")
+    class Failures {
+
+        @Test
+        @DisplayName("Error ведущего вызова завершает ожидающих и не оставляет зависший ключ")
+        void shouldReleaseFollowersOnError() throws Exception {
+            // Arrange
+            SingleFlightGroup group = new SingleFlightGroup(60_000, meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> leader = executor.submit(() -> group.execute("uri", () -> {
+                    awaitQuietly(release);
+                    throw new LinkageError("boom");
+                }));
+                while (counter("leader") < 1) {
+                    Thread.sleep(5);
+                }
+                Future<String> follower = executor.submit(() -> group.execute("uri", () -> "unused"));
+                while (counter("shared") < 1) {
+                    Thread.sleep(5);
+                }
+
+                // Act
+                release.countDown();
+
+                // Assert
+                assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(LinkageError.class);
+                assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ScrapperException.class);
+            }
+            assertThat(group.size()).isZero();
+            assertThat(group.execute("uri", () -> "body")).isEqualTo("body");
+        }
+
+        @Test
+        @DisplayName("прерывание ожидающего потока освобождает его, не дожидаясь ведущего")
+        void shouldStopWaitingOnInterrupt() throws Exception {
+            // Arrange
+            SingleFlightGroup group = new SingleFlightGroup(0, meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> leader = executor.submit(() -> group.execute("uri", () -> {
+                    awaitQuietly(release);
+                    return "body";
+                }));
+                while (counter("leader") < 1) {
+                    Thread.sleep(5);
+                }
+                AtomicReference<RuntimeException> thrown = new AtomicReference<>();
+                AtomicBoolean interrupted = new AtomicBoolean();
+                Thread follower = Thread.ofVirtual().start(() -> {
+                    try {
+                        group.execute("uri", () -> "unused");
+                    } catch (ScrapperException e) {
+                        thrown.set(e);
+                        interrupted.set(Thread.currentThread().isInterrupted());
+                    }
+                });
+                while (counter("shared") < 1) {
+                    Thread.sleep(5);
+                }
+
+                // Act
+                follower.interrupt();
+
+                // Assert: ведущий ещё не завершён, а ожидающий уже освобождён
+                assertThat(follower.join(Duration.ofSeconds(5))).isTrue();
+                assertThat(thrown.get()).isInstanceOf(ScrapperException.class);
+                assertThat(interrupted).isTrue();
+                assertThat(leader).isNotDone();
+                release.countDown();
+                assertThat(leader).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("body");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда запросы идут друг за другом")
+    class Sequential {
+
+        @Test
+        @DisplayName("в пределах TTL отдаёт готовый результат без вызова")
+        void shouldReuseWithinTtl() {
+            // Arrange
+            SingleFlightGroup group = new SingleFlightGroup(60_000, meterRegistry);
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act
+            group.execute("uri", calls::incrementAndGet);
+            int second = group.execute("uri", calls::incrementAndGet);
+
+            // Assert
+            assertThat(second).isEqualTo(1);
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("без TTL выполняет каждый вызов заново")
+        void shouldCallAgainWithoutTtl() {
+            // Arrange
+            SingleFlightGroup group = new SingleFlightGroup(0, meterRegistry);
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act
+            group.execute("uri", calls::incrementAndGet);
+            group.execute("uri", calls::incrementAndGet);
+
+            // Assert
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("разные ключи не объединяются")
+        void shouldNotShareDifferentKeys() {
+            // Arrange
+            SingleFlightGroup group = new SingleFlightGroup(60_000, meterRegistry);
+
+            // Act & Assert
+            assertThat(group.execute("a", () -> "first")).isEqualTo("first");
+            assertThat(group.execute("b", () -> "second")).isEqualTo("second");
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package backend.academy.scrapper.checkupdate.worker.http.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("GitHubTokenPool — выбор токена GitHub по остатку лимита")
+class GitHubTokenPoolTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final String HOST = "api.github.com";
+    private static final String REST_PATH = "/repos/o/r";
+    private static final String GRAPHQL_PATH = "/graphql";
+
+    private HostRateLimiter limiter;
+    private GitHubTokenPool pool;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new HostRateLimiter(
+                new ScrapperConfig.RateLimit(100, 60_000), new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+        pool = new GitHubTokenPool(List.of("t1", "t2", "t3"), limiter);
+    }
+
+    private void respond(String token, HttpStatus status, long remaining, Instant reset) {
+        respond(token, REST_PATH, "core", status, remaining, reset);
+    }
+
+    private void respond(String token, String path, String resource, HttpStatus status, long remaining, Instant reset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.add("X-RateLimit-Reset", String.valueOf(reset.getEpochSecond()));
+        headers.add("X-RateLimit-Resource", resource);
+        limiter.record(pool.rateLimitKey(HOST, path, "token " + token), status, headers);
+    }
+
+    @Nested
+    @DisplayName("Когда остатки лимита известны")
+    class KnownQuota {
+
+        @Test
+        @DisplayName("выбирает токен с наибольшим остатком")
+        void shouldPickTokenWithMostRemaining() {
+            // Arrange
+            respond("t1", HttpStatus.OK, 10, NOW.plusSeconds(600));
+            respond("t2", HttpStatus.OK, 4000, NOW.plusSeconds(600));
+            respond("t3", HttpStatus.OK, 200, NOW.plusSeconds(600));
+
+            // Act & Assert
+            for (int i = 0; i < 5; i++) {
+                assertThat(pool.acquire()).isEqualTo("t2");
+            }
+        }
+
+        @Test
+        @DisplayName("не использует исчерпанный токен до его сброса")
+        void shouldSkipExhaustedToken() {
+            // Arrange
+            respond("t1", HttpStatus.FORBIDDEN, 0, NOW.plusSeconds(3600));
+            respond("t2", HttpStatus.OK, 5, NOW.plusSeconds(3600));
+            respond("t3", HttpStatus.OK, 1, NOW.plusSeconds(3600));
+
+            // Act & Assert
+            assertThat(pool.acquire()).isEqualTo("t2");
+            assertThat(limiter.available(pool.rateLimitKey(HOST, REST_PATH, "token t1")))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("если исчерпаны все токены, выбирает тот, что сбросится раньше")
+        void shouldPickEarliestResetWhenAllExhausted() {
+            // Arrange
+            respond("t1", HttpStatus.FORBIDDEN, 0, NOW.plusSeconds(3600));
+            respond("t2", HttpStatus.FORBIDDEN, 0, NOW.plusSeconds(600));
+            respond("t3", HttpStatus.FORBIDDEN, 0, NOW.plusSeconds(1800));
+
+            // Act & Assert
+            assertThat(pool.acquire()).isEqualTo("t2");
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда остатки лимита ещё неизвестны")
+    class UnknownQuota {
+
+        @Test
+        @DisplayName("перебирает токены по кругу")
+        void shouldRotateTokens() {
+            // Act
+            Set<String> used = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                used.add(pool.acquire());
+            }
+
+            // Assert
+            assertThat(used).containsExactlyInAnyOrder("t1", "t2", "t3");
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда токен расходует и REST-, и GraphQL-квоту")
+    class SeparateResources {
+
+        @Test
+        @DisplayName("ответ GraphQL не затирает остаток REST-квоты того же токена")
+        void shouldKeepRestQuotaAfterGraphQlResponse() {
+            // Arrange
+            respond("t1", REST_PATH, "core", HttpStatus.OK, 4000, NOW.plusSeconds(600));
+            respond("t2", REST_PATH, "core", HttpStatus.OK, 100, NOW.plusSeconds(600));
+            respond("t3", REST_PATH, "core", HttpStatus.OK, 50, NOW.plusSeconds(600));
+
+            // Act
+            respond("t1", GRAPHQL_PATH, "graphql", HttpStatus.OK, 1, NOW.plusSeconds(3600));
+
+            // Assert
+            assertThat(limiter.available(pool.rateLimitKey(HOST, REST_PATH, "token t1")))
+                    .isEqualTo(4000);
+            assertThat(limiter.available(pool.rateLimitKey(HOST, GRAPHQL_PATH, "token t1")))
+                    .isEqualTo(1);
+            assertThat(pool.acquire()).isEqualTo("t1");
+        }
+
+        @Test
+        @DisplayName("выбирает токен для GraphQL по GraphQL-квоте, а не по REST")
+        void shouldPickGraphQlTokenByGraphQlQuota() {
+            // Arrange
+            respond("t1", REST_PATH, "core", HttpStatus.OK, 4000, NOW.plusSeconds(600));
+            respond("t1", GRAPHQL_PATH, "graphql", HttpStatus.FORBIDDEN, 0, NOW.plusSeconds(3600));
+            respond("t2", GRAPHQL_PATH, "graphql", HttpStatus.OK, 10, NOW.plusSeconds(3600));
+            respond("t3", GRAPHQL_PATH, "graphql", HttpStatus.OK, 3000, NOW.plusSeconds(3600));
+
+            // Act & Assert
+            assertThat(pool.acquireForGraphQl()).isEqualTo("t3");
+            assertThat(limiter.available(pool.rateLimitKey(HOST, REST_PATH, "token t1")))
+                    .isEqualTo(4000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ключ лимита")
+    class RateLimitKey {
+
+        @Test
+        @DisplayName("для GitHub отделяет токены друг от друга, не раскрывая их")
+        void shouldSeparateTokens() {
+            // Act & Assert
+            assertThat(pool.rateLimitKey(HOST, REST_PATH, "token t1")).isEqualTo(HOST + "#1");
+            assertThat(pool.rateLimitKey(HOST, REST_PATH, "bearer t3")).isEqualTo(HOST + "#3");
+            assertThat(pool.rateLimitKey(HOST, REST_PATH, "token unknown")).isEqualTo(HOST);
+            assertThat(pool.rateLimitKey(HOST, REST_PATH, null)).isEqualTo(HOST);
+            assertThat(pool.rateLimitKey("api.stackexchange.com", REST_PATH, "token t1"))
+                    .isEqualTo("api.stackexchange.com");
+        }
+
+        @Test
+        @DisplayName("для GraphQL API выделяет отдельную квоту токена")
+        void shouldSeparateGraphQlQuota() {
+            // Act & Assert
+            assertThat(pool.rateLimitKey(HOST, GRAPHQL_PATH, "bearer t2")).isEqualTo(HOST + "#2/graphql");
+            assertThat(pool.rateLimitKey(HOST, GRAPHQL_PATH, "bearer unknown")).isEqualTo(HOST);
+            assertThat(pool.rateLimitKey(HOST, null, "token t2")).isEqualTo(HOST + "#2");
+        }
+    }
+}
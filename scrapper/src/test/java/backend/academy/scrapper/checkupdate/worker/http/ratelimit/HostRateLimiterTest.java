@@ -0,0 +1,218 @@
+package backend.academy.scrapper.checkupdate.worker.http.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("HostRateLimiter — ограничение запросов по заголовкам лимита")
+class HostRateLimiterTest {
+
+    private static final String HOST = "api.github.com";
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private HostRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new HostRateLimiter(
+                new ScrapperConfig.RateLimit(100, 60_000), meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static HttpHeaders rateLimitHeaders(long remaining, Instant reset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.add("X-RateLimit-Reset", String.valueOf(reset.getEpochSecond()));
+        return headers;
+    }
+
+    @Nested
+    @DisplayName("Когда остаток лимита достаточен")
+    class EnoughQuota {
+
+        @Test
+        @DisplayName("не задерживает запросы к неизвестному хосту")
+        void shouldNotWaitForUnknownHost() {
+            // Act
+            Duration wait = limiter.reserve(HOST);
+
+            // Assert
+            assertThat(wait).isZero();
+        }
+
+        @Test
+        @DisplayName("не задерживает запросы, пока остаток выше порога")
+        void shouldNotWaitAboveWatermark() {
+            // Arrange
+            limiter.record(HOST, HttpStatus.OK, rateLimitHeaders(4000, NOW.plusSeconds(3600)));
+
+            // Act & Assert
+            assertThat(limiter.reserve(HOST)).isZero();
+            assertThat(limiter.reserve(HOST)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда остаток лимита ниже порога")
+    class LowQuota {
+
+        @Test
+        @DisplayName("равномерно распределяет оставшиеся запросы до сброса лимита")
+        void shouldSpreadRemainingRequests() {
+            // Arrange
+            limiter.record(HOST, HttpStatus.OK, rateLimitHeaders(10, NOW.plusSeconds(100)));
+
+            // Act
+            Duration first = limiter.reserve(HOST);
+            Duration second = limiter.reserve(HOST);
+
+            // Assert
+            assertThat(first).isZero();
+            assertThat(second).isEqualTo(Duration.ofSeconds(10));
+        }
+
+        @Test
+        @DisplayName("отложенный запрос не расходует остаток и не сдвигает слоты следующих")
+        void shouldNotConsumeSlotWhenDeferred() {
+            // Arrange: между двумя оставшимися запросами 500 секунд, дольше max-wait
+            limiter.record(HOST, HttpStatus.OK, rateLimitHeaders(2, NOW.plusSeconds(1000)));
+            limiter.reserve(HOST);
+
+            // Act & Assert
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> limiter.reserve(HOST))
+                        .isInstanceOfSatisfying(CheckDeferredException.class, e -> assertThat(e.resumeAt())
+                                .isEqualTo(NOW.plusSeconds(500)));
+            }
+            assertThat(limiter.available(HOST)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда лимит исчерпан")
+    class Exhausted {
+
+        @Test
+        @DisplayName("по ответу 403 с нулевым остатком откладывает запросы до сброса")
+        void shouldDeferUntilResetOnForbidden() {
+            // Arrange
+            Instant reset = NOW.plusSeconds(3600);
+
+            // Act
+            Optional<Instant> pausedUntil = limiter.record(HOST, HttpStatus.FORBIDDEN, rateLimitHeaders(0, reset));
+
+            // Assert
+            assertThat(pausedUntil).contains(reset);
+            assertThatThrownBy(() -> limiter.reserve(HOST))
+                    .isInstanceOfSatisfying(CheckDeferredException.class, e -> assertThat(e.resumeAt())
+                            .isEqualTo(reset));
+            assertThat(meterRegistry
+                            .get("scrapper.ratelimit.deferred")
+                            .tag("host", HOST)
+                            .counter()
+                            .count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("по ответу 429 соблюдает Retry-After")
+        void shouldHonourRetryAfter() {
+            // Arrange
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.RETRY_AFTER, "120");
+
+            // Act
+            Optional<Instant> pausedUntil = limiter.record(HOST, HttpStatus.TOO_MANY_REQUESTS, headers);
+
+            // Assert
+            assertThat(pausedUntil).contains(NOW.plusSeconds(120));
+            assertThatThrownBy(() -> limiter.reserve(HOST)).isInstanceOf(CheckDeferredException.class);
+        }
+
+        @Test
+        @DisplayName("не считает обычный 403 превышением лимита")
+        void shouldIgnorePlainForbidden() {
+            // Act
+            Optional<Instant> pausedUntil =
+                    limiter.record(HOST, HttpStatus.FORBIDDEN, rateLimitHeaders(10, NOW.plusSeconds(3600)));
+
+            // Assert
+            assertThat(pausedUntil).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда StackExchange просит подождать")
+    class StackExchangeBackoff {
+
+        @Test
+        @DisplayName("короткий backoff выдерживается ожиданием")
+        void shouldWaitShortBackoff() {
+            // Arrange
+            limiter.recordQuota("api.stackexchange.com", 5, 9000);
+
+            // Act
+            Duration wait = limiter.reserve("api.stackexchange.com");
+
+            // Assert
+            assertThat(wait).isEqualTo(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("длинный backoff откладывает проверку")
+        void shouldDeferLongBackoff() {
+            // Arrange
+            limiter.recordQuota("api.stackexchange.com", 600, null);
+
+            // Act & Assert
+            assertThatThrownBy(() -> limiter.reserve("api.stackexchange.com"))
+                    .isInstanceOf(CheckDeferredException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("RateLimitInterceptor")
+    class Interceptor {
+
+        @Test
+        @DisplayName("после ответа о превышении лимита не отправляет запросы до сброса")
+        void shouldStopSendingAfterRateLimitResponse() {
+            // Arrange
+            RestClient.Builder builder = RestClient.builder()
+                    .requestInterceptor(new RateLimitInterceptor(limiter, new GitHubTokenPool(List.of("t"), limiter)));
+            MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+            RestClient client = builder.build();
+            String uri = "https://" + HOST + "/repos/owner/repo";
+            server.expect(once(), requestTo(uri))
+                    .andRespond(withStatus(HttpStatus.FORBIDDEN).headers(rateLimitHeaders(0, NOW.plusSeconds(600))));
+
+            // Act & Assert
+            assertThatThrownBy(() -> client.get().uri(uri).retrieve().toBodilessEntity())
+                    .isInstanceOf(CheckDeferredException.class);
+            assertThatThrownBy(() -> client.get().uri(uri).retrieve().toBodilessEntity())
+                    .isInstanceOf(CheckDeferredException.class);
+            server.verify();
+        }
+    }
+}
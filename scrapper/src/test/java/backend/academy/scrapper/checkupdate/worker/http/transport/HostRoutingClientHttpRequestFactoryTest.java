@@ -0,0 +1,76 @@
+package backend.academy.scrapper.checkupdate.worker.http.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@WireMockTest(httpPort = 0)
+@DisplayName("HostRoutingClientHttpRequestFactory — выбор HTTP-клиента по хосту")
+class HostRoutingClientHttpRequestFactoryTest {
+
+    private static final String BODY = "{\"title\":\"" + "a".repeat(2048) + "\"}";
+
+    private RestClient restClient;
+    private int port;
+
+    @BeforeEach
+    void setUp(WireMockRuntimeInfo wmRuntimeInfo) {
+        port = wmRuntimeInfo.getHttpPort();
+        HttpClient base = HttpClient.create(ConnectionProvider.create("test", 4));
+        UpstreamHttpClients clients = new UpstreamHttpClients(Map.of("localhost", base.compress(true)), base);
+        restClient = RestClient.builder()
+                .requestFactory(new HostRoutingClientHttpRequestFactory(clients))
+                .build();
+        stubFor(get("/data").willReturn(okJson(BODY)));
+    }
+
+    @Nested
+    @DisplayName("Когда хост настроен отдельно")
+    class KnownHost {
+
+        @Test
+        @DisplayName("запрашивает сжатый ответ и распаковывает его")
+        void shouldRequestGzip() {
+            // Act
+            String body = restClient
+                    .get()
+                    .uri("http://localhost:" + port + "/data")
+                    .retrieve()
+                    .body(String.class);
+
+            // Assert
+            assertThat(body).isEqualTo(BODY);
+            verify(getRequestedFor(urlEqualTo("/data")).withHeader("Accept-Encoding", containing("gzip")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда хост не настроен")
+    class UnknownHost {
+
+        @Test
+        @DisplayName("использует общий клиент")
+        void shouldUseFallback() {
+            // Act
+            String body = restClient
+                    .get()
+                    .uri("http://127.0.0.1:" + port + "/data")
+                    .retrieve()
+                    .body(String.class);
+
+            // Assert
+            assertThat(body).isEqualTo(BODY);
+            verify(getRequestedFor(urlEqualTo("/data")).withoutHeader("Accept-Encoding"));
+        }
+    }
+}
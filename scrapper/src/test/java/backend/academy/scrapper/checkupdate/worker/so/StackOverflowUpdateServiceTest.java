@@ -0,0 +1,155 @@
+package backend.academy.scrapper.checkupdate.worker.so;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import backend.academy.scrapper.checkupdate.worker.http.ConditionalRequestExecutor;
+import backend.academy.scrapper.checkupdate.worker.http.HttpValidatorStore;
+import backend.academy.scrapper.checkupdate.worker.http.SingleFlightGroup;
+import backend.academy.scrapper.checkupdate.worker.http.ratelimit.HostRateLimiter;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.converter.base.impl.DefaultStackOverflowResponseConverter;
+import backend.academy.scrapper.model.app.request.StackOverflowLinkRequest;
+import backend.academy.scrapper.model.app.update.impl.StackOverflowUpdateDetail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("StackOverflowUpdateService — пакетный опрос вопросов")
+class StackOverflowUpdateServiceTest {
+
+    private static final String QUESTIONS_URL = "https://api.stackexchange.com/2.3/questions/";
+    private static final LocalDateTime KNOWN = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long KNOWN_EPOCH = 1704067200L;
+
+    private MockRestServiceServer server;
+    private StackOverflowUpdateService service;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConditionalRequestExecutor executor = new ConditionalRequestExecutor(
+                builder.build(),
+                new HttpValidatorStore(),
+                Mockito.mock(HostRateLimiter.class),
+                new SingleFlightGroup(0, meterRegistry),
+                meterRegistry);
+
+        ScrapperConfig config = Mockito.mock(ScrapperConfig.class);
+        when(config.stackOverflow()).thenReturn(new ScrapperConfig.StackOverflowCredentials("key", "token"));
+        when(config.stackOverflowApi()).thenReturn(new ScrapperConfig.StackOverflowApi(2, "qfilter", "afilter"));
+        service = new StackOverflowUpdateService(executor, config, new DefaultStackOverflowResponseConverter());
+    }
+
+    private static String question(long id, long lastActivity) {
+        return String.format("{\"question_id\":%d,\"title\":\"Q%d\",\"last_activity_date\":%d}", id, id, lastActivity);
+    }
+
+    @Nested
+    @DisplayName("Когда вопросы помещаются в один пакет")
+    class SingleBatch {
+
+        @Test
+        @DisplayName("запрашивает ответы только для активных вопросов и раздаёт результат всем ссылкам")
+        void shouldFetchAnswersOnlyForActiveQuestions() {
+            // Arrange
+            server.expect(requestTo(startsWith(QUESTIONS_URL + "1;2?")))
+                    .andExpect(queryParam("filter", "qfilter"))
+                    .andRespond(withSuccess(
+                            "{\"items\":[" + question(1, KNOWN_EPOCH + 3600) + "," + question(2, KNOWN_EPOCH - 60)
+                                    + "],\"quota_remaining\":9000}",
+                            MediaType.APPLICATION_JSON));
+            server.expect(requestTo(startsWith(QUESTIONS_URL + "1/answers?")))
+                    .andExpect(queryParam("filter", "afilter"))
+                    .andExpect(queryParam("fromdate", String.valueOf(KNOWN_EPOCH)))
+                    .andRespond(withSuccess(
+                            "{\"items\":[{\"question_id\":1,\"creation_date\":" + (KNOWN_EPOCH + 1800)
+                                    + ",\"body\":\"new answer\",\"owner\":{\"display_name\":\"alice\"}}],"
+                                    + "\"has_more\":false}",
+                            MediaType.APPLICATION_JSON));
+
+            Map<Long, StackOverflowLinkRequest> requests = new LinkedHashMap<>();
+            requests.put(10L, new StackOverflowLinkRequest("1", KNOWN));
+            requests.put(11L, new StackOverflowLinkRequest("1", KNOWN.plusMinutes(10)));
+            requests.put(20L, new StackOverflowLinkRequest("2", KNOWN));
+
+            // Act
+            Map<Long, StackOverflowUpdateDetail> result = service.fetchLatestUpdateDetails(requests);
+
+            // Assert
+            server.verify();
+            assertThat(result).containsOnlyKeys(10L, 11L, 20L);
+            assertThat(result.get(10L).username()).isEqualTo("alice");
+            assertThat(result.get(10L).creationTime()).isEqualTo(KNOWN.plusMinutes(30));
+            assertThat(result.get(11L).preview()).isEqualTo("new answer");
+            assertThat(result.get(20L).creationTime()).isEqualTo(KNOWN);
+            assertThat(result.get(20L).questionTitle()).isEqualTo("Q2");
+        }
+
+        @Test
+        @DisplayName("не возвращает ссылку, если страница ответов неполная и ответ не найден")
+        void shouldSkipLinkWhenAnswersPageIsIncomplete() {
+            // Arrange
+            server.expect(requestTo(startsWith(QUESTIONS_URL + "1?")))
+                    .andRespond(withSuccess(
+                            "{\"items\":[" + question(1, KNOWN_EPOCH + 3600) + "]}", MediaType.APPLICATION_JSON));
+            server.expect(requestTo(containsString("/answers?")))
+                    .andRespond(withSuccess("{\"items\":[],\"has_more\":true}", MediaType.APPLICATION_JSON));
+
+            // Act
+            Map<Long, StackOverflowUpdateDetail> result =
+                    service.fetchLatestUpdateDetails(Map.of(10L, new StackOverflowLinkRequest("1", KNOWN)));
+
+            // Assert
+            server.verify();
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда вопросов больше размера пакета")
+    class SeveralBatches {
+
+        @Test
+        @DisplayName("делит идентификаторы на пакеты и не запрашивает ответы без новой активности")
+        void shouldSplitIntoBatches() {
+            // Arrange
+            server.expect(requestTo(startsWith(QUESTIONS_URL + "1;2?")))
+                    .andRespond(withSuccess(
+                            "{\"items\":[" + question(1, KNOWN_EPOCH) + "," + question(2, KNOWN_EPOCH) + "]}",
+                            MediaType.APPLICATION_JSON));
+            server.expect(requestTo(startsWith(QUESTIONS_URL + "3?")))
+                    .andRespond(
+                            withSuccess("{\"items\":[" + question(3, KNOWN_EPOCH) + "]}", MediaType.APPLICATION_JSON));
+
+            Map<Long, StackOverflowLinkRequest> requests = new LinkedHashMap<>();
+            requests.put(1L, new StackOverflowLinkRequest("1", KNOWN));
+            requests.put(2L, new StackOverflowLinkRequest("2", KNOWN));
+            requests.put(3L, new StackOverflowLinkRequest("3", KNOWN));
+
+            // Act
+            Map<Long, StackOverflowUpdateDetail> result = service.fetchLatestUpdateDetails(requests);
+
+            // Assert
+            server.verify();
+            assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+            assertThat(result.values()).allMatch(detail -> KNOWN.equals(detail.creationTime()));
+        }
+    }
+}
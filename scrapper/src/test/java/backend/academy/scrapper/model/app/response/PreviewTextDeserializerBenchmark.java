@@ -0,0 +1,93 @@
+package backend.academy.scrapper.model.app.response;
+
+import backend.academy.scrapper.model.app.response.githib.GitHubCommentResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Ручной замер аллокаций при разборе страницы комментариев GitHub: полная привязка тела против
+ * {@link PreviewTextDeserializer}. Не запускается surefire (имя не оканчивается на {@code Test}); запуск — {@code main}
+ * из IDE или
+ *
+ * <pre>
+ * mvn -pl scrapper test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp scrapper/target/test-classes:scrapper/target/classes:$(cat scrapper/target/cp.txt) \
+ *     backend.academy.scrapper.model.app.response.PreviewTextDeserializerBenchmark [comments] [bodyLength]
+ * </pre>
+ *
+ * Аллокации считаются по {@code ThreadMXBean#getCurrentThreadAllocatedBytes()} после прогрева, поэтому цифры зависят от
+ * JVM и служат для сравнения двух путей между собой, а не как абсолютные значения.
+ */
+public final class PreviewTextDeserializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    private PreviewTextDeserializerBenchmark() {}
+
+    /** Та же модель комментария, что и {@link GitHubCommentResponse}, но с полной привязкой тела. */
+    static class FullComment {
+        @JsonProperty("created_at")
+        public String createdAt;
+
+        @JsonProperty("body")
+        public String body;
+
+        @JsonProperty("user")
+        public Object user;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int bodyLength = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        byte[] page = page(count, bodyLength);
+
+        allocatedBytes(mapper, page, FullComment[].class, WARMUP_ITERATIONS);
+        allocatedBytes(mapper, page, GitHubCommentResponse[].class, WARMUP_ITERATIONS);
+        long full = allocatedBytes(mapper, page, FullComment[].class, MEASURED_ITERATIONS) / MEASURED_ITERATIONS;
+        long preview =
+                allocatedBytes(mapper, page, GitHubCommentResponse[].class, MEASURED_ITERATIONS) / MEASURED_ITERATIONS;
+
+        System.out.printf(
+                Locale.ROOT,
+                "page of %d comments x %d chars (%d KB JSON)%n"
+                        + "  full binding: %,d bytes allocated per page%n"
+                        + "  preview:      %,d bytes allocated per page (%.1f%% of full)%n",
+                count,
+                bodyLength,
+                page.length / 1024,
+                full,
+                preview,
+                100.0 * preview / full);
+    }
+
+    private static byte[] page(int count, int bodyLength) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append(String.format(
+                            Locale.ROOT,
+                            "{\"id\":%d,\"created_at\":\"2025-01-01T00:00:00Z\",\"body\":\"%s\","
+                                    + "\"user\":{\"login\":\"u%d\"}}",
+                            i,
+                            "x".repeat(bodyLength),
+                            i));
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long allocatedBytes(ObjectMapper mapper, byte[] json, Class<?> type, int iterations)
+            throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            mapper.readValue(json, type);
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+}
@@ -0,0 +1,139 @@
+package backend.academy.scrapper.model.app.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.model.app.response.githib.GitHubCommentResponse;
+import backend.academy.scrapper.model.app.response.githib.GitHubResponse;
+import backend.academy.scrapper.model.app.response.so.StackOverflowAnswerDetailWrapper;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PreviewTextDeserializer — чтение только превью длинных текстовых полей")
+class PreviewTextDeserializerTest {
+
+    private static final int LONG_TEXT = 20_000;
+
+    private final ObjectMapper mapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static String comment(int i, String body) {
+        return String.format(
+                "{\"id\":%d,\"created_at\":\"2025-01-01T00:00:00Z\",\"body\":\"%s\",\"user\":{\"login\":\"u%d\"}}",
+                i, body, i);
+    }
+
+    private static byte[] comments(int count, int bodyLength) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",").append(comment(i, "x".repeat(bodyLength)));
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Разбор полей")
+    class Parsing {
+
+        @Test
+        @DisplayName("обрезает длинное тело до превью и не трогает короткое и null")
+        void shouldKeepPreviewOnly() throws Exception {
+            // Arrange
+            String json = "[" + comment(1, "y".repeat(LONG_TEXT)) + "," + comment(2, "short") + ","
+                    + "{\"created_at\":\"2025-01-01T00:00:00Z\",\"body\":null,\"user\":{\"login\":\"u3\"}}]";
+
+            // Act
+            GitHubCommentResponse[] parsed = mapper.readValue(json, GitHubCommentResponse[].class);
+
+            // Assert
+            assertThat(parsed[0].body()).isEqualTo("y".repeat(PreviewTextDeserializer.PREVIEW_LENGTH));
+            assertThat(parsed[0].user().login()).isEqualTo("u1");
+            assertThat(parsed[1].body()).isEqualTo("short");
+            assertThat(parsed[2].body()).isNull();
+        }
+
+        @Test
+        @DisplayName("работает для моделей с конструктором и с полями")
+        void shouldApplyToAllModels() throws Exception {
+            // Arrange
+            String issue = "{\"title\":\"t\",\"body\":\"" + "z".repeat(LONG_TEXT) + "\",\"user\":{\"login\":\"a\"}}";
+            String answers = "{\"items\":[{\"question_id\":1,\"creation_date\":1,\"body\":\"" + "w".repeat(LONG_TEXT)
+                    + "\",\"owner\":{\"display_name\":\"b\"}}],\"has_more\":false}";
+
+            // Act
+            GitHubResponse parsedIssue = mapper.readValue(issue, GitHubResponse.class);
+            StackOverflowAnswerDetailWrapper parsedAnswers =
+                    mapper.readValue(answers, StackOverflowAnswerDetailWrapper.class);
+
+            // Assert
+            assertThat(parsedIssue.body()).hasSize(PreviewTextDeserializer.PREVIEW_LENGTH);
+            assertThat(parsedIssue.title()).isEqualTo("t");
+            assertThat(parsedAnswers.items().getFirst().body()).hasSize(PreviewTextDeserializer.PREVIEW_LENGTH);
+        }
+    }
+
+    @Nested
+    @DisplayName("Граничные случаи")
+    class EdgeCases {
+
+        @Test
+        @DisplayName("строка ровно из PREVIEW_LENGTH символов сохраняется, на символ длиннее — обрезается")
+        void shouldCutAtPreviewLength() throws Exception {
+            // Arrange
+            String exact = "a".repeat(PreviewTextDeserializer.PREVIEW_LENGTH);
+            String json = "[" + comment(1, exact) + "," + comment(2, exact + "b") + "]";
+
+            // Act
+            GitHubCommentResponse[] parsed = mapper.readValue(json, GitHubCommentResponse[].class);
+
+            // Assert
+            assertThat(parsed[0].body()).isEqualTo(exact);
+            assertThat(parsed[1].body()).isEqualTo(exact);
+        }
+
+        @Test
+        @DisplayName("экранированные символы считаются по одному символу превью")
+        void shouldCountEscapedCharacters() throws Exception {
+            // Arrange
+            String json = "[" + comment(1, "\\n\\u00e9".repeat(LONG_TEXT)) + "]";
+
+            // Act
+            GitHubCommentResponse[] parsed = mapper.readValue(json, GitHubCommentResponse[].class);
+
+            // Assert
+            assertThat(parsed[0].body())
+                    .hasSize(PreviewTextDeserializer.PREVIEW_LENGTH)
+                    .isEqualTo("\né".repeat(PreviewTextDeserializer.PREVIEW_LENGTH / 2));
+        }
+
+        @Test
+        @DisplayName("нестроковые значения разбираются как обычные строки")
+        void shouldHandleNonStringTokens() throws Exception {
+            // Arrange
+            String json = "[{\"created_at\":\"2025-01-01T00:00:00Z\",\"body\":42,\"user\":{\"login\":\"u1\"}},"
+                    + "{\"created_at\":\"2025-01-01T00:00:00Z\",\"body\":true,\"user\":{\"login\":\"u2\"}}]";
+
+            // Act
+            GitHubCommentResponse[] parsed = mapper.readValue(json, GitHubCommentResponse[].class);
+
+            // Assert
+            assertThat(parsed[0].body()).isEqualTo("42");
+            assertThat(parsed[1].body()).isEqualTo("true");
+        }
+
+        @Test
+        @DisplayName("страница из многих длинных тел разбирается целиком, поля после тела не теряются")
+        void shouldParseWholePage() throws Exception {
+            // Act
+            GitHubCommentResponse[] parsed = mapper.readValue(comments(20, LONG_TEXT), GitHubCommentResponse[].class);
+
+            // Assert
+            assertThat(parsed).hasSize(20).allSatisfy(comment -> assertThat(comment.body())
+                    .hasSize(PreviewTextDeserializer.PREVIEW_LENGTH));
+            assertThat(parsed[19].user().login()).isEqualTo("u19");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package backend.academy.scrapper.repository.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import backend.academy.scrapper.config.LinkBaseMapperConfig;
 import backend.academy.scrapper.exception.model.ScrapperException;
@@ -13,6 +14,7 @@ import backend.academy.scrapper.repository.jdbc.mapper.LinkRowMapper;
 import backend.academy.scrapper.repository.jdbc.mapper.helper.impl.GitHubLinkBaseMapper;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +38,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @Sql({
     "classpath:db/changelog/changeset/001-create-chat-table.sql",
     "classpath:db/changelog/changeset/002-create-link-table.sql",
+    "classpath:db/changelog/changeset/009-add-link-next-check-columns.sql",
+    "classpath:db/changelog/changeset/014-add-link-priority.sql",
     "classpath:db/changelog/changeset/003-create-chat_link-table.sql"
 })
 @TestPropertySource(properties = "spring.liquibase.enabled=false")
@@ -171,4 +175,38 @@ class ChatLinkJdbcRepositoryTestIT {
         assertThat(deleted).isOne();
         assertThat(repo.deleteChatLink(40L, lid)).isZero();
     }
+
+    @Test
+    @DisplayName("findChatIdsByLinkIds() — подписчики всех ссылок одним запросом")
+    void findChatIdsByLinkIds() {
+        // Arrange
+        jdbc.sql("INSERT INTO chat(id) VALUES(50), (51)").update();
+        jdbc.sql(
+                        """
+              INSERT INTO link(original_url, last_modified, last_checked, version, type)
+              VALUES('url50', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 'GITHUB'),
+                    ('url51', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 'GITHUB'),
+                    ('url52', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 'GITHUB')
+            """)
+                .update();
+        long first = jdbc.sql("SELECT id FROM link WHERE original_url='url50'")
+                .query(Long.class)
+                .single();
+        long second = jdbc.sql("SELECT id FROM link WHERE original_url='url51'")
+                .query(Long.class)
+                .single();
+        long unsubscribed = jdbc.sql("SELECT id FROM link WHERE original_url='url52'")
+                .query(Long.class)
+                .single();
+        repo.insertChatLink(51L, first);
+        repo.insertChatLink(50L, first);
+        repo.insertChatLink(51L, second);
+
+        // Act
+        Map<Long, List<Long>> chatIds = repo.findChatIdsByLinkIds(List.of(first, second, unsubscribed));
+
+        // Assert
+        assertThat(chatIds).containsOnly(entry(first, List.of(50L, 51L)), entry(second, List.of(51L)));
+        assertThat(repo.findChatIdsByLinkIds(List.of())).isEmpty();
+    }
 }
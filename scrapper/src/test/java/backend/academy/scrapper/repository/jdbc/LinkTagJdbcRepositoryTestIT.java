@@ -33,6 +33,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @Sql({
     "classpath:db/changelog/changeset/001-create-chat-table.sql",
     "classpath:db/changelog/changeset/002-create-link-table.sql",
+    "classpath:db/changelog/changeset/009-add-link-next-check-columns.sql",
+    "classpath:db/changelog/changeset/014-add-link-priority.sql",
     "classpath:db/changelog/changeset/003-create-chat_link-table.sql",
     "classpath:db/changelog/changeset/004-create-tag-table.sql",
     "classpath:db/changelog/changeset/005-create-link_tag-table.sql"
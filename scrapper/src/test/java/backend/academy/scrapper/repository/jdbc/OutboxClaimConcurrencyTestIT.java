@@ -0,0 +1,119 @@
+package backend.academy.scrapper.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.model.db.outbox.OutboxMessage;
+import backend.academy.scrapper.repository.jdbc.mapper.OutboxRowMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Несколько публикаторов одновременно разбирают одну таблицу outbox. Каждый захват выполняется отдельной транзакцией
+ * (autocommit), как в {@code OutboxProducerService}, поэтому SKIP LOCKED и аренда проверяются на реальной конкуренции.
+ */
+@Testcontainers
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OutboxJdbcRepository.class, OutboxRowMapper.class})
+@Sql(
+        scripts = {
+            "classpath:db/changelog/changeset/008-create-outbox-table.sql",
+            "classpath:db/changelog/changeset/010-add-outbox-lease-columns.sql",
+            "classpath:db/changelog/changeset/011-partition-outbox-by-created-at.sql",
+            "classpath:db/changelog/changeset/012-add-outbox-message-key.sql"
+        },
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@TestPropertySource(properties = {"spring.liquibase.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("OutboxJdbcRepository — конкурентный захват несколькими публикаторами")
+class OutboxClaimConcurrencyTestIT {
+
+    private static final int MESSAGES = 2000;
+    private static final int PUBLISHERS = 4;
+    private static final int BATCH = 50;
+
+    @SuppressWarnings("resource")
+    @SuppressFBWarnings(
+            value = "RV_RESOURCE_LEAK",
+            justification = "PostgreSQLContainer lifecycle managed by Testcontainers JUnit extension")
+    @ServiceConnection
+    @Container
+    static final PostgreSQLContainer<?> PG = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @Autowired
+    JdbcClient jdbc;
+
+    @Autowired
+    OutboxJdbcRepository repo;
+
+    @Test
+    @DisplayName("публикаторы получают непересекающиеся срезы и вместе разбирают весь outbox")
+    void publishersDrainDisjointSlices() throws Exception {
+        // Arrange
+        repo.saveAll(IntStream.range(0, MESSAGES)
+                .mapToObj(i -> new OutboxMessage("topic", "payload-" + i))
+                .toList());
+        Map<String, List<Long>> claimedBy = new ConcurrentHashMap<>();
+        CyclicBarrier start = new CyclicBarrier(PUBLISHERS);
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(PUBLISHERS)) {
+            List<Future<?>> publishers = new ArrayList<>();
+            for (int p = 0; p < PUBLISHERS; p++) {
+                String owner = "publisher-" + p;
+                publishers.add(executor.submit(() -> {
+                    List<Long> own = claimedBy.computeIfAbsent(owner, o -> new ArrayList<>());
+                    start.await();
+                    List<OutboxMessage> batch;
+                    while (!(batch = repo.claimUnprocessed(owner, BATCH, 30000)).isEmpty()) {
+                        List<Long> ids = batch.stream().map(OutboxMessage::id).toList();
+                        own.addAll(ids);
+                        repo.markProcessed(ids);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> publisher : publishers) {
+                publisher.get();
+            }
+        }
+
+        // Assert
+        List<Long> all = claimedBy.values().stream().flatMap(Collection::stream).toList();
+        assertThat(all).hasSize(MESSAGES).doesNotHaveDuplicates();
+        assertThat(claimedBy.values()).filteredOn(ids -> !ids.isEmpty()).hasSizeGreaterThan(1);
+        assertThat(jdbc.sql("SELECT count(*) FROM outbox WHERE processed_at IS NULL")
+                        .query(Integer.class)
+                        .single())
+                .isZero();
+    }
+}
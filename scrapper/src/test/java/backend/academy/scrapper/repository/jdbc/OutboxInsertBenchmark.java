@@ -0,0 +1,90 @@
+package backend.academy.scrapper.repository.jdbc;
+
+import backend.academy.scrapper.model.db.outbox.OutboxMessage;
+import backend.academy.scrapper.repository.jdbc.mapper.OutboxRowMapper;
+import backend.academy.scrapper.support.BenchmarkPostgres;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Ручной замер пропускной способности записи в outbox: {@link OutboxJdbcRepository#save} по одной строке против
+ * {@link OutboxJdbcRepository#saveAll} одним {@code INSERT ... SELECT FROM unnest(...)}. Ничего не проверяет и не
+ * запускается surefire/failsafe; нужен Docker. Запуск — {@code main} из IDE или
+ *
+ * <pre>
+ * mvn -pl scrapper test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp scrapper/target/test-classes:scrapper/target/classes:$(cat scrapper/target/cp.txt) \
+ *     backend.academy.scrapper.repository.jdbc.OutboxInsertBenchmark [slice] [rounds]
+ * </pre>
+ *
+ * Оба пути пишут одинаковое число строк одинакового размера в одну и ту же партиционированную таблицу; каждая строка
+ * {@code save()} — отдельная autocommit-транзакция, как при записи без пакетирования.
+ */
+public final class OutboxInsertBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private OutboxInsertBenchmark() {}
+
+    public static void main(String[] args) {
+        int slice = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        try (BenchmarkPostgres db = BenchmarkPostgres.start(
+                2,
+                "008-create-outbox-table.sql",
+                "010-add-outbox-lease-columns.sql",
+                "011-partition-outbox-by-created-at.sql",
+                "012-add-outbox-message-key.sql")) {
+            JdbcClient jdbc = db.jdbcClient();
+            OutboxJdbcRepository repo = new OutboxJdbcRepository(jdbc, new OutboxRowMapper());
+
+            singleRowNanos(repo, slice, WARMUP_ROUNDS);
+            bulkNanos(repo, slice, WARMUP_ROUNDS);
+            jdbc.sql("TRUNCATE outbox").update();
+
+            long single = singleRowNanos(repo, slice, rounds);
+            jdbc.sql("TRUNCATE outbox").update();
+            long bulk = bulkNanos(repo, slice, rounds);
+
+            long rows = (long) slice * rounds;
+            double singleRate = rows / (single / (double) TimeUnit.SECONDS.toNanos(1));
+            double bulkRate = rows / (bulk / (double) TimeUnit.SECONDS.toNanos(1));
+            System.out.printf(
+                    Locale.ROOT,
+                    "outbox insert, %d rounds x %d rows%n"
+                            + "  save() per row:  %,.0f rows/s%n"
+                            + "  saveAll() unnest: %,.0f rows/s (x%.1f)%n",
+                    rounds,
+                    slice,
+                    singleRate,
+                    bulkRate,
+                    bulkRate / singleRate);
+        }
+    }
+
+    private static List<OutboxMessage> slice(int size, String prefix) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new OutboxMessage("topic", "{\"id\":\"" + prefix + i + "\"}", (long) i))
+                .toList();
+    }
+
+    private static long singleRowNanos(OutboxJdbcRepository repo, int slice, int rounds) {
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            slice(slice, "single-" + round + "-").forEach(repo::save);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long bulkNanos(OutboxJdbcRepository repo, int slice, int rounds) {
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            repo.saveAll(slice(slice, "bulk-" + round + "-"));
+        }
+        return System.nanoTime() - start;
+    }
+}
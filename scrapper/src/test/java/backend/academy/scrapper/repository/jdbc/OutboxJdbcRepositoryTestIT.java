@@ -0,0 +1,193 @@
+package backend.academy.scrapper.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.model.db.outbox.OutboxMessage;
+import backend.academy.scrapper.repository.jdbc.mapper.OutboxRowMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxJdbcRepository.class, OutboxRowMapper.class})
+@Sql(
+        scripts = {
+            "classpath:db/changelog/changeset/008-create-outbox-table.sql",
+            "classpath:db/changelog/changeset/010-add-outbox-lease-columns.sql",
+            "classpath:db/changelog/changeset/011-partition-outbox-by-created-at.sql",
+            "classpath:db/changelog/changeset/012-add-outbox-message-key.sql"
+        })
+@TestPropertySource(properties = {"spring.liquibase.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("OutboxJdbcRepository — интеграционные тесты на Postgres‑контейнере")
+class OutboxJdbcRepositoryTestIT {
+
+    private static final int SLICE = 100;
+
+    @SuppressWarnings("resource")
+    @SuppressFBWarnings(
+            value = "RV_RESOURCE_LEAK",
+            justification = "PostgreSQLContainer lifecycle managed by Testcontainers JUnit extension")
+    @ServiceConnection
+    @Container
+    static final PostgreSQLContainer<?> PG = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @Autowired
+    JdbcClient jdbc;
+
+    @Autowired
+    OutboxJdbcRepository repo;
+
+    private static List<OutboxMessage> slice(String prefix) {
+        return IntStream.range(0, SLICE)
+                .mapToObj(i -> new OutboxMessage("topic", "{\"id\":\"" + prefix + i + "\"}"))
+                .toList();
+    }
+
+    private int count() {
+        return jdbc.sql("SELECT count(*) FROM outbox").query(Integer.class).single();
+    }
+
+    @Nested
+    @DisplayName("saveAll()")
+    class SaveAll {
+
+        @Test
+        @DisplayName("записывает срез одним запросом, сохраняя порядок и заполняя created_at")
+        void insertsWholeSlice() {
+            // Arrange
+            LocalDateTime createdAt = LocalDateTime.of(2020, 1, 1, 12, 0);
+            OutboxMessage dated = new OutboxMessage(null, "t1", "p1", null, createdAt, null);
+            OutboxMessage undated = new OutboxMessage("t2", "p2");
+
+            // Act
+            int inserted = repo.saveAll(List.of(dated, undated));
+
+            // Assert
+            assertThat(inserted).isEqualTo(2);
+            List<OutboxMessage> rows = repo.findUnprocessed(10);
+            assertThat(rows).extracting(OutboxMessage::payload).containsExactly("p1", "p2");
+            assertThat(rows.getFirst().createdAt()).isEqualTo(createdAt);
+            assertThat(rows.getLast().createdAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("несколько срезов подряд записывают все строки")
+        void insertsConsecutiveSlices() {
+            // Act
+            int first = repo.saveAll(slice("a-"));
+            int second = repo.saveAll(slice("b-"));
+
+            // Assert
+            assertThat(first).isEqualTo(SLICE);
+            assertThat(second).isEqualTo(SLICE);
+            assertThat(count()).isEqualTo(2 * SLICE);
+        }
+
+        @Test
+        @DisplayName("пустой срез не обращается к базе")
+        void emptySlice() {
+            // Act & Assert
+            assertThat(repo.saveAll(List.of())).isZero();
+            assertThat(count()).isZero();
+        }
+
+        @Test
+        @DisplayName("сохраняет ключ записи Kafka, отсутствующий ключ остаётся NULL")
+        void persistsMessageKey() {
+            // Act
+            repo.saveAll(List.of(new OutboxMessage("t", "keyed", 42L), new OutboxMessage("t", "plain")));
+
+            // Assert
+            assertThat(repo.findUnprocessed(10))
+                    .extracting(msg -> msg.messageKey())
+                    .containsExactly(42L, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("claimUnprocessed()")
+    class ClaimUnprocessed {
+
+        @Test
+        @DisplayName("выдаёт сообщения в порядке создания и записывает аренду")
+        void claimsOldestFirst() {
+            // Arrange
+            repo.saveAll(List.of(
+                    new OutboxMessage(null, "t", "new", null, LocalDateTime.of(2020, 1, 2, 0, 0), null),
+                    new OutboxMessage(null, "t", "old", null, LocalDateTime.of(2020, 1, 1, 0, 0), null)));
+
+            // Act
+            List<OutboxMessage> claimed = repo.claimUnprocessed("a", 10, 30000);
+
+            // Assert
+            assertThat(claimed).extracting(OutboxMessage::payload).containsExactly("old", "new");
+            assertThat(jdbc.sql("SELECT count(*) FROM outbox WHERE claimed_by = 'a' AND claimed_until IS NOT NULL")
+                            .query(Integer.class)
+                            .single())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("не выдаёт сообщения под действующей арендой и обработанные")
+        void skipsLeasedAndProcessed() {
+            // Arrange
+            repo.saveAll(slice("m-"));
+            List<OutboxMessage> first = repo.claimUnprocessed("a", 10, 30000);
+            repo.markProcessed(first.stream().map(OutboxMessage::id).toList());
+
+            // Act
+            List<OutboxMessage> second = repo.claimUnprocessed("b", 10, 30000);
+            List<OutboxMessage> rest = repo.claimUnprocessed("c", SLICE, 30000);
+
+            // Assert
+            assertThat(second).hasSize(10).extracting(OutboxMessage::id).doesNotContainAnyElementsOf(ids(first));
+            assertThat(rest).hasSize(SLICE - 20).extracting(OutboxMessage::id).doesNotContainAnyElementsOf(ids(second));
+        }
+
+        @Test
+        @DisplayName("повторно выдаёт сообщения с истёкшей арендой")
+        void reclaimsExpiredLease() {
+            // Arrange
+            repo.saveAll(List.of(new OutboxMessage("t", "p")));
+            List<OutboxMessage> claimed = repo.claimUnprocessed("crashed", 10, 30000);
+            jdbc.sql("UPDATE outbox SET claimed_until = CURRENT_TIMESTAMP - INTERVAL '1 second'")
+                    .update();
+
+            // Act
+            List<OutboxMessage> reclaimed = repo.claimUnprocessed("b", 10, 30000);
+
+            // Assert
+            assertThat(ids(reclaimed)).isEqualTo(ids(claimed));
+            assertThat(jdbc.sql("SELECT claimed_by FROM outbox")
+                            .query(String.class)
+                            .single())
+                    .isEqualTo("b");
+        }
+
+        private static List<Long> ids(List<OutboxMessage> messages) {
+            return messages.stream().map(OutboxMessage::id).toList();
+        }
+    }
+}
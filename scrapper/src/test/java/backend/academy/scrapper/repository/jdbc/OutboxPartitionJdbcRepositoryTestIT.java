@@ -0,0 +1,176 @@
+package backend.academy.scrapper.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OutboxPartitionJdbcRepository.class)
+@Sql(
+        scripts = {
+            "classpath:db/changelog/changeset/008-create-outbox-table.sql",
+            "classpath:db/changelog/changeset/010-add-outbox-lease-columns.sql",
+            "classpath:db/changelog/changeset/011-partition-outbox-by-created-at.sql",
+            "classpath:db/changelog/changeset/012-add-outbox-message-key.sql"
+        })
+@TestPropertySource(properties = {"spring.liquibase.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("OutboxPartitionJdbcRepository — интеграционные тесты на Postgres‑контейнере")
+class OutboxPartitionJdbcRepositoryTestIT {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 10);
+
+    @SuppressWarnings("resource")
+    @SuppressFBWarnings(
+            value = "RV_RESOURCE_LEAK",
+            justification = "PostgreSQLContainer lifecycle managed by Testcontainers JUnit extension")
+    @ServiceConnection
+    @Container
+    static final PostgreSQLContainer<?> PG = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @Autowired
+    JdbcClient jdbc;
+
+    @Autowired
+    OutboxPartitionJdbcRepository repo;
+
+    private void insert(LocalDate day, boolean processed) {
+        jdbc.sql("INSERT INTO outbox (topic, payload, created_at, processed_at) VALUES ('t', '{}', :at, :processed)")
+                .param("at", day.atTime(12, 0))
+                .param("processed", processed ? day.atTime(12, 1) : null)
+                .update();
+    }
+
+    private int countIn(String table) {
+        return jdbc.sql("SELECT count(*) FROM " + table).query(Integer.class).single();
+    }
+
+    @Nested
+    @DisplayName("createDailyPartition()")
+    class CreateDailyPartition {
+
+        @Test
+        @DisplayName("Новые строки попадают в суточную партицию, а не в default")
+        void rowsRoutedToDailyPartition() {
+            // Arrange
+            assertThat(repo.createDailyPartition(DAY)).isTrue();
+
+            // Act
+            insert(DAY, false);
+
+            // Assert
+            assertThat(repo.findDailyPartitions()).containsExactly(DAY);
+            assertThat(countIn("outbox_p20240110")).isEqualTo(1);
+            assertThat(countIn("outbox_default")).isZero();
+        }
+
+        @Test
+        @DisplayName("Повторное создание партиции не падает")
+        void idempotent() {
+            // Act & Assert
+            assertThat(repo.createDailyPartition(DAY)).isTrue();
+            assertThat(repo.createDailyPartition(DAY)).isTrue();
+            assertThat(repo.findDailyPartitions()).containsExactly(DAY);
+        }
+    }
+
+    @Nested
+    @DisplayName("dropIfProcessed()")
+    class DropIfProcessed {
+
+        @Test
+        @DisplayName("Полностью обработанная партиция удаляется")
+        void dropsProcessedPartition() {
+            // Arrange
+            repo.createDailyPartition(DAY);
+            insert(DAY, true);
+
+            // Act
+            boolean dropped = repo.dropIfProcessed(DAY);
+
+            // Assert
+            assertThat(dropped).isTrue();
+            assertThat(repo.findDailyPartitions()).isEmpty();
+            assertThat(countIn("outbox")).isZero();
+        }
+
+        @Test
+        @DisplayName("Партиция с неотправленными сообщениями не удаляется")
+        void keepsPendingPartition() {
+            // Arrange
+            repo.createDailyPartition(DAY);
+            insert(DAY, true);
+            insert(DAY, false);
+
+            // Act
+            boolean dropped = repo.dropIfProcessed(DAY);
+
+            // Assert
+            assertThat(dropped).isFalse();
+            assertThat(countIn("outbox")).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteProcessedFromDefault()")
+    class DeleteProcessedFromDefault {
+
+        @Test
+        @DisplayName("Удаляет только обработанные строки старше границы")
+        void deletesOnlyOldProcessed() {
+            // Arrange
+            insert(DAY, true);
+            insert(DAY, false);
+            insert(DAY.plusDays(5), true);
+
+            // Act
+            int deleted = repo.deleteProcessedFromDefault(DAY.plusDays(1).atStartOfDay());
+
+            // Assert
+            assertThat(deleted).isEqualTo(1);
+            assertThat(countIn("outbox_default")).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("currentDate()")
+    class CurrentDate {
+
+        @Test
+        @DisplayName("Совпадает с датой, которую база записывает в created_at по умолчанию")
+        void matchesDefaultCreatedAt() {
+            // Arrange
+            jdbc.sql("INSERT INTO outbox (topic, payload) VALUES ('t', '{}')").update();
+
+            // Act
+            LocalDate today = repo.currentDate();
+
+            // Assert
+            assertThat(jdbc.sql("SELECT created_at::date FROM outbox")
+                            .query(LocalDate.class)
+                            .single())
+                    .isEqualTo(today);
+        }
+    }
+}
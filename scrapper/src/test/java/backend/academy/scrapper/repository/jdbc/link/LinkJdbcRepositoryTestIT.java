@@ -7,10 +7,16 @@ import backend.academy.scrapper.config.LinkBaseMapperConfig;
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.impl.GitHubLink;
+import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
+import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.repository.jdbc.mapper.LinkRowMapper;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,13 +41,24 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @JdbcTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Import({LinkJdbcRepository.class, LinkRowMapper.class})
-@Sql(scripts = {"classpath:db/changelog/changeset/002-create-link-table.sql"})
+@Sql(
+        scripts = {
+            "classpath:db/changelog/changeset/001-create-chat-table.sql",
+            "classpath:db/changelog/changeset/002-create-link-table.sql",
+            "classpath:db/changelog/changeset/003-create-chat_link-table.sql",
+            "classpath:db/changelog/changeset/009-add-link-next-check-columns.sql",
+            "classpath:db/changelog/changeset/014-add-link-priority.sql",
+            "classpath:db/changelog/changeset/006-create-github_link-table.sql",
+            "classpath:db/changelog/changeset/007-create-stackoverflow_link-table.sql"
+        })
 @SpringJUnitConfig(classes = LinkJdbcRepositoryTestIT.LinkServiceTestConfig.class)
 @TestPropertySource(properties = "spring.liquibase.enabled=false")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @DisplayName("LinkJdbcRepository — интеграционные тесты")
 class LinkJdbcRepositoryTestIT {
 
+    private static final LinkClaimCriteria CRITERIA = new LinkClaimCriteria(60, 3600, 5);
+
     @TestConfiguration
     @Import(LinkBaseMapperConfig.class)
     @ComponentScan(basePackages = "backend.academy.scrapper.repository.jdbc.mapper.helper")
@@ -131,11 +148,31 @@ class LinkJdbcRepositoryTestIT {
     @Nested
     @DisplayName("fetchLinksToUpdate()")
     class FetchToUpdate {
+        @Test
+        @DisplayName("шардированная выборка → только ссылки из переданных шардов")
+        void shardedSelection() {
+            // Arrange
+            jdbc.sql(
+                            """
+                  INSERT INTO link (original_url, last_modified, last_checked, version, type)
+                  SELECT 'u' || g, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP - INTERVAL '120 seconds', 0, 'GITHUB'
+                  FROM generate_series(1, 4) g
+                """)
+                    .update();
+
+            // Act
+            List<Link> batch = repo.fetchLinksToUpdate(CRITERIA.withShards(2, List.of(1)));
+
+            // Assert
+            assertThat(batch).hasSize(2).allSatisfy(link -> assertThat(link.id() % 2)
+                    .isEqualTo(1L));
+        }
+
         @Test
         @DisplayName("нет устаревших → пустой список")
         void noExpired() {
             // Act & Assert
-            assertThat(repo.fetchLinksToUpdate(60, 5)).isEmpty();
+            assertThat(repo.fetchLinksToUpdate(CRITERIA)).isEmpty();
         }
 
         @Test
@@ -156,11 +193,120 @@ class LinkJdbcRepositoryTestIT {
                     .update();
 
             // Act
-            List<Link> batch = repo.fetchLinksToUpdate(60, 5);
+            List<Link> batch = repo.fetchLinksToUpdate(CRITERIA);
 
             // Assert
             assertThat(batch).hasSize(1).first().extracting(Link::originalUrl).isEqualTo("old");
         }
+
+        @Test
+        @DisplayName("возвращает типизированные ссылки с заполненными полями подтипа")
+        void returnsEnrichedLinks() {
+            // Arrange
+            Long gitHubId = insertDue("https://github.com/o/r/pull/7", "INTERVAL '1 hour'", 60);
+            Long stackOverflowId = insertDue("https://stackoverflow.com/questions/42", "INTERVAL '1 hour'", 60);
+            jdbc.sql("UPDATE link SET type = 'STACKOVERFLOW' WHERE id = :id")
+                    .param("id", stackOverflowId)
+                    .update();
+            jdbc.sql(
+                            """
+                  INSERT INTO github_link (id, owner, repo, item_number, event_type)
+                  VALUES (:id, 'o', 'r', '7', 'PR')
+                """)
+                    .param("id", gitHubId)
+                    .update();
+            jdbc.sql("INSERT INTO stackoverflow_link (id, question_id) VALUES (:id, '42')")
+                    .param("id", stackOverflowId)
+                    .update();
+
+            // Act
+            Map<Long, Link> batch = new LinkedHashMap<>();
+            repo.fetchLinksToUpdate(CRITERIA).forEach(link -> batch.put(link.id(), link));
+
+            // Assert
+            assertThat(batch.get(gitHubId)).isInstanceOfSatisfying(GitHubLink.class, link -> {
+                assertThat(link.owner()).isEqualTo("o");
+                assertThat(link.repo()).isEqualTo("r");
+                assertThat(link.itemNumber()).isEqualTo("7");
+                assertThat(link.eventType()).isEqualTo(GitHubEventType.PR);
+            });
+            assertThat(batch.get(stackOverflowId))
+                    .isInstanceOfSatisfying(StackOverflowLink.class, link -> assertThat(link.questionId())
+                            .isEqualTo("42"));
+        }
+
+        @Test
+        @DisplayName("не возвращает ссылки, срок проверки которых ещё не наступил")
+        void skipsNotDue() {
+            // Arrange
+            jdbc.sql(
+                            """
+                  INSERT INTO link (original_url, last_modified, last_checked, next_check_at, version, type)
+                  VALUES ('later', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP - INTERVAL '1 day',
+                          CURRENT_TIMESTAMP + INTERVAL '1 hour', 0, 'GITHUB')
+                """)
+                    .update();
+
+            // Act & Assert
+            assertThat(repo.fetchLinksToUpdate(CRITERIA)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("удваивает интервал давно не менявшейся ссылки, но не выше потолка")
+        void backsOffDormantLink() {
+            // Arrange
+            Long dormant = insertDue("dormant", "INTERVAL '30 days'", 600);
+            Long capped = insertDue("capped", "INTERVAL '30 days'", 3000);
+
+            // Act
+            repo.fetchLinksToUpdate(CRITERIA);
+
+            // Assert
+            assertThat(intervalOf(dormant)).isEqualTo(1200);
+            assertThat(intervalOf(capped)).isEqualTo(3600);
+            assertThat(jdbc.sql(
+                                    "SELECT next_check_at > CURRENT_TIMESTAMP + INTERVAL '1000 seconds' FROM link WHERE id = :id")
+                            .param("id", dormant)
+                            .query(Boolean.class)
+                            .single())
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("не уводит интервал дальше времени с последнего изменения")
+        void keepsRecentlyActiveLinkClose() {
+            // Arrange
+            Long active = insertDue("active", "INTERVAL '300 seconds'", 600);
+
+            // Act
+            repo.fetchLinksToUpdate(CRITERIA);
+
+            // Assert
+            assertThat(intervalOf(active)).isBetween(300, 310);
+        }
+
+        private Long insertDue(String url, String modifiedAgo, int interval) {
+            return jdbc.sql(
+                            """
+                  INSERT INTO link (original_url, last_modified, last_checked, next_check_at,
+                                    check_interval_seconds, version, type)
+                  VALUES (:url, CURRENT_TIMESTAMP - %s, CURRENT_TIMESTAMP - INTERVAL '1 day',
+                          CURRENT_TIMESTAMP - INTERVAL '1 second', :interval, 0, 'GITHUB')
+                  RETURNING id
+                """
+                                    .formatted(modifiedAgo))
+                    .param("url", url)
+                    .param("interval", interval)
+                    .query(Long.class)
+                    .single();
+        }
+
+        private int intervalOf(Long id) {
+            return jdbc.sql("SELECT check_interval_seconds FROM link WHERE id = :id")
+                    .param("id", id)
+                    .query(Integer.class)
+                    .single();
+        }
     }
 
     @Nested
@@ -189,5 +335,182 @@ class LinkJdbcRepositoryTestIT {
                     .single();
             assertThat(got).isEqualTo(newTime);
         }
+
+        @Test
+        @DisplayName("сбрасывает адаптивный интервал к базовому")
+        void resetsSchedule() {
+            // Arrange
+            Long id = jdbc.sql(
+                            """
+                  INSERT INTO link (original_url, last_modified, last_checked, next_check_at,
+                                    check_interval_seconds, version, type)
+                  VALUES ('y', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + INTERVAL '6 hours',
+                          21600, 0, 'GITHUB')
+                  RETURNING id
+                """)
+                    .query(Long.class)
+                    .single();
+
+            // Act
+            repo.updateLastModified(id, LocalDateTime.now(ZoneId.systemDefault()));
+
+            // Assert
+            assertThat(jdbc.sql("SELECT check_interval_seconds = 0 AND next_check_at IS NULL FROM link WHERE id = :id")
+                            .param("id", id)
+                            .query(Boolean.class)
+                            .single())
+                    .isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("updateLastModifiedAll()")
+    class UpdateLastModifiedAll {
+        @Test
+        @DisplayName("обновляет last_modified всех ссылок одним запросом и сбрасывает расписание")
+        void updatesAllLinks() {
+            // Arrange
+            List<Long> ids = jdbc.sql(
+                            """
+                  INSERT INTO link (original_url, last_modified, last_checked, next_check_at,
+                                    check_interval_seconds, version, type)
+                  VALUES ('b1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + INTERVAL '1 hour',
+                          3600, 0, 'GITHUB'),
+                         ('b2', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + INTERVAL '1 hour',
+                          3600, 0, 'GITHUB'),
+                         ('b3', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + INTERVAL '1 hour',
+                          3600, 0, 'GITHUB')
+                  RETURNING id
+                """)
+                    .query(Long.class)
+                    .list();
+            LocalDateTime first = LocalDateTime.of(2001, 1, 1, 0, 0);
+            LocalDateTime second = LocalDateTime.of(2002, 2, 2, 12, 30, 15);
+            Map<Long, LocalDateTime> newTimes = new LinkedHashMap<>();
+            newTimes.put(ids.get(0), first);
+            newTimes.put(ids.get(1), second);
+
+            // Act
+            repo.updateLastModifiedAll(newTimes);
+
+            // Assert
+            assertThat(jdbc.sql("SELECT last_modified FROM link WHERE id IN (:ids) ORDER BY id")
+                            .param("ids", ids.subList(0, 2))
+                            .query(LocalDateTime.class)
+                            .list())
+                    .containsExactly(first, second);
+            assertThat(jdbc.sql("SELECT count(*) FROM link WHERE check_interval_seconds = 0 AND next_check_at IS NULL")
+                            .query(Integer.class)
+                            .single())
+                    .isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Приоритет проверки")
+    class Priority {
+
+        private Long insertDue(String url, int overdueSeconds, int priority) {
+            return jdbc.sql(
+                            """
+                  INSERT INTO link (original_url, last_modified, last_checked, version, type, priority)
+                  VALUES (:url, CURRENT_TIMESTAMP - INTERVAL '7 days',
+                          CURRENT_TIMESTAMP - make_interval(secs := 60 + :overdue), 0, 'GITHUB', :priority)
+                  RETURNING id
+                """)
+                    .param("url", url)
+                    .param("overdue", overdueSeconds)
+                    .param("priority", priority)
+                    .query(Long.class)
+                    .single();
+        }
+
+        @Test
+        @DisplayName("из наступивших первой выбирается приоритетная ссылка")
+        void highPriorityFirst() {
+            // Arrange
+            insertDue("low", 300, 0);
+            insertDue("high", 10, 2);
+
+            // Act
+            List<Link> batch = repo.fetchLinksToUpdate(new LinkClaimCriteria(60, 3600, 1, 600));
+
+            // Assert
+            assertThat(batch).singleElement().satisfies(link -> {
+                assertThat(link.originalUrl()).isEqualTo("high");
+                assertThat(link.priority()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("сильно просроченная ссылка опережает приоритетную")
+        void agingPreventsStarvation() {
+            // Arrange: просрочка 3000 с больше сдвига 2 * 600 с
+            insertDue("starving", 3000, 0);
+            insertDue("high", 10, 2);
+
+            // Act
+            List<Link> batch = repo.fetchLinksToUpdate(new LinkClaimCriteria(60, 3600, 1, 600));
+
+            // Assert
+            assertThat(batch).extracting(Link::originalUrl).containsExactly("starving");
+        }
+
+        @Test
+        @DisplayName("refreshPriorities() учитывает число подписчиков и недавнюю активность")
+        void refreshesFromSubscribers() {
+            // Arrange
+            Long popular = insertDue("popular", 0, 0);
+            Long active = jdbc.sql(
+                            """
+                  INSERT INTO link (original_url, last_modified, last_checked, version, type)
+                  VALUES ('active', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 'GITHUB')
+                  RETURNING id
+                """)
+                    .query(Long.class)
+                    .single();
+            jdbc.sql("INSERT INTO chat (id) SELECT g FROM generate_series(1, 12) g")
+                    .update();
+            jdbc.sql("INSERT INTO chat_link (chat_id, link_id) SELECT g, :link FROM generate_series(1, 12) g")
+                    .param("link", popular)
+                    .update();
+            jdbc.sql("INSERT INTO chat_link (chat_id, link_id) VALUES (1, :link)")
+                    .param("link", active)
+                    .update();
+
+            // Act
+            int changed = repo.refreshPriorities(86400, 4);
+
+            // Assert
+            assertThat(changed).isEqualTo(2);
+            assertThat(jdbc.sql("SELECT priority FROM link WHERE id = :id")
+                            .param("id", popular)
+                            .query(Integer.class)
+                            .single())
+                    .isEqualTo(1);
+            assertThat(jdbc.sql("SELECT priority FROM link WHERE id = :id")
+                            .param("id", active)
+                            .query(Integer.class)
+                            .single())
+                    .isEqualTo(1);
+            assertThat(repo.refreshPriorities(86400, 4)).isZero();
+        }
+
+        @Test
+        @DisplayName("findLagByPriority() возвращает просрочку самой давней проверки по уровням")
+        void lagByPriority() {
+            // Arrange
+            insertDue("a", 100, 0);
+            insertDue("b", 500, 0);
+            insertDue("c", 50, 3);
+
+            // Act
+            Map<Integer, Long> lag = repo.findLagByPriority(60);
+
+            // Assert
+            assertThat(lag).containsOnlyKeys(0, 3);
+            assertThat(lag.get(0)).isBetween(499L, 510L);
+            assertThat(lag.get(3)).isBetween(49L, 60L);
+        }
     }
 }
@@ -7,8 +7,6 @@ import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.link.impl.GitHubLink;
 import backend.academy.scrapper.model.db.link.impl.type.GitHubEventType;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -32,6 +30,8 @@ import org.testcontainers.utility.DockerImageName;
 @Import(GitHubLinkRepository.class)
 @Sql({
     "classpath:db/changelog/changeset/002-create-link-table.sql",
+    "classpath:db/changelog/changeset/009-add-link-next-check-columns.sql",
+    "classpath:db/changelog/changeset/014-add-link-priority.sql",
     "classpath:db/changelog/changeset/006-create-github_link-table.sql"
 })
 @TestPropertySource(properties = "spring.liquibase.enabled=false")
@@ -116,43 +116,4 @@ class GitHubLinkRepositoryTestIT {
             assertThatThrownBy(() -> repo.insert(bad)).isInstanceOf(ScrapperException.class);
         }
     }
-
-    @Nested
-    @DisplayName("findByIds()")
-    class FindByIds {
-
-        @Test
-        @DisplayName("заполняет все поля из БД")
-        void fillsFields() {
-            // Arrange
-            jdbc.sql(
-                            """
-                        INSERT INTO link
-                          (original_url, last_modified, last_checked, version, type)
-                        VALUES
-                          ('http://x', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 'GITHUB')
-                        """)
-                    .update();
-            jdbc.sql(
-                            """
-                        INSERT INTO github_link
-                          (id, owner, repo, item_number, event_type)
-                        VALUES
-                          (1, 'own', 'rep', '77', 'PR')
-                        """)
-                    .update();
-
-            var fresh = new GitHubLink();
-            fresh.id(1L);
-
-            // Act
-            repo.findByIds(List.of(1L), Map.of(1L, fresh));
-
-            // Assert
-            assertThat(fresh.owner()).isEqualTo("own");
-            assertThat(fresh.repo()).isEqualTo("rep");
-            assertThat(fresh.itemNumber()).isEqualTo("77");
-            assertThat(fresh.eventType()).isEqualTo(GitHubEventType.PR);
-        }
-    }
 }
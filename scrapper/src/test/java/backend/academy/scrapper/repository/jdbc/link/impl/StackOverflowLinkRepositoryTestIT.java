@@ -6,8 +6,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import backend.academy.scrapper.exception.model.ScrapperException;
 import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,6 +28,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @Import(StackOverflowLinkRepository.class)
 @Sql({
     "classpath:db/changelog/changeset/002-create-link-table.sql",
+    "classpath:db/changelog/changeset/009-add-link-next-check-columns.sql",
+    "classpath:db/changelog/changeset/014-add-link-priority.sql",
     "classpath:db/changelog/changeset/007-create-stackoverflow_link-table.sql"
 })
 @TestPropertySource(properties = "spring.liquibase.enabled=false")
@@ -113,40 +113,4 @@ class StackOverflowLinkRepositoryTestIT {
             assertThatThrownBy(() -> repo.insert(bad)).isInstanceOf(ScrapperException.class);
         }
     }
-
-    @Nested
-    @DisplayName("findByIds()")
-    class FindByIds {
-
-        @Test
-        @DisplayName("заполняет questionId")
-        void fillsQuestionId() {
-            // Arrange
-            jdbc.sql(
-                            """
-                        INSERT INTO link
-                          (original_url, last_modified, last_checked, version, type)
-                        VALUES
-                          ('http://x', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 'STACKOVERFLOW')
-                        """)
-                    .update();
-            jdbc.sql(
-                            """
-                        INSERT INTO stackoverflow_link
-                          (id, question_id)
-                        VALUES
-                          (1, 'Q99')
-                        """)
-                    .update();
-
-            var fresh = new StackOverflowLink();
-            fresh.id(1L);
-
-            // Act
-            repo.findByIds(List.of(1L), Map.of(1L, fresh));
-
-            // Assert
-            assertThat(fresh.questionId()).isEqualTo("Q99");
-        }
-    }
 }
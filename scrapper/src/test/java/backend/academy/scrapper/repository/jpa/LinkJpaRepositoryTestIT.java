@@ -59,7 +59,7 @@ class LinkJpaRepositoryTestIT {
     private LinkJpaRepository repo;
 
     @Nested
-    @DisplayName("fetchIdsToUpdate(interval, limit)")
+    @DisplayName("fetchIdsToUpdate(interval, limit, boost)")
     class FetchIds {
 
         @Test
@@ -70,7 +70,7 @@ class LinkJpaRepositoryTestIT {
             int limit = 10;
 
             // Act
-            List<Long> ids = repo.fetchIdsToUpdate(interval, limit);
+            List<Long> ids = repo.fetchIdsToUpdate(interval, limit, 0);
 
             // Assert
             assertThat(ids).isEmpty();
@@ -91,7 +91,7 @@ class LinkJpaRepositoryTestIT {
             repo.save(recent);
 
             // Act
-            List<Long> ids = repo.fetchIdsToUpdate(60, 10);
+            List<Long> ids = repo.fetchIdsToUpdate(60, 10, 0);
 
             // Assert
             assertThat(ids).containsExactly(old.id());
@@ -115,10 +115,52 @@ class LinkJpaRepositoryTestIT {
             c.lastChecked(now.minusSeconds(100));
             repo.save(c);
             // Act
-            List<Long> limited = repo.fetchIdsToUpdate(50, 2);
+            List<Long> limited = repo.fetchIdsToUpdate(50, 2, 0);
 
             // Assert
             assertThat(limited).containsExactly(a.id(), b.id());
         }
     }
+
+    @Nested
+    @DisplayName("updateLastModifiedAll(ids, newTimes)")
+    class UpdateLastModifiedAll {
+
+        @Test
+        @DisplayName("одним запросом сохраняет время каждой ссылки и сбрасывает расписание, не трогая остальные")
+        void updatesEachLink() {
+            // Arrange
+            LocalDateTime scheduled = LocalDateTime.of(2030, 1, 1, 0, 0);
+            Link a = repo.saveAndFlush(new StackOverflowLink("https://so/u1", "u1")
+                    .nextCheckAt(scheduled)
+                    .checkIntervalSeconds(600));
+            Link b = repo.saveAndFlush(new StackOverflowLink("https://so/u2", "u2")
+                    .nextCheckAt(scheduled)
+                    .checkIntervalSeconds(600));
+            Link untouched = repo.saveAndFlush(new StackOverflowLink("https://so/u3", "u3")
+                    .nextCheckAt(scheduled)
+                    .checkIntervalSeconds(600));
+            LocalDateTime timeA = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+            LocalDateTime timeB = LocalDateTime.of(2025, 2, 1, 12, 30, 15);
+
+            // Act
+            int updated = repo.updateLastModifiedAll(new Long[] {a.id(), b.id()}, new LocalDateTime[] {timeA, timeB});
+
+            // Assert
+            assertThat(updated).isEqualTo(2);
+            assertThat(repo.findById(a.id())).get().satisfies(link -> {
+                assertThat(link.lastModified()).isEqualTo(timeA);
+                assertThat(link.nextCheckAt()).isNull();
+                assertThat(link.checkIntervalSeconds()).isZero();
+            });
+            assertThat(repo.findById(b.id()))
+                    .get()
+                    .extracting(link -> link.lastModified())
+                    .isEqualTo(timeB);
+            assertThat(repo.findById(untouched.id())).get().satisfies(link -> {
+                assertThat(link.nextCheckAt()).isEqualTo(scheduled);
+                assertThat(link.checkIntervalSeconds()).isEqualTo(600);
+            });
+        }
+    }
 }
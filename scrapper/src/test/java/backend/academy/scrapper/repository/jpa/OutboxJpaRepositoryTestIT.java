@@ -0,0 +1,120 @@
+package backend.academy.scrapper.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.model.db.outbox.OutboxMessage;
+import backend.academy.scrapper.repository.jpa.outbox.OutboxJpaRepository;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan(basePackageClasses = OutboxMessage.class)
+@EnableJpaRepositories(basePackageClasses = OutboxJpaRepository.class)
+@Sql(
+        scripts = {
+            "classpath:db/changelog/changeset/008-create-outbox-table.sql",
+            "classpath:db/changelog/changeset/010-add-outbox-lease-columns.sql",
+            "classpath:db/changelog/changeset/011-partition-outbox-by-created-at.sql",
+            "classpath:db/changelog/changeset/012-add-outbox-message-key.sql"
+        })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("OutboxJpaRepository — интеграционные тесты на Postgres‑контейнере")
+class OutboxJpaRepositoryTestIT {
+
+    private static final int SLICE = 100;
+
+    @SuppressWarnings("resource")
+    @SuppressFBWarnings(
+            value = "RV_RESOURCE_LEAK",
+            justification = "PostgreSQLContainer lifecycle managed by Testcontainers JUnit extension")
+    @Container
+    static PostgreSQLContainer<?> pg = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", pg::getJdbcUrl);
+        r.add("spring.datasource.username", pg::getUsername);
+        r.add("spring.datasource.password", pg::getPassword);
+        r.add("spring.liquibase.enabled", () -> "false");
+        // Партиционированная таблица создаётся changeset'ами, а не Hibernate
+        r.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    static {
+        pg.start();
+    }
+
+    @Autowired
+    OutboxJpaRepository repo;
+
+    @Nested
+    @DisplayName("insertAll(topics, payloads, keys, createdAt)")
+    class InsertAll {
+
+        @Test
+        @DisplayName("записывает срез одним запросом и сохраняет все поля")
+        void insertsWholeSlice() {
+            // Arrange
+            LocalDateTime base = LocalDateTime.of(2020, 1, 1, 12, 0);
+            String[] topics =
+                    IntStream.range(0, SLICE).mapToObj(i -> "topic" + i).toArray(String[]::new);
+            String[] payloads = IntStream.range(0, SLICE).mapToObj(i -> "p" + i).toArray(String[]::new);
+            Long[] keys = IntStream.range(0, SLICE)
+                    .mapToObj(i -> i % 2 == 0 ? Long.valueOf(i) : null)
+                    .toArray(Long[]::new);
+            LocalDateTime[] createdAt =
+                    IntStream.range(0, SLICE).mapToObj(base::plusSeconds).toArray(LocalDateTime[]::new);
+
+            // Act
+            int inserted = repo.insertAll(topics, payloads, keys, createdAt);
+
+            // Assert
+            assertThat(inserted).isEqualTo(SLICE);
+            List<OutboxMessage> rows = repo.findUnprocessed(PageRequest.of(0, SLICE + 1));
+            assertThat(rows).hasSize(SLICE);
+            for (int i = 0; i < SLICE; i++) {
+                OutboxMessage row = rows.get(i);
+                assertThat(row.id()).isNotNull();
+                assertThat(row.topic()).isEqualTo(topics[i]);
+                assertThat(row.payload()).isEqualTo(payloads[i]);
+                assertThat(row.messageKey()).isEqualTo(keys[i]);
+                assertThat(row.createdAt()).isEqualTo(createdAt[i]);
+                assertThat(row.processedAt()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("пустые массивы не добавляют строк")
+        void emptyArrays() {
+            // Act
+            int inserted = repo.insertAll(new String[0], new String[0], new Long[0], new LocalDateTime[0]);
+
+            // Assert
+            assertThat(inserted).isZero();
+            assertThat(repo.count()).isZero();
+        }
+    }
+}
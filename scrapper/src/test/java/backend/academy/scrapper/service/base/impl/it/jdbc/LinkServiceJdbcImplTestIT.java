@@ -15,7 +15,6 @@ import backend.academy.scrapper.repository.jdbc.link.LinkJdbcRepository;
 import backend.academy.scrapper.repository.jdbc.link.impl.GitHubLinkRepository;
 import backend.academy.scrapper.repository.jdbc.mapper.LinkRowMapper;
 import backend.academy.scrapper.service.base.impl.jdbc.LinkServiceJdbcImpl;
-import backend.academy.scrapper.service.base.impl.jdbc.enrich.LinkDetailsEnricher;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -41,6 +40,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Sql({
     "classpath:db/changelog/changeset/002-create-link-table.sql",
+    "classpath:db/changelog/changeset/009-add-link-next-check-columns.sql",
+    "classpath:db/changelog/changeset/014-add-link-priority.sql",
     "classpath:db/changelog/changeset/006-create-github_link-table.sql"
 })
 @Testcontainers
@@ -80,9 +81,6 @@ class LinkServiceJdbcImplTestIT {
     @MockitoBean
     private LinkUpdater linkUpdater;
 
-    @MockitoBean
-    private LinkDetailsEnricher enricher;
-
     @Test
     @DisplayName("новая GitHub‑ссылка → вставляется в link и github_link, возвращается корректный LinkResponse")
     void addNewGithubLink() {
@@ -11,6 +11,7 @@ import backend.academy.scrapper.model.app.update.impl.GitHubUpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.impl.GitHubLink;
 import backend.academy.scrapper.model.db.link.impl.StackOverflowLink;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.parser.CompositeLinkParser;
 import backend.academy.scrapper.repository.jpa.link.LinkJpaRepository;
 import backend.academy.scrapper.service.base.LinkService;
@@ -93,7 +94,7 @@ class LinkServiceJpaImplTestIT {
             int interval = 10, limit = 5;
 
             // Act
-            List<Link> batch = service.fetchBatchToUpdate(interval, limit);
+            List<Link> batch = service.fetchBatchToUpdate(new LinkClaimCriteria(interval, 3600, limit));
 
             // Assert
             assertThat(batch).isEmpty();
@@ -113,7 +114,7 @@ class LinkServiceJpaImplTestIT {
             repo.save(gh);
 
             // Act
-            List<Link> batch = service.fetchBatchToUpdate(60, 1);
+            List<Link> batch = service.fetchBatchToUpdate(new LinkClaimCriteria(60, 3600, 1));
 
             // Assert
             assertThat(batch).hasSize(1);
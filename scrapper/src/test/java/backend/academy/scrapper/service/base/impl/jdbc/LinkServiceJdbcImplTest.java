@@ -15,10 +15,10 @@ import backend.academy.scrapper.converter.base.impl.LinkConverter;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.parser.CompositeLinkParser;
 import backend.academy.scrapper.repository.jdbc.link.LinkJdbcRepository;
 import backend.academy.scrapper.repository.jdbc.link.impl.LinkImplRepository;
-import backend.academy.scrapper.service.base.impl.jdbc.enrich.LinkDetailsEnricher;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -46,9 +46,6 @@ class LinkServiceJdbcImplTest {
     @Mock
     private CompositeLinkParser parser;
 
-    @Mock
-    private LinkDetailsEnricher linkDetailsEnricher;
-
     @Spy
     private LinkConverter linkConverter;
 
@@ -68,35 +65,31 @@ class LinkServiceJdbcImplTest {
         @Test
         @DisplayName("возвращает пустой список, если нет ссылок для обновления")
         void handlesEmpty() {
-            int interval = 60, limit = 5;
+            LinkClaimCriteria criteria = new LinkClaimCriteria(60, 3600, 5);
             List<Link> empty = Collections.emptyList();
 
-            when(linkJdbcRepository.fetchLinksToUpdate(interval, limit)).thenReturn(empty);
-            when(linkDetailsEnricher.enrich(empty)).thenReturn(empty);
+            when(linkJdbcRepository.fetchLinksToUpdate(criteria)).thenReturn(empty);
 
-            List<Link> result = service.fetchBatchToUpdate(interval, limit);
+            List<Link> result = service.fetchBatchToUpdate(criteria);
 
             assertThat(result).isEmpty();
-            verify(linkJdbcRepository).fetchLinksToUpdate(interval, limit);
-            verify(linkDetailsEnricher).enrich(empty);
+            verify(linkJdbcRepository).fetchLinksToUpdate(criteria);
         }
 
         @Test
-        @DisplayName("успешно получает, обогащает и возвращает список ссылок")
+        @DisplayName("возвращает ссылки, уже обогащённые запросом захвата")
         void happyPath() {
-            int interval = 30, limit = 10;
+            LinkClaimCriteria criteria = new LinkClaimCriteria(30, 3600, 10);
             Link l1 = new TestLink("u1");
             Link l2 = new TestLink("u2");
             List<Link> raw = List.of(l1, l2);
 
-            when(linkJdbcRepository.fetchLinksToUpdate(interval, limit)).thenReturn(raw);
-            when(linkDetailsEnricher.enrich(raw)).thenReturn(raw);
+            when(linkJdbcRepository.fetchLinksToUpdate(criteria)).thenReturn(raw);
 
-            List<Link> result = service.fetchBatchToUpdate(interval, limit);
+            List<Link> result = service.fetchBatchToUpdate(criteria);
 
             assertThat(result).containsExactlyElementsOf(raw);
-            verify(linkJdbcRepository).fetchLinksToUpdate(interval, limit);
-            verify(linkDetailsEnricher).enrich(raw);
+            verify(linkJdbcRepository).fetchLinksToUpdate(criteria);
         }
     }
 
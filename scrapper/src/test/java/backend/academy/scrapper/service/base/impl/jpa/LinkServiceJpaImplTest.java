@@ -2,9 +2,11 @@ package backend.academy.scrapper.service.base.impl.jpa;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import backend.academy.dto.AddLinkRequest;
@@ -14,6 +16,7 @@ import backend.academy.scrapper.converter.base.impl.LinkConverter;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
 import backend.academy.scrapper.parser.CompositeLinkParser;
 import backend.academy.scrapper.repository.jpa.link.LinkJpaRepository;
 import java.time.LocalDateTime;
@@ -57,40 +60,39 @@ class LinkServiceJpaImplTest {
         void handlesEmpty() {
             // Arrange
             int interval = 60, limit = 5;
-            when(linkJpaRepository.fetchIdsToUpdate(interval, limit)).thenReturn(Collections.emptyList());
+            when(linkJpaRepository.fetchIdsToUpdate(interval, limit, 0)).thenReturn(Collections.emptyList());
 
             // Act
-            List<Link> result = service.fetchBatchToUpdate(interval, limit);
+            List<Link> result = service.fetchBatchToUpdate(new LinkClaimCriteria(interval, 3600, limit));
 
             // Assert
             assertThat(result).isEmpty();
-            verify(linkJpaRepository).fetchIdsToUpdate(interval, limit);
+            verify(linkJpaRepository).fetchIdsToUpdate(interval, limit, 0);
+            verify(linkJpaRepository, never()).scheduleNextCheck(any(), anyInt(), anyInt());
             verify(linkJpaRepository, never()).findAllById(any());
-            verify(linkJpaRepository, never()).saveAll(any());
         }
 
         @Test
-        @DisplayName("успешно получает, обновляет и сохраняет ссылки")
+        @DisplayName("успешно получает ссылки и назначает им следующий срок проверки")
         void happyPath() {
             // Arrange
             int interval = 60, limit = 5;
             List<Long> ids = List.of(1L, 2L);
-            when(linkJpaRepository.fetchIdsToUpdate(interval, limit)).thenReturn(ids);
+            when(linkJpaRepository.fetchIdsToUpdate(interval, limit, 0)).thenReturn(ids);
 
             Link link1 = new TestLink("url1");
             Link link2 = new TestLink("url2");
             List<Link> links = List.of(link1, link2);
             when(linkJpaRepository.findAllById(ids)).thenReturn(links);
-            when(linkJpaRepository.saveAll(links)).thenReturn(links);
 
             // Act
-            List<Link> result = service.fetchBatchToUpdate(interval, limit);
+            List<Link> result = service.fetchBatchToUpdate(new LinkClaimCriteria(interval, 3600, limit));
 
             // Assert
             assertThat(result).containsExactlyElementsOf(links);
-            verify(linkJpaRepository).fetchIdsToUpdate(interval, limit);
+            verify(linkJpaRepository).fetchIdsToUpdate(interval, limit, 0);
+            verify(linkJpaRepository).scheduleNextCheck(ids, interval, 3600);
             verify(linkJpaRepository).findAllById(ids);
-            verify(linkJpaRepository).saveAll(links);
         }
     }
 
@@ -148,6 +150,38 @@ class LinkServiceJpaImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateLastModifiedAll()")
+    class UpdateLastModifiedAll {
+
+        @Test
+        @DisplayName("записывает срез одним запросом без save по каждой ссылке")
+        void singleStatement() {
+            // Arrange
+            LocalDateTime t1 = LocalDateTime.of(2025, 1, 1, 0, 0);
+            LocalDateTime t2 = LocalDateTime.of(2025, 1, 2, 0, 0);
+            Link l1 = new TestLink("http://a").id(1L).lastModified(t1);
+            Link l2 = new TestLink("http://b").id(2L).lastModified(t2);
+
+            // Act
+            service.updateLastModifiedAll(List.of(l1, l2));
+
+            // Assert
+            verify(linkJpaRepository).updateLastModifiedAll(new Long[] {1L, 2L}, new LocalDateTime[] {t1, t2});
+            verify(linkJpaRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("пустой срез не обращается к базе")
+        void emptySlice() {
+            // Act
+            service.updateLastModifiedAll(List.of());
+
+            // Assert
+            verifyNoInteractions(linkJpaRepository);
+        }
+    }
+
     @Nested
     @DisplayName("addLink()")
     class AddLinkTests {
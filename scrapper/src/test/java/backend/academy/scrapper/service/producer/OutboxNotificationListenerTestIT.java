@@ -0,0 +1,97 @@
+package backend.academy.scrapper.service.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.support.ScrapperConfigFixture;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@DisplayName("OutboxNotificationListener — пробуждение публикатора по NOTIFY")
+class OutboxNotificationListenerTestIT {
+
+    @SuppressWarnings("resource")
+    @SuppressFBWarnings(
+            value = "RV_RESOURCE_LEAK",
+            justification = "PostgreSQLContainer lifecycle managed by Testcontainers JUnit extension")
+    @Container
+    static final PostgreSQLContainer<?> PG = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    private final Semaphore drains = new Semaphore(0);
+    private OutboxNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProducerService producer = mock(OutboxProducerService.class);
+        doAnswer(invocation -> {
+                    drains.release();
+                    return null;
+                })
+                .when(producer)
+                .publishUnprocessed();
+        ScrapperConfig cfg = mock(ScrapperConfig.class);
+        when(cfg.kafka()).thenReturn(ScrapperConfigFixture.kafka("poll-interval-ms=5000"));
+        JdbcConnectionDetails details = new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return PG.getUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return PG.getPassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return PG.getJdbcUrl();
+            }
+        };
+        listener = new OutboxNotificationListener(details, producer, cfg);
+        listener.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.shutdown();
+    }
+
+    @Test
+    @DisplayName("выгружает Outbox при подключении и сразу после NOTIFY, не дожидаясь интервала опроса")
+    void wakesUpOnNotify() throws Exception {
+        // Arrange: первая выгрузка — при подключении слушателя
+        assertThat(drains.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+
+        try (Connection connection = DriverManager.getConnection(PG.getJdbcUrl(), PG.getUsername(), PG.getPassword());
+                Statement statement = connection.createStatement()) {
+            // Act
+            long start = System.nanoTime();
+            statement.execute("NOTIFY " + OutboxNotificationListener.CHANNEL);
+            boolean woken = drains.tryAcquire(2, TimeUnit.SECONDS);
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Assert: реакция заметно быстрее интервала опроса в 5 секунд
+            assertThat(woken).isTrue();
+            assertThat(latencyMs).isLessThan(1000);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package backend.academy.scrapper.service.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import backend.academy.dto.LinkUpdate;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.db.outbox.OutboxMessage;
+import backend.academy.scrapper.service.base.OutboxService;
+import backend.academy.scrapper.service.serialization.JsonSerializationService;
+import backend.academy.scrapper.support.ScrapperConfigFixture;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxProducerService — пакетная публикация с подтверждением")
+class OutboxProducerServiceBatchTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private KafkaTemplate<Long, byte[]> kafka;
+
+    @Mock
+    private JsonSerializationService jsonSer;
+
+    private ScrapperConfig.Update update;
+
+    private OutboxProducerService producerService;
+
+    @BeforeEach
+    void setUp() {
+        ScrapperConfig cfg = mock(ScrapperConfig.class);
+        update = mock(ScrapperConfig.Update.class);
+        when(cfg.update()).thenReturn(update);
+        lenient().when(cfg.kafka()).thenReturn(ScrapperConfigFixture.kafka());
+        producerService = new OutboxProducerService(outboxService, kafka, cfg, jsonSer);
+    }
+
+    private static OutboxMessage message(long id) {
+        OutboxMessage msg = new OutboxMessage("topic", "payload" + id, id);
+        msg.id(id);
+        return msg;
+    }
+
+    @Nested
+    @DisplayName("Когда брокер подтвердил часть пакета")
+    class PartialAcknowledgement {
+
+        @Test
+        @DisplayName("помечает обработанными только подтверждённые сообщения одним вызовом")
+        @SuppressWarnings("unchecked")
+        void shouldMarkOnlyAcknowledgedAtOnce() throws IOException {
+            // Arrange
+            when(outboxService.claimUnprocessed(anyString(), anyInt(), anyLong()))
+                    .thenReturn(List.of(message(1), message(2), message(3)));
+            when(kafka.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                    .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+            // Act
+            producerService.publishUnprocessed();
+
+            // Assert
+            verify(kafka).flush();
+            verify(outboxService).markProcessed(List.of(1L, 3L));
+            verify(outboxService, never()).markProcessed(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("Формирование записи Kafka")
+    class RecordShape {
+
+        @Test
+        @DisplayName("передаёт payload байтами без разбора, ключ из message_key и тип в заголовке")
+        @SuppressWarnings("unchecked")
+        void shouldForwardPayloadBytes() throws IOException {
+            // Arrange
+            when(outboxService.claimUnprocessed(anyString(), anyInt(), anyLong()))
+                    .thenReturn(List.of(message(7)));
+            when(kafka.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+            ArgumentCaptor<ProducerRecord<Long, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+
+            // Act
+            producerService.publishUnprocessed();
+
+            // Assert
+            verify(kafka).send(captor.capture());
+            ProducerRecord<Long, byte[]> record = captor.getValue();
+            assertThat(record.key()).isEqualTo(7L);
+            assertThat(new String(record.value(), StandardCharsets.UTF_8)).isEqualTo("payload7");
+            assertThat(new String(
+                            record.headers()
+                                    .lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME)
+                                    .value(),
+                            StandardCharsets.UTF_8))
+                    .isEqualTo(LinkUpdate.class.getName());
+            verify(jsonSer, never()).fromJson(anyString(), eq(LinkUpdate.class));
+        }
+
+        @Test
+        @DisplayName("для записи без message_key берёт ключ из payload")
+        @SuppressWarnings("unchecked")
+        void shouldParseKeyForLegacyRows() throws IOException {
+            // Arrange
+            OutboxMessage legacy = new OutboxMessage("topic", "legacy");
+            legacy.id(1L);
+            when(outboxService.claimUnprocessed(anyString(), anyInt(), anyLong()))
+                    .thenReturn(List.of(legacy));
+            when(jsonSer.fromJson("legacy", LinkUpdate.class))
+                    .thenReturn(new LinkUpdate(55L, "url", "desc", List.of()));
+            when(kafka.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+            ArgumentCaptor<ProducerRecord<Long, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+
+            // Act
+            producerService.publishUnprocessed();
+
+            // Assert
+            verify(kafka).send(captor.capture());
+            assertThat(captor.getValue().key()).isEqualTo(55L);
+            verify(outboxService).markProcessed(List.of(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда в Outbox больше одного пакета")
+    class Backlog {
+
+        @Test
+        @DisplayName("забирает пакеты подряд, пока очередной не окажется неполным")
+        @SuppressWarnings("unchecked")
+        void shouldDrainUntilShortBatch() {
+            // Arrange
+            when(update.batchLimit()).thenReturn(2);
+            when(outboxService.claimUnprocessed(anyString(), eq(2), anyLong()))
+                    .thenReturn(List.of(message(1), message(2)))
+                    .thenReturn(List.of(message(3)));
+            when(kafka.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+            // Act
+            producerService.publishUnprocessed();
+
+            // Assert
+            verify(outboxService, times(2)).claimUnprocessed(anyString(), eq(2), anyLong());
+            verify(outboxService).markProcessed(List.of(1L, 2L));
+            verify(outboxService).markProcessed(List.of(3L));
+        }
+
+        @Test
+        @DisplayName("останавливается, если брокер подтвердил не весь полный пакет")
+        @SuppressWarnings("unchecked")
+        void shouldStopOnFailedSend() {
+            // Arrange
+            when(update.batchLimit()).thenReturn(2);
+            when(outboxService.claimUnprocessed(anyString(), eq(2), anyLong()))
+                    .thenReturn(List.of(message(1), message(2)));
+            when(kafka.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+            // Act
+            producerService.publishUnprocessed();
+
+            // Assert
+            verify(outboxService, times(1)).claimUnprocessed(anyString(), eq(2), anyLong());
+            verify(outboxService).markProcessed(List.of(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда Outbox пуст")
+    class EmptyOutbox {
+
+        @Test
+        @DisplayName("ничего не отправляет и не обновляет")
+        void shouldDoNothing() {
+            // Arrange
+            when(outboxService.claimUnprocessed(anyString(), anyInt(), anyLong()))
+                    .thenReturn(List.of());
+
+            // Act
+            producerService.publishUnprocessed();
+
+            // Assert
+            verify(kafka, never()).send(any(ProducerRecord.class));
+            verify(outboxService, never()).markProcessed(any(List.class));
+        }
+    }
+}
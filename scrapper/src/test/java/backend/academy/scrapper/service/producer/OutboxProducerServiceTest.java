@@ -5,6 +5,8 @@ import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CL
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -12,12 +14,10 @@ import static org.mockito.Mockito.when;
 
 import backend.academy.dto.LinkUpdate;
 import backend.academy.scrapper.config.ScrapperConfig;
-import backend.academy.scrapper.config.ScrapperConfig.Kafka;
-import backend.academy.scrapper.config.ScrapperConfig.Update.DispatcherType;
-import backend.academy.scrapper.config.ScrapperConfig.Update.ProcessorType;
 import backend.academy.scrapper.model.db.outbox.OutboxMessage;
 import backend.academy.scrapper.service.base.OutboxService;
 import backend.academy.scrapper.service.serialization.JsonSerializationService;
+import backend.academy.scrapper.support.ScrapperConfigFixture;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.LongDeserializer;
 import org.apache.kafka.common.serialization.LongSerializer;
 import org.junit.jupiter.api.DisplayName;
@@ -36,7 +37,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.kafka.test.utils.KafkaTestUtils;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -65,13 +65,8 @@ public class OutboxProducerServiceTest {
     static class TestConfig {
         @Bean
         public ScrapperConfig scrapperConfig() {
-            return new ScrapperConfig(
-                    "token",
-                    new ScrapperConfig.StackOverflowCredentials("key", "token"),
-                    "botApiUrl",
-                    new ScrapperConfig.Timeout(1000, 1000),
-                    new ScrapperConfig.Update(1000, ProcessorType.SEQUENTIAL, DispatcherType.KAFKA, 1, 1, 10),
-                    new Kafka((int) Duration.ofSeconds(1).toMillis(), "test-topic", 1, (short) 1));
+            return ScrapperConfigFixture.config(
+                    "update.interval-seconds=1", "update.batch-limit=10", "kafka.name=test-topic");
         }
 
         @Bean
@@ -85,16 +80,16 @@ public class OutboxProducerServiceTest {
         }
 
         @Bean
-        public DefaultKafkaProducerFactory<Long, LinkUpdate> producerFactory() {
+        public DefaultKafkaProducerFactory<Long, byte[]> producerFactory() {
             Map<String, Object> props = new HashMap<>();
             props.put(BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
             props.put(KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class);
-            props.put(VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+            props.put(VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
             return new org.springframework.kafka.core.DefaultKafkaProducerFactory<>(props);
         }
 
         @Bean
-        public KafkaTemplate<Long, LinkUpdate> kafkaTemplate(DefaultKafkaProducerFactory<Long, LinkUpdate> pf) {
+        public KafkaTemplate<Long, byte[]> kafkaTemplate(DefaultKafkaProducerFactory<Long, byte[]> pf) {
             return new KafkaTemplate<>(pf);
         }
     }
@@ -105,9 +100,6 @@ public class OutboxProducerServiceTest {
     @Autowired
     private OutboxService outboxService;
 
-    @Autowired
-    private JsonSerializationService jsonSer;
-
     @Test
     @DisplayName("должно публиковать непроцессированные сообщения и помечать их обработанными")
     public void testPublishUnprocessed() throws Exception {
@@ -118,10 +110,10 @@ public class OutboxProducerServiceTest {
         msg.id(messageId);
         msg.topic("test-topic");
         msg.payload(payload);
+        msg.messageKey(123L);
 
         LinkUpdate linkUpdate = new LinkUpdate(123L, "http://example.com", "desc", List.of(1L));
-        when(outboxService.findUnprocessed(anyInt())).thenReturn(List.of(msg));
-        when(jsonSer.fromJson(payload, LinkUpdate.class)).thenReturn(linkUpdate);
+        when(outboxService.claimUnprocessed(anyString(), anyInt(), anyLong())).thenReturn(List.of(msg));
 
         Map<String, Object> consumerProps = new HashMap<>();
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
@@ -144,10 +136,11 @@ public class OutboxProducerServiceTest {
             // Assert: одно сообщение с ожидаемым payload
             assertEquals(1, records.count());
             var record = records.iterator().next();
-            assertEquals(linkUpdate.id(), record.value().id());
+            assertEquals(linkUpdate.id(), record.key());
+            assertEquals(linkUpdate, record.value());
         }
 
         // проверка побочного эффекта: пометить сообщение как обработанное
-        verify(outboxService, times(1)).markProcessed(messageId);
+        verify(outboxService, times(1)).markProcessed(List.of(messageId));
     }
 }
@@ -0,0 +1,91 @@
+package backend.academy.scrapper.service.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.repository.jdbc.OutboxPartitionJdbcRepository;
+import backend.academy.scrapper.support.ScrapperConfigFixture;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRetentionService — обслуживание партиций outbox")
+class OutboxRetentionServiceTest {
+
+    private static final int RETENTION_DAYS = 7;
+
+    @Mock
+    OutboxPartitionJdbcRepository partitionRepository;
+
+    OutboxRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        ScrapperConfig cfg = mock(ScrapperConfig.class);
+        when(cfg.kafka())
+                .thenReturn(ScrapperConfigFixture.kafka(
+                        "retention-days=" + RETENTION_DAYS, "retention-check-interval-ms=1000"));
+        service = new OutboxRetentionService(partitionRepository, cfg);
+    }
+
+    @Nested
+    @DisplayName("maintainPartitions()")
+    class MaintainPartitions {
+
+        @Test
+        @DisplayName("Создаёт партиции вперёд и удаляет только просроченные")
+        void precreatesAndDropsExpired() {
+            // Arrange
+            LocalDate today = LocalDate.of(2025, 3, 15);
+            when(partitionRepository.currentDate()).thenReturn(today);
+            LocalDate expired = today.minusDays(RETENTION_DAYS + 1);
+            LocalDate pending = today.minusDays(RETENTION_DAYS + 2);
+            LocalDate fresh = today.minusDays(RETENTION_DAYS);
+            when(partitionRepository.findDailyPartitions()).thenReturn(List.of(pending, expired, fresh));
+            when(partitionRepository.dropIfProcessed(pending)).thenReturn(false);
+            when(partitionRepository.dropIfProcessed(expired)).thenReturn(true);
+
+            // Act
+            service.maintainPartitions();
+
+            // Assert
+            for (int i = 0; i <= OutboxRetentionService.PRECREATE_DAYS; i++) {
+                verify(partitionRepository).createDailyPartition(today.plusDays(i));
+            }
+            verify(partitionRepository, times(2)).dropIfProcessed(any());
+            verify(partitionRepository, never()).dropIfProcessed(fresh);
+            verify(partitionRepository)
+                    .deleteProcessedFromDefault(
+                            eq(today.minusDays(RETENTION_DAYS).atStartOfDay()));
+        }
+
+        @Test
+        @DisplayName("Без партиций чистит только default")
+        void noPartitions() {
+            // Arrange
+            when(partitionRepository.currentDate()).thenReturn(LocalDate.of(2025, 3, 15));
+            when(partitionRepository.findDailyPartitions()).thenReturn(List.of());
+
+            // Act
+            service.maintainPartitions();
+
+            // Assert
+            verify(partitionRepository, never()).dropIfProcessed(any());
+            verify(partitionRepository).deleteProcessedFromDefault(any(LocalDateTime.class));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package backend.academy.scrapper.service.scheduler.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.support.SimpleDetail;
+import backend.academy.scrapper.support.TestLink;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DispatchBuffer — запись найденных обновлений срезами")
+class DispatchBufferTest {
+
+    @Mock
+    private LinkDispatchHandler linkDispatchHandler;
+
+    private static final UpdateDetail DETAIL = new SimpleDetail(LocalDateTime.now(ZoneId.systemDefault()), "desc");
+
+    @Nested
+    @DisplayName("add() и drain()")
+    class Accumulation {
+
+        @Test
+        @DisplayName("возвращает срез, когда накоплено dispatch-batch-size обновлений")
+        void shouldReturnFullSlice() {
+            // Arrange
+            DispatchBuffer buffer = new DispatchBuffer(linkDispatchHandler, 2);
+
+            // Act
+            Optional<List<DetectedUpdate>> first = buffer.add(new TestLink(1), DETAIL);
+            Optional<List<DetectedUpdate>> second = buffer.add(new TestLink(2), DETAIL);
+            Optional<List<DetectedUpdate>> third = buffer.add(new TestLink(3), DETAIL);
+
+            // Assert
+            assertThat(first).isEmpty();
+            assertThat(second).get().asList().hasSize(2);
+            assertThat(third).isEmpty();
+            assertThat(buffer.drain()).extracting(update -> update.link().id()).containsExactly(3L);
+            assertThat(buffer.drain()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("flush()")
+    class Flush {
+
+        @Test
+        @DisplayName("записывает срез одним вызовом dispatchAll")
+        void shouldDispatchSliceAtOnce() {
+            // Arrange
+            DispatchBuffer buffer = new DispatchBuffer(linkDispatchHandler, 10);
+            List<DetectedUpdate> slice =
+                    List.of(new DetectedUpdate(new TestLink(1), DETAIL), new DetectedUpdate(new TestLink(2), DETAIL));
+
+            // Act
+            buffer.flush(slice);
+
+            // Assert
+            verify(linkDispatchHandler).dispatchAll(slice);
+            verify(linkDispatchHandler, never()).dispatch(any(), any());
+        }
+
+        @Test
+        @DisplayName("при ошибке среза записывает обновления по одному")
+        void shouldFallBackToPerLinkDispatch() {
+            // Arrange
+            DispatchBuffer buffer = new DispatchBuffer(linkDispatchHandler, 10);
+            Link failing = new TestLink(1);
+            Link ok = new TestLink(2);
+            doThrow(new IllegalStateException("batch"))
+                    .when(linkDispatchHandler)
+                    .dispatchAll(anyList());
+            doThrow(new IllegalStateException("link")).when(linkDispatchHandler).dispatch(failing, DETAIL);
+
+            // Act
+            buffer.flush(List.of(new DetectedUpdate(failing, DETAIL), new DetectedUpdate(ok, DETAIL)));
+
+            // Assert
+            verify(linkDispatchHandler, times(2)).dispatch(any(), any());
+            verify(linkDispatchHandler).dispatch(ok, DETAIL);
+        }
+
+        @Test
+        @DisplayName("пустой срез не записывает")
+        void shouldSkipEmptySlice() {
+            // Arrange
+            DispatchBuffer buffer = new DispatchBuffer(linkDispatchHandler, 10);
+
+            // Act
+            buffer.flush(List.of());
+
+            // Assert
+            verify(linkDispatchHandler, never()).dispatchAll(anyList());
+        }
+    }
+}
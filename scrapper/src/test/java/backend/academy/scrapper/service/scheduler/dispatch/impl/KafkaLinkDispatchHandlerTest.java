@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import backend.academy.dto.LinkUpdate;
 import backend.academy.scrapper.checkupdate.main.LinkUpdater;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
 import backend.academy.scrapper.model.app.update.UpdateDetail;
 import backend.academy.scrapper.model.db.link.Link;
 import backend.academy.scrapper.model.db.link.LinkType;
@@ -12,10 +13,14 @@ import backend.academy.scrapper.model.db.outbox.OutboxMessage;
 import backend.academy.scrapper.service.base.ChatLinkService;
 import backend.academy.scrapper.service.base.LinkService;
 import backend.academy.scrapper.service.base.OutboxService;
+import backend.academy.scrapper.service.scheduler.dispatch.DetectedUpdate;
 import backend.academy.scrapper.service.serialization.JsonSerializationService;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +54,9 @@ class KafkaLinkDispatchHandlerTest {
     @Captor
     private ArgumentCaptor<OutboxMessage> outboxCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<OutboxMessage>> outboxListCaptor;
+
     private KafkaLinkDispatchHandler handler;
 
     @BeforeEach
@@ -147,4 +155,67 @@ class KafkaLinkDispatchHandlerTest {
         verifyNoInteractions(outboxService);
         verifyNoInteractions(linkService);
     }
+
+    @Test
+    @DisplayName("dispatchAll — один запрос на обновление ссылок и один на подписчиков для всего среза")
+    void shouldDispatchSliceWithBatchQueries() throws JsonProcessingException {
+        // Arrange
+        TestLink first = new TestLink("a");
+        first.id(1L);
+        TestLink second = new TestLink("b");
+        second.id(2L);
+        LocalDateTime now = LocalDateTime.now(ZoneId.systemDefault());
+        when(chatLinkService.getChatIdsByLinkIds(List.of(1L, 2L))).thenReturn(Map.of(1L, List.of(10L)));
+        when(jsonSer.toJson(new LinkUpdate(1L, "a", "first", List.of(10L)))).thenReturn("json1");
+        when(jsonSer.toJson(new LinkUpdate(2L, "b", "second", List.of()))).thenReturn("json2");
+
+        // Act
+        handler.dispatchAll(List.of(
+                new DetectedUpdate(first, new SimpleDetail(now, "first")),
+                new DetectedUpdate(second, new SimpleDetail(now.minusHours(1), "second"))));
+
+        // Assert
+        verify(linkService).updateLastModifiedAll(List.of(first, second));
+        verify(linkService, never()).updateLastModified(any());
+        verify(chatLinkService, never()).getChatIdsByLinkId(any());
+        verify(outboxService, never()).save(any());
+        verify(outboxService).saveAll(outboxListCaptor.capture());
+        assertEquals(
+                List.of("json1", "json2"),
+                outboxListCaptor.getValue().stream().map(OutboxMessage::payload).toList());
+        assertEquals(now, first.lastModified());
+        assertEquals(now.minusHours(1), second.lastModified());
+    }
+
+    @Test
+    @DisplayName("отложенная проверка — fetchUpdate пробрасывает исключение и не обращается к базе")
+    void fetchUpdateShouldRethrowDeferral() {
+        // Arrange
+        TestLink link = new TestLink("url4");
+        link.id(4L);
+        Instant resumeAt = Instant.parse("2030-01-01T00:00:00Z");
+        when(linkUpdater.fetchLastUpdate(link)).thenThrow(new CheckDeferredException("api.github.com", resumeAt));
+
+        // Act & Assert
+        CheckDeferredException e = assertThrows(CheckDeferredException.class, () -> handler.fetchUpdate(link));
+        assertEquals(resumeAt, e.resumeAt());
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @DisplayName("отложенная проверка — handleOne возвращает ссылку в очередь")
+    void handleOneShouldDeferCheck() {
+        // Arrange
+        TestLink link = new TestLink("url5");
+        link.id(5L);
+        Instant resumeAt = Instant.parse("2030-01-01T00:00:00Z");
+        when(linkUpdater.fetchLastUpdate(link)).thenThrow(new CheckDeferredException("api.github.com", resumeAt));
+
+        // Act
+        handler.handleOne(link);
+
+        // Assert
+        verify(linkService).deferCheck(link, resumeAt);
+        verify(outboxService, never()).save(any());
+    }
 }
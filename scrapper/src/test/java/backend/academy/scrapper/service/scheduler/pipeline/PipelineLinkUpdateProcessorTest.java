@@ -0,0 +1,187 @@
+package backend.academy.scrapper.service.scheduler.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import backend.academy.scrapper.support.ScrapperConfigFixture;
+import backend.academy.scrapper.support.SimpleDetail;
+import backend.academy.scrapper.support.TestLink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PipelineLinkUpdateProcessor — конвейер с ограниченными очередями")
+class PipelineLinkUpdateProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PipelineLinkUpdateProcessor processor;
+
+    /** Обработчик, у которого обновление есть только у чётных ссылок, а запись в базу можно придержать. */
+    static class GatedHandler implements LinkDispatchHandler {
+        final AtomicInteger fetched = new AtomicInteger();
+        final AtomicInteger dispatched = new AtomicInteger();
+        final CountDownLatch dbGate;
+
+        GatedHandler(CountDownLatch dbGate) {
+            this.dbGate = dbGate;
+        }
+
+        @Override
+        public void handleOne(Link link) {
+            fetchUpdate(link).ifPresent(detail -> dispatch(link, detail));
+        }
+
+        @Override
+        public Optional<UpdateDetail> fetchUpdate(Link link) {
+            fetched.incrementAndGet();
+            return link.id() % 2 == 0
+                    ? Optional.of(new SimpleDetail(LocalDateTime.now(ZoneId.systemDefault()), "update"))
+                    : Optional.empty();
+        }
+
+        @Override
+        public void dispatch(Link link, UpdateDetail detail) {
+            try {
+                dbGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dispatched.incrementAndGet();
+        }
+
+        @Override
+        public void deferCheck(Link link, Instant resumeAt) {}
+    }
+
+    private static ScrapperConfig.Update config(int maxInFlight, int maxDb, int capacity) {
+        return ScrapperConfigFixture.update(
+                "processor-type=PIPELINE",
+                "max-in-flight-requests=" + maxInFlight,
+                "max-db-connections=" + maxDb,
+                "pipeline-queue-capacity=" + capacity);
+    }
+
+    private static List<Link> links(int count) {
+        return LongStream.rangeClosed(1, count).<Link>mapToObj(TestLink::new).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда стадии успевают")
+    class Throughput {
+
+        @Test
+        @DisplayName("проверяет все ссылки и сохраняет только обновлённые срезами")
+        void shouldProcessWholeBatch() {
+            // Arrange
+            GatedHandler handler = new GatedHandler(new CountDownLatch(0));
+            processor = new PipelineLinkUpdateProcessor(handler, config(8, 2, 16), meterRegistry);
+
+            // Act
+            processor.process(links(100));
+
+            // Assert
+            assertThat(handler.fetched).hasValue(100);
+            assertThat(handler.dispatched).hasValue(50);
+            assertThat(meterRegistry
+                            .get("scrapper.pipeline.stage")
+                            .tag("stage", "persist")
+                            .timer()
+                            .count())
+                    .isBetween(1L, 50L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда проверки отложены")
+    class Deferral {
+
+        @Test
+        @DisplayName("возвращает ссылки в очередь на стадии persist, а не fetch")
+        void shouldDeferOnPersistStage() {
+            // Arrange
+            Set<String> deferThreads = ConcurrentHashMap.newKeySet();
+            GatedHandler handler = new GatedHandler(new CountDownLatch(0)) {
+                @Override
+                public Optional<UpdateDetail> fetchUpdate(Link link) {
+                    fetched.incrementAndGet();
+                    throw new CheckDeferredException("api.github.com", Instant.EPOCH);
+                }
+
+                @Override
+                public void deferCheck(Link link, Instant resumeAt) {
+                    deferThreads.add(Thread.currentThread().getName());
+                }
+            };
+            processor = new PipelineLinkUpdateProcessor(handler, config(8, 2, 16), meterRegistry);
+
+            // Act
+            processor.process(links(20));
+
+            // Assert
+            assertThat(handler.fetched).hasValue(20);
+            assertThat(deferThreads).isNotEmpty().allMatch(name -> name.startsWith("pipeline-persist-"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда запись в базу не успевает")
+    class Backpressure {
+
+        @Test
+        @DisplayName("останавливает запросы к API, пока не освободится очередь записи")
+        void shouldStopFetchingWhenPersistIsFull() throws Exception {
+            // Arrange
+            CountDownLatch dbGate = new CountDownLatch(1);
+            GatedHandler handler = new GatedHandler(dbGate);
+            processor = new PipelineLinkUpdateProcessor(handler, config(2, 1, 2), meterRegistry);
+            Thread scheduler = Thread.ofVirtual().start(() -> processor.process(links(100)));
+
+            // Act
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> meterRegistry
+                                    .get("scrapper.pipeline.queue.size")
+                                    .tag("stage", "persist")
+                                    .gauge()
+                                    .value()
+                            == 2);
+            TimeUnit.MILLISECONDS.sleep(200);
+            int fetchedWhileBlocked = handler.fetched.get();
+            dbGate.countDown();
+            scheduler.join(Duration.ofSeconds(5));
+
+            // Assert
+            // 1 запись в работе + 2 в очереди persist + по одной обновлённой ссылке у каждого из 2 потоков fetch,
+            // между ними не больше одной ссылки без обновления на поток и 2 в очереди fetch
+            assertThat(fetchedWhileBlocked).isLessThan(20);
+            assertThat(scheduler.isAlive()).isFalse();
+            assertThat(handler.fetched).hasValue(100);
+            assertThat(handler.dispatched).hasValue(50);
+        }
+    }
+}
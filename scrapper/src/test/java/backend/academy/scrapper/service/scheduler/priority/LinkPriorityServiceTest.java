@@ -0,0 +1,85 @@
+package backend.academy.scrapper.service.scheduler.priority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.repository.jdbc.link.LinkJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LinkPriorityService — приоритеты и отставание проверок")
+class LinkPriorityServiceTest {
+
+    @Mock
+    LinkJdbcRepository linkRepository;
+
+    SimpleMeterRegistry registry;
+    LinkPriorityService service;
+
+    @BeforeEach
+    void setUp() {
+        ScrapperConfig cfg = mock(ScrapperConfig.class);
+        ScrapperConfig.Update update = mock(ScrapperConfig.Update.class);
+        when(cfg.update()).thenReturn(update);
+        when(update.intervalSeconds()).thenReturn(60);
+        registry = new SimpleMeterRegistry();
+        service = new LinkPriorityService(linkRepository, cfg, registry);
+    }
+
+    private double lagGauge(int priority) {
+        return registry.get("scrapper.link.check.lag")
+                .tag("priority", String.valueOf(priority))
+                .gauge()
+                .value();
+    }
+
+    @Nested
+    @DisplayName("refresh()")
+    class Refresh {
+
+        @Test
+        @DisplayName("пересчитывает приоритеты и публикует отставание по каждому уровню")
+        void publishesLag() {
+            // Arrange
+            when(linkRepository.findLagByPriority(60)).thenReturn(Map.of(0, 900L, 3, 15L));
+
+            // Act
+            service.refresh();
+
+            // Assert
+            verify(linkRepository)
+                    .refreshPriorities(LinkPriorityService.ACTIVITY_WINDOW_SECONDS, LinkPriorityService.MAX_PRIORITY);
+            assertThat(lagGauge(0)).isEqualTo(900);
+            assertThat(lagGauge(3)).isEqualTo(15);
+            assertThat(lagGauge(1)).isZero();
+        }
+
+        @Test
+        @DisplayName("уровень без просроченных ссылок сбрасывает отставание в ноль")
+        void resetsCaughtUpTier() {
+            // Arrange
+            when(linkRepository.findLagByPriority(60))
+                    .thenReturn(Map.of(2, 120L))
+                    .thenReturn(Map.of());
+
+            // Act
+            service.refresh();
+            service.refresh();
+
+            // Assert
+            assertThat(service.lagSeconds(2)).isZero();
+            assertThat(lagGauge(2)).isZero();
+        }
+    }
+}
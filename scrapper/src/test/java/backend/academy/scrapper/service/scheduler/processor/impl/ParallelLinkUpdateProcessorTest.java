@@ -0,0 +1,137 @@
+package backend.academy.scrapper.service.scheduler.processor.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.config.ScrapperConfig.Update.ParallelMode;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ParallelLinkUpdateProcessor — статическое и динамическое распределение")
+class ParallelLinkUpdateProcessorTest {
+
+    private static final int THREADS = 4;
+    private static final long SLOW_MS = 100;
+
+    private ExecutorService executor;
+
+    static class TestLink extends Link {
+        private final LinkType type;
+
+        TestLink(long id, LinkType type) {
+            super("url" + id);
+            this.type = type;
+            id(id);
+        }
+
+        @Override
+        public LinkType getType() {
+            return type;
+        }
+    }
+
+    /** Обработчик, в котором GitHub-ссылки медленные, а StackOverflow — мгновенные. */
+    static class SkewedHandler implements LinkDispatchHandler {
+        final Set<Long> handled = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void handleOne(Link link) {
+            if (link.getType() == LinkType.GITHUB) {
+                try {
+                    Thread.sleep(SLOW_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            handled.add(link.id());
+        }
+
+        @Override
+        public Optional<UpdateDetail> fetchUpdate(Link link) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void dispatch(Link link, UpdateDetail detail) {}
+
+        @Override
+        public void deferCheck(Link link, Instant resumeAt) {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /** 4 медленные GitHub-ссылки в начале пачки и 12 быстрых StackOverflow-ссылок. */
+    private List<Link> skewedBatch() {
+        List<Link> links = new ArrayList<>();
+        for (long i = 1; i <= 4; i++) {
+            links.add(new TestLink(i, LinkType.GITHUB));
+        }
+        for (long i = 5; i <= 16; i++) {
+            links.add(new TestLink(i, LinkType.STACKOVERFLOW));
+        }
+        return links;
+    }
+
+    private long runAndMeasure(ParallelMode mode, SkewedHandler handler) {
+        ParallelLinkUpdateProcessor processor = new ParallelLinkUpdateProcessor(handler, executor, THREADS, mode);
+        long start = System.nanoTime();
+        processor.process(skewedBatch());
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    @Nested
+    @DisplayName("Когда медленные ссылки сосредоточены в одной части пачки")
+    class WhenSkewedBatch {
+
+        @Test
+        @DisplayName("STATIC ждёт самую тяжёлую часть целиком")
+        void staticModeIsBoundByWorstChunk() {
+            // Arrange
+            SkewedHandler handler = new SkewedHandler();
+
+            // Act
+            long elapsed = runAndMeasure(ParallelMode.STATIC, handler);
+
+            // Assert: все 4 медленные ссылки попали в одну часть и выполнялись последовательно
+            assertThat(handler.handled).hasSize(16);
+            assertThat(elapsed).isGreaterThanOrEqualTo(4 * SLOW_MS);
+        }
+
+        @Test
+        @DisplayName("DYNAMIC распределяет медленные ссылки между потоками")
+        void dynamicModeTracksTotalWork() {
+            // Arrange
+            SkewedHandler handler = new SkewedHandler();
+
+            // Act
+            long elapsed = runAndMeasure(ParallelMode.DYNAMIC, handler);
+
+            // Assert: суммарная работа 4 * SLOW_MS на 4 потока — около одного SLOW_MS
+            assertThat(handler.handled).hasSize(16);
+            assertThat(elapsed).isLessThan(3 * SLOW_MS);
+        }
+    }
+}
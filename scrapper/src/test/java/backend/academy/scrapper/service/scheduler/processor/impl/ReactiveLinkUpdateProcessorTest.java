@@ -0,0 +1,117 @@
+package backend.academy.scrapper.service.scheduler.processor.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.checkupdate.main.ReactiveLinkUpdater;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.service.scheduler.dispatch.DetectedUpdate;
+import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import backend.academy.scrapper.support.ScrapperConfigFixture;
+import backend.academy.scrapper.support.SimpleDetail;
+import backend.academy.scrapper.support.TestLink;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveLinkUpdateProcessor — неблокирующая обработка пачки")
+class ReactiveLinkUpdateProcessorTest {
+
+    @Mock
+    private ReactiveLinkUpdater reactiveLinkUpdater;
+
+    @Mock
+    private LinkDispatchHandler linkDispatchHandler;
+
+    private ReactiveLinkUpdateProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        ScrapperConfig.Update config = ScrapperConfigFixture.update(
+                "processor-type=REACTIVE", "max-in-flight-requests=100", "max-db-connections=2");
+        processor = new ReactiveLinkUpdateProcessor(reactiveLinkUpdater, linkDispatchHandler, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Link> dispatchedLinks() {
+        ArgumentCaptor<List<DetectedUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(linkDispatchHandler, atLeastOnce()).dispatchAll(captor.capture());
+        return captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(DetectedUpdate::link)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Когда внешний API отвечает медленно")
+    class WhenUpstreamIsSlow {
+
+        @Test
+        @DisplayName("держит запросы в полёте одновременно и записывает только новые обновления")
+        void shouldKeepRequestsInFlightConcurrently() {
+            // Arrange
+            LocalDateTime now = LocalDateTime.now(ZoneId.systemDefault());
+            List<Link> links = LongStream.rangeClosed(1, 100)
+                    .<Link>mapToObj(TestLink::new)
+                    .peek(link -> link.lastModified(now.minusDays(1)))
+                    .toList();
+            when(reactiveLinkUpdater.fetchLastUpdate(any())).thenAnswer(invocation -> {
+                Link link = invocation.getArgument(0);
+                LocalDateTime time = link.id() % 2 == 0 ? now : now.minusDays(2);
+                return Mono.delay(Duration.ofMillis(100)).thenReturn(new SimpleDetail(time, "desc"));
+            });
+
+            // Act
+            long start = System.nanoTime();
+            processor.process(links);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Assert: 100 запросов по 100 мс выполнены одной волной, а не последовательно
+            assertThat(elapsedMs).isLessThan(2000);
+            List<Link> dispatched = dispatchedLinks();
+            assertThat(dispatched).hasSize(50).doesNotContain(links.getFirst());
+            verify(linkDispatchHandler, never()).dispatch(any(), any());
+        }
+
+        @Test
+        @DisplayName("ошибка одной ссылки не прерывает пачку")
+        void shouldContinueOnError() {
+            // Arrange
+            Link failing = new TestLink(1);
+            Link ok = new TestLink(2);
+            when(reactiveLinkUpdater.fetchLastUpdate(failing)).thenReturn(Mono.error(new IllegalStateException()));
+            when(reactiveLinkUpdater.fetchLastUpdate(ok))
+                    .thenReturn(Mono.just(new SimpleDetail(LocalDateTime.now(ZoneId.systemDefault()), "desc")));
+
+            // Act
+            processor.process(List.of(failing, ok));
+
+            // Assert
+            assertThat(dispatchedLinks()).containsExactly(ok);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package backend.academy.scrapper.service.scheduler.processor.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.exception.model.CheckDeferredException;
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.service.scheduler.dispatch.LinkDispatchHandler;
+import backend.academy.scrapper.support.ScrapperConfigFixture;
+import backend.academy.scrapper.support.SimpleDetail;
+import backend.academy.scrapper.support.TestLink;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VirtualLinkUpdateProcessor — обработка на виртуальных потоках")
+class VirtualLinkUpdateProcessorTest {
+
+    private static final int MAX_IN_FLIGHT = 8;
+    private static final int MAX_DB = 2;
+
+    /** Обработчик, замеряющий максимальное число одновременных вызовов в каждой фазе. */
+    static class ConcurrencyTrackingHandler implements LinkDispatchHandler {
+        final AtomicInteger fetchActive = new AtomicInteger();
+        final AtomicInteger fetchMax = new AtomicInteger();
+        final AtomicInteger dbActive = new AtomicInteger();
+        final AtomicInteger dbMax = new AtomicInteger();
+        final AtomicInteger dispatched = new AtomicInteger();
+
+        @Override
+        public void handleOne(Link link) {
+            fetchUpdate(link).ifPresent(detail -> dispatch(link, detail));
+        }
+
+        @Override
+        public Optional<UpdateDetail> fetchUpdate(Link link) {
+            track(fetchActive, fetchMax, 20);
+            if (link.id() % 2 == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new SimpleDetail(LocalDateTime.now(ZoneId.systemDefault()), "desc"));
+        }
+
+        @Override
+        public void dispatch(Link link, UpdateDetail detail) {
+            track(dbActive, dbMax, 5);
+            if (link.id() == 1L) {
+                throw new IllegalStateException("db failure");
+            }
+            dispatched.incrementAndGet();
+        }
+
+        @Override
+        public void deferCheck(Link link, Instant resumeAt) {}
+
+        void track(AtomicInteger active, AtomicInteger max, long sleepMs) {
+            int now = active.incrementAndGet();
+            max.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    /** Обработчик, у которого внешний API откладывает проверку каждой ссылки. */
+    static class DeferringHandler extends ConcurrencyTrackingHandler {
+        final AtomicInteger deferred = new AtomicInteger();
+
+        @Override
+        public Optional<UpdateDetail> fetchUpdate(Link link) {
+            track(fetchActive, fetchMax, 5);
+            throw new CheckDeferredException("api.github.com", Instant.EPOCH);
+        }
+
+        @Override
+        public void deferCheck(Link link, Instant resumeAt) {
+            track(dbActive, dbMax, 20);
+            deferred.incrementAndGet();
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда пачка больше лимитов")
+    class WhenBatchExceedsLimits {
+
+        @Test
+        @DisplayName("не превышает лимиты запросов и соединений и обрабатывает все ссылки")
+        void shouldRespectLimits() {
+            // Arrange
+            ConcurrencyTrackingHandler handler = new ConcurrencyTrackingHandler();
+            ScrapperConfig.Update config = ScrapperConfigFixture.update(
+                    "processor-type=VIRTUAL",
+                    "max-in-flight-requests=" + MAX_IN_FLIGHT,
+                    "max-db-connections=" + MAX_DB);
+            VirtualLinkUpdateProcessor processor = new VirtualLinkUpdateProcessor(handler, config);
+            List<Link> links =
+                    LongStream.rangeClosed(1, 200).<Link>mapToObj(TestLink::new).toList();
+
+            // Act
+            processor.process(links);
+
+            // Assert
+            assertThat(handler.fetchMax.get())
+                    .isLessThanOrEqualTo(MAX_IN_FLIGHT)
+                    .isGreaterThan(1);
+            assertThat(handler.dbMax.get()).isLessThanOrEqualTo(MAX_DB);
+            // 100 нечётных ссылок с обновлением, одна из них падает на записи
+            assertThat(handler.dispatched.get()).isEqualTo(99);
+        }
+    }
+
+    @Nested
+    @DisplayName("Когда проверки отложены")
+    class WhenChecksDeferred {
+
+        @Test
+        @DisplayName("возвращает ссылки в очередь, не превышая лимит соединений с базой")
+        void shouldDeferUnderDbLimit() {
+            // Arrange
+            DeferringHandler handler = new DeferringHandler();
+            VirtualLinkUpdateProcessor processor = new VirtualLinkUpdateProcessor(
+                    handler,
+                    ScrapperConfigFixture.update(
+                            "max-in-flight-requests=" + MAX_IN_FLIGHT, "max-db-connections=" + MAX_DB));
+            List<Link> links =
+                    LongStream.rangeClosed(1, 50).<Link>mapToObj(TestLink::new).toList();
+
+            // Act
+            processor.process(links);
+
+            // Assert
+            assertThat(handler.deferred.get()).isEqualTo(50);
+            assertThat(handler.dbMax.get()).isLessThanOrEqualTo(MAX_DB);
+        }
+    }
+}
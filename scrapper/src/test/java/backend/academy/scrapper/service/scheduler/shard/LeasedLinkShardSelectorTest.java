@@ -0,0 +1,150 @@
+package backend.academy.scrapper.service.scheduler.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
+import backend.academy.scrapper.repository.jdbc.LinkShardLeaseJdbcRepository;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeasedLinkShardSelector — аренда шардов ссылок")
+class LeasedLinkShardSelectorTest {
+
+    private static final String NODE = "node-a";
+    private static final LinkClaimCriteria BASE = new LinkClaimCriteria(60, 3600, 10);
+
+    @Mock
+    LinkShardLeaseJdbcRepository repository;
+
+    LeasedLinkShardSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        selector = new LeasedLinkShardSelector(repository, new ScrapperConfig.Sharding(true, 8, 5000, 15000), NODE);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().toList();
+    }
+
+    @Nested
+    @DisplayName("До первого heartbeat")
+    class BeforeRebalance {
+
+        @Test
+        @DisplayName("шардов нет — выборка не выполняется")
+        void noShards() {
+            // Act & Assert
+            assertThat(selector.restrict(BASE)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebalance()")
+    class Rebalance {
+
+        @Test
+        @DisplayName("единственный узел забирает все шарды")
+        void singleNodeTakesAll() {
+            // Arrange
+            when(repository.findLiveNodes(anyLong())).thenReturn(List.of(NODE));
+            when(repository.renew(NODE, 15000)).thenReturn(List.of());
+            when(repository.claimFree(NODE, 8, 8, 15000)).thenReturn(range(0, 8));
+
+            // Act
+            selector.rebalance();
+
+            // Assert
+            verify(repository).heartbeat(NODE);
+            verify(repository).ensureShards(8);
+            assertThat(selector.restrict(BASE)).hasValueSatisfying(criteria -> {
+                assertThat(criteria.shardCount()).isEqualTo(8);
+                assertThat(criteria.shards()).containsExactlyElementsOf(range(0, 8));
+                assertThat(criteria.limit()).isEqualTo(BASE.limit());
+            });
+        }
+
+        @Test
+        @DisplayName("при подключении новых узлов отдаёт шарды сверх справедливой доли")
+        void releasesExcess() {
+            // Arrange: 3 узла → доля ceil(8 / 3) = 3
+            when(repository.findLiveNodes(anyLong())).thenReturn(List.of(NODE, "node-b", "node-c"));
+            when(repository.renew(NODE, 15000)).thenReturn(range(0, 8));
+
+            // Act
+            selector.rebalance();
+
+            // Assert
+            verify(repository).release(NODE, range(3, 8));
+            verify(repository, never()).claimFree(anyString(), anyInt(), anyInt(), anyLong());
+            assertThat(selector.ownedShards()).containsExactlyElementsOf(range(0, 3));
+        }
+
+        @Test
+        @DisplayName("добирает шарды до доли, когда узлов стало меньше")
+        void claimsMissing() {
+            // Arrange: 2 узла → доля 4, уже есть 2
+            when(repository.findLiveNodes(anyLong())).thenReturn(List.of(NODE, "node-b"));
+            when(repository.renew(NODE, 15000)).thenReturn(List.of(5, 6));
+            when(repository.claimFree(eq(NODE), eq(2), eq(8), eq(15000L))).thenReturn(List.of(1, 0));
+
+            // Act
+            selector.rebalance();
+
+            // Assert
+            assertThat(selector.ownedShards()).containsExactly(0, 1, 5, 6);
+        }
+
+        @Test
+        @DisplayName("ошибка базы не падает и не сбрасывает ещё действующую аренду")
+        void keepsLeaseOnFailure() {
+            // Arrange
+            when(repository.findLiveNodes(anyLong())).thenReturn(List.of(NODE));
+            when(repository.renew(NODE, 15000)).thenReturn(range(0, 8));
+            selector.rebalance();
+            doThrow(new DataAccessResourceFailureException("db down"))
+                    .when(repository)
+                    .heartbeat(NODE);
+
+            // Act
+            selector.rebalance();
+
+            // Assert
+            assertThat(selector.ownedShards()).containsExactlyElementsOf(range(0, 8));
+        }
+    }
+
+    @Nested
+    @DisplayName("shutdown()")
+    class Shutdown {
+
+        @Test
+        @DisplayName("освобождает шарды и удаляет узел из реестра")
+        void releasesOnShutdown() {
+            // Act
+            selector.shutdown();
+
+            // Assert
+            verify(repository).removeNode(NODE);
+            assertThat(selector.ownedShards()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package backend.academy.scrapper.service.scheduler.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.academy.scrapper.config.LinkBaseMapperConfig;
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
+import backend.academy.scrapper.repository.jdbc.LinkShardLeaseJdbcRepository;
+import backend.academy.scrapper.repository.jdbc.link.LinkJdbcRepository;
+import backend.academy.scrapper.repository.jdbc.mapper.LinkRowMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Несколько экземпляров {@link LeasedLinkShardSelector} делят одну таблицу {@code link}. Каждый экземпляр работает в
+ * своём потоке с autocommit-транзакциями, как реплики scrapper. Тест проверяет корректность распределения; рост
+ * пропускной способности с числом реплик замеряет {@link LinkShardScalingBenchmark}.
+ */
+@Testcontainers
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({LinkShardLeaseJdbcRepository.class, LinkJdbcRepository.class, LinkRowMapper.class})
+@Sql(
+        scripts = {
+            "classpath:db/changelog/changeset/002-create-link-table.sql",
+            "classpath:db/changelog/changeset/009-add-link-next-check-columns.sql",
+            "classpath:db/changelog/changeset/014-add-link-priority.sql",
+            "classpath:db/changelog/changeset/006-create-github_link-table.sql",
+            "classpath:db/changelog/changeset/007-create-stackoverflow_link-table.sql",
+            "classpath:db/changelog/changeset/013-create-link-shard-lease-tables.sql"
+        },
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@SpringJUnitConfig(classes = LinkShardLeaseTestIT.TestConfig.class)
+@TestPropertySource(properties = "spring.liquibase.enabled=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("LeasedLinkShardSelector — несколько реплик на одной базе")
+class LinkShardLeaseTestIT {
+
+    private static final int SHARDS = 64;
+    private static final int LINKS = 4000;
+    private static final int BATCH = 50;
+    private static final LinkClaimCriteria CRITERIA = new LinkClaimCriteria(60, 3600, BATCH);
+
+    @TestConfiguration
+    @Import(LinkBaseMapperConfig.class)
+    @ComponentScan(basePackages = "backend.academy.scrapper.repository.jdbc.mapper.helper")
+    static class TestConfig {}
+
+    @SuppressWarnings("resource")
+    @SuppressFBWarnings(
+            value = "RV_RESOURCE_LEAK",
+            justification = "PostgreSQLContainer lifecycle managed by Testcontainers JUnit extension")
+    @ServiceConnection
+    @Container
+    static final PostgreSQLContainer<?> PG = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @Autowired
+    JdbcClient jdbc;
+
+    @Autowired
+    LinkShardLeaseJdbcRepository leaseRepository;
+
+    @Autowired
+    LinkJdbcRepository linkRepository;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbc.sql("DELETE FROM link_shard_lease").update();
+        jdbc.sql("DELETE FROM scrapper_node").update();
+        jdbc.sql("DELETE FROM link").update();
+    }
+
+    private List<LeasedLinkShardSelector> nodes(int count, long leaseMs) {
+        ScrapperConfig.Sharding cfg = new ScrapperConfig.Sharding(true, SHARDS, 100, leaseMs);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new LeasedLinkShardSelector(leaseRepository, cfg, "node-" + i))
+                .toList();
+    }
+
+    /** Несколько раундов heartbeat: за первый узлы узнают друг о друге, за следующие — отдают и добирают шарды. */
+    private static void rebalance(List<LeasedLinkShardSelector> nodes) {
+        for (int round = 0; round < 3; round++) {
+            nodes.forEach(LeasedLinkShardSelector::rebalance);
+        }
+    }
+
+    private static void assertDisjointCover(List<LeasedLinkShardSelector> nodes, int maxPerNode) {
+        Set<Integer> union = new HashSet<>();
+        for (LeasedLinkShardSelector node : nodes) {
+            List<Integer> owned = node.ownedShards();
+            assertThat(owned).hasSizeLessThanOrEqualTo(maxPerNode);
+            owned.forEach(shard -> assertThat(union.add(shard))
+                    .as("shard %d owned twice", shard)
+                    .isTrue());
+        }
+        assertThat(union).hasSize(SHARDS);
+    }
+
+    private void insertDueLinks() {
+        jdbc.sql(
+                        """
+                    INSERT INTO link (original_url, last_modified, last_checked, version, type)
+                    SELECT 'https://github.com/o/r' || g, CURRENT_TIMESTAMP - INTERVAL '1 day',
+                           CURRENT_TIMESTAMP - INTERVAL '1 hour', 0, 'GITHUB'
+                    FROM generate_series(1, :n) g
+                """)
+                .param("n", LINKS)
+                .update();
+    }
+
+    /** Каждый узел в своём потоке выбирает пакеты из своих шардов, пока они не опустеют. */
+    private void drain(List<LeasedLinkShardSelector> nodes, Map<Long, Integer> claims) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(nodes.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (LeasedLinkShardSelector node : nodes) {
+                futures.add(pool.submit(() -> {
+                    Optional<LinkClaimCriteria> criteria = node.restrict(CRITERIA);
+                    if (criteria.isEmpty()) {
+                        return;
+                    }
+                    List<Link> batch;
+                    do {
+                        batch = linkRepository.fetchLinksToUpdate(criteria.get());
+                        batch.forEach(link -> claims.merge(link.id(), 1, Integer::sum));
+                    } while (!batch.isEmpty());
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("узлы делят шарды без пересечений, перераспределяют их при подключении и уходе узла")
+    void rebalancesOnJoinAndLeave() throws InterruptedException {
+        // Arrange
+        List<LeasedLinkShardSelector> nodes = new ArrayList<>(nodes(3, 1000));
+
+        // Act & Assert: три узла → доля ceil(64 / 3) = 22
+        rebalance(nodes);
+        assertDisjointCover(nodes, 22);
+
+        // Act & Assert: четвёртый узел получает свою долю, остальные отдают лишнее
+        nodes.add(nodes(4, 1000).get(3));
+        rebalance(nodes);
+        assertDisjointCover(nodes, 16);
+        assertThat(nodes.get(3).ownedShards()).hasSize(16);
+
+        // Act & Assert: узел перестал присылать heartbeat — после истечения аренды его шарды разбирают остальные
+        nodes.removeFirst();
+        Thread.sleep(1500);
+        rebalance(nodes);
+        assertDisjointCover(nodes, 22);
+    }
+
+    @Test
+    @DisplayName("каждая ссылка выбирается ровно одним узлом — и при одном узле, и при четырёх")
+    void claimsEachLinkOnceRegardlessOfReplicaCount() throws Exception {
+        // Arrange: один узел
+        List<LeasedLinkShardSelector> single = nodes(1, 30000);
+        rebalance(single);
+        insertDueLinks();
+        Map<Long, Integer> singleClaims = new ConcurrentHashMap<>();
+
+        // Act
+        drain(single, singleClaims);
+
+        // Arrange: четыре узла на той же таблице
+        single.forEach(LeasedLinkShardSelector::shutdown);
+        cleanUp();
+        List<LeasedLinkShardSelector> four = nodes(4, 30000);
+        rebalance(four);
+        insertDueLinks();
+        Map<Long, Integer> fourClaims = new ConcurrentHashMap<>();
+
+        // Act
+        drain(four, fourClaims);
+
+        // Assert
+        assertThat(singleClaims).hasSize(LINKS).allSatisfy((id, times) -> assertThat(times)
+                .isEqualTo(1));
+        assertThat(fourClaims).hasSize(LINKS).allSatisfy((id, times) -> assertThat(times)
+                .isEqualTo(1));
+        assertDisjointCover(four, 16);
+    }
+}
@@ -0,0 +1,154 @@
+package backend.academy.scrapper.service.scheduler.shard;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
+import backend.academy.scrapper.model.helper.LinkClaimCriteria;
+import backend.academy.scrapper.repository.jdbc.LinkShardLeaseJdbcRepository;
+import backend.academy.scrapper.repository.jdbc.link.LinkJdbcRepository;
+import backend.academy.scrapper.repository.jdbc.mapper.LinkRowMapper;
+import backend.academy.scrapper.repository.jdbc.mapper.helper.impl.GitHubLinkBaseMapper;
+import backend.academy.scrapper.repository.jdbc.mapper.helper.impl.StackOverflowLinkBaseMapper;
+import backend.academy.scrapper.support.BenchmarkPostgres;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Ручной замер того, как пропускная способность выборки ссылок растёт с числом реплик. Для каждого числа узлов из
+ * {@code 1, 2, 4, ..., maxNodes} таблица {@code link} заново заполняется {@code links} просроченными ссылками,
+ * {@link LeasedLinkShardSelector}'ы делят шарды, и каждый узел в своём потоке выбирает пакеты из своих шардов, пока они
+ * не опустеют. Печатается число выбранных ссылок в секунду и ускорение относительно одного узла. Ничего не проверяет и
+ * не запускается surefire/failsafe; нужен Docker. Запуск — {@code main} из IDE или
+ *
+ * <pre>
+ * mvn -pl scrapper test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp scrapper/target/test-classes:scrapper/target/classes:$(cat scrapper/target/cp.txt) \
+ *     backend.academy.scrapper.service.scheduler.shard.LinkShardScalingBenchmark [maxNodes] [links] [workMsPerBatch]
+ * </pre>
+ *
+ * {@code workMsPerBatch} имитирует проверку пакета после выборки (запросы к внешним API): при нуле замеряется только
+ * выборка, которая упирается в один сервер Postgres; при ненулевом значении видно, как реплики делят работу.
+ */
+public final class LinkShardScalingBenchmark {
+
+    private static final int SHARDS = 64;
+    private static final int BATCH = 50;
+    private static final LinkClaimCriteria CRITERIA = new LinkClaimCriteria(60, 3600, BATCH);
+    private static final int REBALANCE_ROUNDS = 3;
+
+    private LinkShardScalingBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int maxNodes = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int links = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        long workMs = args.length > 2 ? Long.parseLong(args[2]) : 0;
+
+        try (BenchmarkPostgres db = BenchmarkPostgres.start(
+                maxNodes + 1,
+                "002-create-link-table.sql",
+                "009-add-link-next-check-columns.sql",
+                "014-add-link-priority.sql",
+                "006-create-github_link-table.sql",
+                "007-create-stackoverflow_link-table.sql",
+                "013-create-link-shard-lease-tables.sql")) {
+            JdbcClient jdbc = db.jdbcClient();
+            LinkShardLeaseJdbcRepository leaseRepository = new LinkShardLeaseJdbcRepository(jdbc);
+            LinkJdbcRepository linkRepository = new LinkJdbcRepository(
+                    jdbc,
+                    new LinkRowMapper(Map.of(
+                            LinkType.GITHUB, new GitHubLinkBaseMapper(),
+                            LinkType.STACKOVERFLOW, new StackOverflowLinkBaseMapper())));
+
+            System.out.printf(
+                    Locale.ROOT,
+                    "link claim throughput, %d links, batch %d, %d ms work per batch%n",
+                    links,
+                    BATCH,
+                    workMs);
+            double baseline = 0;
+            for (int nodes = 1; nodes <= maxNodes; nodes *= 2) {
+                reset(jdbc, links);
+                double rate = run(leaseRepository, linkRepository, nodes, links, workMs);
+                baseline = nodes == 1 ? rate : baseline;
+                System.out.printf(Locale.ROOT, "  %2d nodes: %,10.0f links/s (x%.2f)%n", nodes, rate, rate / baseline);
+            }
+        }
+    }
+
+    private static void reset(JdbcClient jdbc, int links) {
+        jdbc.sql("DELETE FROM link_shard_lease").update();
+        jdbc.sql("DELETE FROM scrapper_node").update();
+        jdbc.sql("DELETE FROM link").update();
+        jdbc.sql(
+                        """
+                    INSERT INTO link (original_url, last_modified, last_checked, version, type)
+                    SELECT 'https://github.com/o/r' || g, CURRENT_TIMESTAMP - INTERVAL '1 day',
+                           CURRENT_TIMESTAMP - INTERVAL '1 hour', 0, 'GITHUB'
+                    FROM generate_series(1, :n) g
+                """)
+                .param("n", links)
+                .update();
+        jdbc.sql("VACUUM ANALYZE link").update();
+    }
+
+    private static double run(
+            LinkShardLeaseJdbcRepository leaseRepository,
+            LinkJdbcRepository linkRepository,
+            int nodeCount,
+            int links,
+            long workMs)
+            throws Exception {
+        ScrapperConfig.Sharding cfg = new ScrapperConfig.Sharding(true, SHARDS, 100, 60_000);
+        List<LeasedLinkShardSelector> nodes = IntStream.range(0, nodeCount)
+                .mapToObj(i -> new LeasedLinkShardSelector(leaseRepository, cfg, "node-" + i))
+                .toList();
+        for (int round = 0; round < REBALANCE_ROUNDS; round++) {
+            nodes.forEach(LeasedLinkShardSelector::rebalance);
+        }
+
+        AtomicLong claimed = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(nodeCount);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (LeasedLinkShardSelector node : nodes) {
+                futures.add(pool.submit(() -> {
+                    Optional<LinkClaimCriteria> criteria = node.restrict(CRITERIA);
+                    if (criteria.isEmpty()) {
+                        return null;
+                    }
+                    List<Link> batch;
+                    do {
+                        batch = linkRepository.fetchLinksToUpdate(criteria.get());
+                        claimed.addAndGet(batch.size());
+                        if (workMs > 0 && !batch.isEmpty()) {
+                            Thread.sleep(workMs);
+                        }
+                    } while (!batch.isEmpty());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.MINUTES);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (claimed.get() != links) {
+                System.out.printf(Locale.ROOT, "  warning: %d of %d links claimed%n", claimed.get(), links);
+            }
+            return claimed.get() / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        } finally {
+            pool.shutdownNow();
+            nodes.forEach(LeasedLinkShardSelector::shutdown);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package backend.academy.scrapper.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Arrays;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Postgres-контейнер для ручных замеров ({@code *Benchmark}). Поднимает {@code postgres:15-alpine}, пул соединений и
+ * применяет указанные changeset'ы из {@code db/changelog/changeset} в заданном порядке.
+ */
+public final class BenchmarkPostgres implements AutoCloseable {
+
+    private static final String CHANGESETS = "db/changelog/changeset/";
+
+    private final PostgreSQLContainer<?> container;
+    private final HikariDataSource dataSource;
+
+    private BenchmarkPostgres(PostgreSQLContainer<?> container, int poolSize) {
+        this.container = container;
+        this.dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(container.getJdbcUrl());
+        dataSource.setUsername(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        dataSource.setMaximumPoolSize(poolSize);
+    }
+
+    /**
+     * Запускает контейнер и применяет changeset'ы.
+     *
+     * @param poolSize размер пула соединений
+     * @param changesets имена файлов changeset'ов, например {@code 008-create-outbox-table.sql}
+     * @return запущенная база
+     */
+    @SuppressWarnings("resource")
+    public static BenchmarkPostgres start(int poolSize, String... changesets) {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withDatabaseName("benchdb")
+                .withUsername("postgres")
+                .withPassword("postgres");
+        container.start();
+        BenchmarkPostgres db = new BenchmarkPostgres(container, poolSize);
+        new ResourceDatabasePopulator(Arrays.stream(changesets)
+                        .map(name -> new ClassPathResource(CHANGESETS + name))
+                        .toArray(ClassPathResource[]::new))
+                .execute(db.dataSource);
+        return db;
+    }
+
+    public JdbcClient jdbcClient() {
+        return JdbcClient.create(dataSource);
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+        container.stop();
+    }
+}
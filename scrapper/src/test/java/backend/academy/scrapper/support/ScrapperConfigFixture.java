@@ -0,0 +1,80 @@
+package backend.academy.scrapper.support;
+
+import backend.academy.scrapper.config.ScrapperConfig;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * Конфигурация {@link ScrapperConfig} для тестов, привязанная тем же {@link Binder}, что и в приложении.
+ *
+ * <p>Обязательные свойства заданы минимальными значениями, остальные берутся из {@code @DefaultValue}. Тест
+ * переопределяет только то, что проверяет, поэтому новые поля конфигурации не требуют правки тестов.
+ */
+public final class ScrapperConfigFixture {
+
+    private static final Map<String, String> REQUIRED = Map.ofEntries(
+            Map.entry("github-tokens[0]", "token"),
+            Map.entry("stack-overflow.key", "key"),
+            Map.entry("stack-overflow.access-token", "token"),
+            Map.entry("bot-api-url", "http://localhost"),
+            Map.entry("timeout.connect", "1000"),
+            Map.entry("timeout.read", "1000"),
+            Map.entry("update.delay-ms", "1000"),
+            Map.entry("update.processor-type", "SEQUENTIAL"),
+            Map.entry("update.dispatcher-type", "KAFKA"),
+            Map.entry("update.thread-count", "1"),
+            Map.entry("update.interval-seconds", "30"),
+            Map.entry("update.batch-limit", "200"),
+            Map.entry("kafka.poll-interval-ms", "1000"),
+            Map.entry("kafka.name", "topic"),
+            Map.entry("kafka.partitions", "1"),
+            Map.entry("kafka.replicas", "1"));
+
+    private ScrapperConfigFixture() {}
+
+    /**
+     * Собирает конфигурацию с переопределёнными свойствами.
+     *
+     * @param overrides свойства вида {@code "update.batch-limit=10"} относительно префикса {@code app}
+     * @return привязанная конфигурация
+     */
+    public static ScrapperConfig config(String... overrides) {
+        Map<String, String> properties = new HashMap<>();
+        REQUIRED.forEach((key, value) -> properties.put("app." + key, value));
+        for (String override : overrides) {
+            int separator = override.indexOf('=');
+            properties.put("app." + override.substring(0, separator), override.substring(separator + 1));
+        }
+        return new Binder(new MapConfigurationPropertySource(properties))
+                .bind("app", Bindable.of(ScrapperConfig.class))
+                .get();
+    }
+
+    /**
+     * Собирает секцию {@code app.update}.
+     *
+     * @param overrides свойства вида {@code "max-in-flight-requests=8"} относительно {@code app.update}
+     * @return привязанная секция
+     */
+    public static ScrapperConfig.Update update(String... overrides) {
+        return config(prefixed("update.", overrides)).update();
+    }
+
+    /**
+     * Собирает секцию {@code app.kafka}.
+     *
+     * @param overrides свойства вида {@code "retention-days=3"} относительно {@code app.kafka}
+     * @return привязанная секция
+     */
+    public static ScrapperConfig.Kafka kafka(String... overrides) {
+        return config(prefixed("kafka.", overrides)).kafka();
+    }
+
+    private static String[] prefixed(String prefix, String... overrides) {
+        return Arrays.stream(overrides).map(prefix::concat).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,7 @@
+package backend.academy.scrapper.support;
+
+import backend.academy.scrapper.model.app.update.UpdateDetail;
+import java.time.LocalDateTime;
+
+/** Детали обновления с заданным временем создания для тестов обработки пачек. */
+public record SimpleDetail(LocalDateTime getCreationTime, String getDescription) implements UpdateDetail {}
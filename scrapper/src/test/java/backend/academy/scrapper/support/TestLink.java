@@ -0,0 +1,18 @@
+package backend.academy.scrapper.support;
+
+import backend.academy.scrapper.model.db.link.Link;
+import backend.academy.scrapper.model.db.link.LinkType;
+
+/** Ссылка GitHub с заданным идентификатором для тестов обработки пачек. */
+public class TestLink extends Link {
+
+    public TestLink(long id) {
+        super("url" + id);
+        id(id);
+    }
+
+    @Override
+    public LinkType getType() {
+        return LinkType.GITHUB;
+    }
+}